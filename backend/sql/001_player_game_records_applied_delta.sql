@@ -0,0 +1,6 @@
+-- 점수 반영 시 플레이어별 실제 점수 변화량과 연승/연패 보너스를 저장 (반영 취소·수정 시 그대로 되돌림)
+-- 이전에 반영된 게임은 값이 없으므로 (NULL) 뺄 값을 모른다: 이런 게임의 반영 취소와 수정은 거부하고,
+-- 삭제만 허용하며 이때 이미 반영된 점수는 그대로 남는다 (풀 다시 계산도 이런 게임이 있으면 거부)
+ALTER TABLE player_game_records
+    ADD COLUMN IF NOT EXISTS applied_score_delta integer,
+    ADD COLUMN IF NOT EXISTS applied_streak_bonus integer;
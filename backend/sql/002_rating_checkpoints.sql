@@ -0,0 +1,17 @@
+-- 풀 점수 리플레이 체크포인트: 처음 game_count개 게임(생성 시각, 게임 ID 순)을 반영한 직후의 플레이어 상태
+-- payload는 플레이어마다 (player_id bigint, 기준 점수 int, 기준 연승/연패 int, 점수 int, 연승/연패 int) big-endian
+CREATE TABLE IF NOT EXISTS rating_checkpoints (
+    checkpoint_id bigserial PRIMARY KEY,
+    pool_id bigint NOT NULL REFERENCES pools (pool_id) ON DELETE CASCADE,
+    game_count integer NOT NULL,
+    last_game_id bigint NOT NULL,
+    prefix_hash bigint NOT NULL,
+    rules_version integer NOT NULL,
+    payload bytea NOT NULL,
+    created_at timestamp DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_rating_checkpoints_pool ON rating_checkpoints (pool_id, rules_version, game_count DESC);
+
+-- 리플레이 순서(생성 시각, 게임 ID)로 풀의 반영된 게임을 읽는 조회용
+CREATE INDEX IF NOT EXISTS idx_game_records_pool_replay ON game_records (pool_id, created_at, game_id) WHERE is_applied;
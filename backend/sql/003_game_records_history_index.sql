@@ -0,0 +1,2 @@
+-- 전적 목록 키셋 페이지네이션: 풀별 (created_at, game_id) 내림차순
+CREATE INDEX IF NOT EXISTS idx_game_records_pool_history ON game_records (pool_id, created_at DESC, game_id DESC);
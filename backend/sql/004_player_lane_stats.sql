@@ -0,0 +1,18 @@
+-- 플레이어별·포지션별 누적 통계 (lane = 'ALL'은 전체 합계), 점수 반영/취소 때 증감
+CREATE TABLE IF NOT EXISTS player_lane_stats (
+    player_id bigint NOT NULL REFERENCES players (player_id) ON DELETE CASCADE,
+    lane varchar(8) NOT NULL,
+    games bigint NOT NULL DEFAULT 0,
+    wins bigint NOT NULL DEFAULT 0,
+    kills bigint NOT NULL DEFAULT 0,
+    deaths bigint NOT NULL DEFAULT 0,
+    assists bigint NOT NULL DEFAULT 0,
+    cs bigint NOT NULL DEFAULT 0,
+    cs_diff_sum bigint NOT NULL DEFAULT 0,
+    cs_diff_games bigint NOT NULL DEFAULT 0,
+    score_delta_sum bigint NOT NULL DEFAULT 0,
+    PRIMARY KEY (player_id, lane)
+);
+
+-- 통계 증감 시 맞라인 상대 전적을 찾는 조회용
+CREATE INDEX IF NOT EXISTS idx_player_game_records_game ON player_game_records (game_id, team_number, assigned_position, record_id);
@@ -0,0 +1,3 @@
+-- 플레이어 → 풀 역방향 조회 (플레이어 삭제 시 풀에서 제거, 플레이어가 속한 풀 조회)
+-- pool_id로 시작하는 기본키로는 player_id 조건을 인덱스로 찾을 수 없다
+CREATE INDEX IF NOT EXISTS idx_pool_players_player ON pool_players (player_id, pool_id);
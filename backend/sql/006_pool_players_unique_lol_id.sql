@@ -0,0 +1,40 @@
+-- 한 풀 안에서 lolId 중복을 DB 제약으로 막는다 (풀 행 잠금 없이 플레이어 추가)
+-- pool_players에 플레이어의 lol_id를 복사해 두고 (pool_id, lol_id) 유니크 인덱스를 건다
+-- 적용 전 기존 중복 확인:
+--   SELECT pp.pool_id, p.lol_id, COUNT(*) FROM pool_players pp JOIN players p ON p.player_id = pp.player_id
+--   GROUP BY pp.pool_id, p.lol_id HAVING COUNT(*) > 1;
+ALTER TABLE pool_players ADD COLUMN IF NOT EXISTS lol_id varchar(255);
+
+UPDATE pool_players pp SET lol_id = p.lol_id
+FROM players p
+WHERE p.player_id = pp.player_id AND pp.lol_id IS DISTINCT FROM p.lol_id;
+
+-- 풀에 플레이어를 넣을 때 lol_id 채우기 (JPA 컬렉션 저장과 네이티브 INSERT 모두)
+CREATE OR REPLACE FUNCTION pool_players_set_lol_id() RETURNS trigger AS $$
+BEGIN
+    SELECT p.lol_id INTO NEW.lol_id FROM players p WHERE p.player_id = NEW.player_id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS pool_players_set_lol_id ON pool_players;
+CREATE TRIGGER pool_players_set_lol_id
+    BEFORE INSERT OR UPDATE OF player_id ON pool_players
+    FOR EACH ROW EXECUTE FUNCTION pool_players_set_lol_id();
+
+-- 플레이어 lolId 수정을 풀 소속 행에 반영 (다른 플레이어와 겹치면 유니크 위반으로 수정이 실패한다)
+CREATE OR REPLACE FUNCTION players_sync_pool_lol_id() RETURNS trigger AS $$
+BEGIN
+    UPDATE pool_players SET lol_id = NEW.lol_id WHERE player_id = NEW.player_id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS players_sync_pool_lol_id ON players;
+CREATE TRIGGER players_sync_pool_lol_id
+    AFTER UPDATE OF lol_id ON players
+    FOR EACH ROW WHEN (OLD.lol_id IS DISTINCT FROM NEW.lol_id)
+    EXECUTE FUNCTION players_sync_pool_lol_id();
+
+-- 이름은 PoolService.DUPLICATE_LOL_ID_CONSTRAINT와 같아야 한다 (위반을 기존 오류 메시지로 변환)
+CREATE UNIQUE INDEX IF NOT EXISTS uq_pool_players_pool_lol_id ON pool_players (pool_id, lol_id);
@@ -0,0 +1,69 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.entity.GameRecord;
+import com.example.teamdraftlol.entity.Player;
+import com.example.teamdraftlol.entity.PlayerGameRecord;
+import com.example.teamdraftlol.service.SyntheticRosters.LaneDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 풀 전체 리플레이의 메모리 계산 비용 (DB 읽기/쓰기 제외): 30명 풀, 게임마다 무작위 10명
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RatingReplayBenchmark {
+
+    private static final int POOL_SIZE = 30;
+
+    @Param({"1000", "10000"})
+    public int games;
+
+    private List<Player> pool;
+    private RatingReplay.GameLog log;
+    private long[] prefixHashes;
+
+    @Setup
+    public void setUp() {
+        pool = SyntheticRosters.roster(POOL_SIZE, LaneDistribution.RANDOM, 11L);
+        log = new RatingReplay.GameLog();
+        prefixHashes = new long[games + 1];
+        prefixHashes[0] = RatingReplay.EMPTY_HASH;
+        List<Player> shuffled = new ArrayList<>(pool);
+        for (int g = 0; g < games; g++) {
+            Collections.shuffle(shuffled, new Random(g));
+            GameRecord game = SyntheticRosters.game(shuffled.subList(0, TeamCombinationEngine.ROSTER_SIZE), g + 1L);
+            log.addGame(game.getGameId(), game.isTeam1Won(), game.getTeam1Kills(), game.getTeam2Kills(),
+                    game.getTeam1Gold(), game.getTeam2Gold());
+            for (PlayerGameRecord record : game.getPlayerRecords()) {
+                log.addRecord(log.records + 1L, record.getPlayer().getPlayerId(), record.getTeamNumber(),
+                        LaneEvaluator.laneIndex(record.getAssignedPosition()), record.getKills(), record.getDeaths(),
+                        record.getAssists(), record.getCs(), RatingReplay.NULL, RatingReplay.NULL, RatingReplay.NULL);
+            }
+            prefixHashes[g + 1] = RatingReplay.mixGame(prefixHashes[g], game.getGameId(), game.isTeam1Won(),
+                    game.getTeam1Kills(), game.getTeam2Kills(), game.getTeam1Gold(), game.getTeam2Gold(),
+                    game.getPlayerRecords().size(), log.records);
+        }
+    }
+
+    // 기준 상태에서 전체 게임 재계산 (체크포인트 스냅샷 생성 포함)
+    @Benchmark
+    public List<RatingReplay.Checkpoint> replayAll() {
+        RatingReplay replay = new RatingReplay();
+        for (Player player : pool) {
+            replay.addPlayer(player.getPlayerId(), player.getScore(), player.getWinLossStreak());
+        }
+        return replay.run(log, 0, prefixHashes);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.entity.GameRecord;
+import com.example.teamdraftlol.entity.Player;
+import com.example.teamdraftlol.entity.PlayerGameRecord;
+import com.example.teamdraftlol.service.SyntheticRosters.LaneDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 전적 점수 계산 핫패스: 점수 커널(10명), 게임 입력 변환 + 시뮬레이션 점수(10명), 점수 반영(10명)
+// 서비스 대신 정적 계산 함수(ScoreKernel, GameRecordService.applyScores)를 직접 호출하므로 DB 없이 순수 계산 비용만 측정한다
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScoringBenchmark {
+
+    @Param({"BALANCED", "RANDOM"})
+    public LaneDistribution distribution;
+
+    private GameRecord game;
+    private List<PlayerGameRecord> records;
+    private ScoreKernel.Game kernelGame;
+    private Map<Long, Player> playerMap;
+    private int[] initialScores;
+    private int[] initialStreaks;
+
+    @Setup
+    public void setUp() {
+        List<Player> roster = SyntheticRosters.roster(TeamCombinationEngine.ROSTER_SIZE, distribution, 7L);
+        game = SyntheticRosters.game(roster, 7L);
+        records = game.getPlayerRecords();
+        kernelGame = ScoreKernel.Game.of(game, records);
+        playerMap = new HashMap<>();
+        initialScores = new int[roster.size()];
+        initialStreaks = new int[roster.size()];
+        for (int i = 0; i < roster.size(); i++) {
+            Player player = roster.get(i);
+            playerMap.put(player.getPlayerId(), player);
+            initialScores[i] = player.getScore();
+            initialStreaks[i] = player.getWinLossStreak();
+        }
+    }
+
+    // 엔티티 변환 없이 커널만
+    @Benchmark
+    public void scoreKernel(Blackhole blackhole) {
+        for (int slot = 0; slot < kernelGame.size; slot++) {
+            blackhole.consume(ScoreKernel.scoreDelta(kernelGame, slot, ScoreFormula.SIMULATE));
+        }
+    }
+
+    @Benchmark
+    public void simulateGame(Blackhole blackhole) {
+        ScoreKernel.Game input = ScoreKernel.Game.of(game, records);
+        for (int slot = 0; slot < input.size; slot++) {
+            blackhole.consume(ScoreKernel.scoreDelta(input, slot, ScoreFormula.SIMULATE));
+        }
+    }
+
+    // 반영할 때마다 점수/연승이 바뀌므로 매번 초기값으로 되돌린 뒤 측정 (10번의 setter 비용 포함)
+    @Benchmark
+    public void applyScores(Blackhole blackhole) {
+        for (int i = 0; i < records.size(); i++) {
+            Player player = records.get(i).getPlayer();
+            player.setScore(initialScores[i]);
+            player.setWinLossStreak(initialStreaks[i]);
+        }
+        GameRecordService.applyScores(game, records, playerMap);
+        blackhole.consume(records.get(0).getPlayer().getScore());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.entity.GameRecord;
+import com.example.teamdraftlol.entity.Player;
+import com.example.teamdraftlol.entity.PlayerGameRecord;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 벤치마크용 합성 로스터/전적, 같은 시드면 항상 같은 데이터
+public final class SyntheticRosters {
+
+    private static final String[] LANES = {"TOP", "JGL", "MID", "ADC", "SUP"};
+
+    // 주 포지션 분포
+    public enum LaneDistribution {
+        BALANCED,   // 포지션별 2명씩
+        RANDOM,     // 무작위
+        CROWDED,    // 절반 이상이 MID/ADC 주 포지션
+        SINGLE      // 전원이 같은 주 포지션
+    }
+
+    private SyntheticRosters() {
+    }
+
+    static List<Player> roster(int size, LaneDistribution distribution, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Player> players = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int main = switch (distribution) {
+                case BALANCED -> i % LANES.length;
+                case RANDOM -> random.nextInt(LANES.length);
+                case CROWDED -> random.nextInt(10) < 6 ? 2 + random.nextInt(2) : random.nextInt(LANES.length);
+                case SINGLE -> 2;
+            };
+            int sub = (main + 1 + random.nextInt(LANES.length - 1)) % LANES.length;
+            players.add(Player.builder()
+                    .playerId(1000L + i * 7L)
+                    .name("player" + i)
+                    .lolId("player" + i + "#KR1")
+                    .mainLane(LANES[main])
+                    .subLane(LANES[sub])
+                    .score(100 + random.nextInt(900))
+                    .winLossStreak(random.nextInt(7) - 3)
+                    .build());
+        }
+        return players;
+    }
+
+    // 10명 로스터로 만든 한 경기 전적 (앞 5명이 1팀, 포지션은 순서대로)
+    static GameRecord game(List<Player> roster, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        GameRecord game = GameRecord.builder()
+                .gameId(seed)
+                .userId("benchmark")
+                .team1Won(random.nextBoolean())
+                .team1Kills(10 + random.nextInt(30))
+                .team2Kills(10 + random.nextInt(30))
+                .team1Gold(40000 + random.nextInt(30000))
+                .team2Gold(40000 + random.nextInt(30000))
+                .build();
+        List<PlayerGameRecord> records = new ArrayList<>(roster.size());
+        for (int i = 0; i < roster.size(); i++) {
+            records.add(PlayerGameRecord.builder()
+                    .gameRecord(game)
+                    .player(roster.get(i))
+                    .teamNumber(i < 5 ? 1 : 2)
+                    .assignedPosition(LANES[i % LANES.length])
+                    .kills(random.nextInt(15))
+                    .deaths(random.nextInt(12))
+                    .assists(random.nextInt(20))
+                    .cs(random.nextInt(300))
+                    .build());
+        }
+        game.setPlayerRecords(records);
+        return game;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.dto.response.TeamGenerationResponse;
+import com.example.teamdraftlol.entity.Player;
+import com.example.teamdraftlol.service.LaneEvaluator.LaneAssignment;
+import com.example.teamdraftlol.service.SyntheticRosters.LaneDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 팀 생성 핫패스: 조합 순위 계산, 팀 하나의 포지션 배정, 응답 생성
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TeamGenerationBenchmark {
+
+    @Param({"BALANCED", "RANDOM", "CROWDED", "SINGLE"})
+    public LaneDistribution distribution;
+
+    @Param({"GREEDY", "OPTIMAL"})
+    public LaneAssignmentMode mode;
+
+    private List<Player> roster;
+    private TeamDraftOptions options;
+    private RankedCombinations ranked;
+    private LaneEvaluator lanes;
+    private final int[] members = new int[LaneEvaluator.TEAM_SIZE];
+    private final int[] totals = new int[LaneEvaluator.PERMUTATION_COUNT];
+    private final LaneAssignment work = new LaneAssignment();
+
+    @Setup
+    public void setUp() {
+        roster = SyntheticRosters.roster(TeamCombinationEngine.ROSTER_SIZE, distribution, 42L);
+        options = new TeamDraftOptions(mode, TeamDraftOptions.DEFAULT_LIMIT);
+        ranked = TeamGenerationService.calculateAllCombinations(roster, options);
+        lanes = new LaneEvaluator(roster, mode);
+        LaneEvaluator.membersOf(ranked.maskAt(0), members);
+    }
+
+    @Benchmark
+    public RankedCombinations calculateAllCombinations() {
+        return TeamGenerationService.calculateAllCombinations(roster, options);
+    }
+
+    // 1위 조합의 1팀에 대해 합계 후보 계산 + 포지션 배정 (응답 생성 시 팀마다 한 번씩 수행)
+    @Benchmark
+    public void assignPositions(Blackhole blackhole) {
+        int count = lanes.collectTotals(members, work, totals);
+        lanes.assignPositions(members, totals[count - 1], work);
+        blackhole.consume(work.players);
+    }
+
+    @Benchmark
+    public TeamGenerationResponse toResponse() {
+        return ranked.toResponse(0);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.teamdraftlol.config;
+
+import com.example.teamdraftlol.service.PoolAccessControl;
+import com.example.teamdraftlol.service.PoolSnapshotCache;
+import com.example.teamdraftlol.service.TeamCombinationCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 캐시 통계를 Micrometer 게이지로 노출 (/actuator/metrics/team.cache?tag=cache:poolSnapshot, 인증 필요)
+// 캐시별 stats()의 숫자 항목마다 게이지 하나 (태그 cache, stat), 값은 조회할 때마다 stats()에서 다시 읽는다
+@Component
+@RequiredArgsConstructor
+public class CacheMetrics implements MeterBinder {
+
+    private final TeamCombinationCache teamCombinationCache;
+    private final PoolAccessControl poolAccessControl;
+    private final PoolSnapshotCache poolSnapshotCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "teamCombination", teamCombinationCache::stats);
+        bind(registry, "poolAccess", poolAccessControl::stats);
+        bind(registry, "poolSnapshot", poolSnapshotCache::stats);
+    }
+
+    private static void bind(MeterRegistry registry, String cache, Supplier<Map<String, Object>> stats) {
+        stats.get().forEach((stat, value) -> {
+            if (value instanceof Number) {
+                Gauge.builder("team.cache", () -> (Number) stats.get().get(stat))
+                        .tag("cache", cache)
+                        .tag("stat", stat)
+                        .register(registry);
+            }
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.teamdraftlol.config;
+
+import com.example.teamdraftlol.util.JwtUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+// Authorization 헤더의 JWT가 유효하면 그 사용자로 인증 (SecurityConfig에서 인증을 요구하는 경로용)
+// API 컨트롤러는 지금처럼 토큰을 직접 확인하므로, 토큰이 없거나 잘못돼도 여기서는 막지 않는다
+// 빈으로 등록하면 서블릿 필터로도 한 번 더 등록되므로 SecurityConfig에서 직접 만든다
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader("Authorization");
+        if (authorization != null && authorization.startsWith(BEARER)) {
+            try {
+                String userId = JwtUtil.getUserIdFromToken(authorization.substring(BEARER.length()));
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+            } catch (RuntimeException e) {
+                // 잘못된 토큰은 인증하지 않은 요청으로 처리
+            }
+        }
+        chain.doFilter(request, response);
+    }
+}
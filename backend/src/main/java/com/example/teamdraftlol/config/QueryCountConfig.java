@@ -0,0 +1,25 @@
+package com.example.teamdraftlol.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class QueryCountConfig {
+
+    // 자동 설정된 DataSource를 감싸 JPA와 JdbcTemplate이 모두 세어지는 커넥션을 받게 한다
+    @Bean
+    public static BeanPostProcessor queryCountDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountDataSource)) {
+                    return new QueryCountDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.teamdraftlol.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+
+// 커넥션에서 만드는 SQL 문(Statement) 수를 요청(스레드)별로 센다
+// JPA(Hibernate)와 JdbcTemplate이 같은 DataSource를 쓰므로 두 경로의 쿼리가 모두 잡힌다 (배치는 문 하나로 센다)
+// QueryCountConfig가 DataSource 빈을 감싸며, 카운트는 QueryCountInterceptor가 요청마다 시작·정리한다
+public class QueryCountDataSource extends DelegatingDataSource {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+    private static final Set<String> STATEMENT_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    public QueryCountDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(super.getConnection(username, password));
+    }
+
+    private static Connection counting(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                QueryCountDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    if (STATEMENT_METHODS.contains(method.getName())) {
+                        int[] count = COUNT.get();
+                        if (count != null) {
+                            count[0]++;
+                        }
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    // 시작하지 않은 스레드(스케줄러 등)는 -1
+    public static int current() {
+        int[] count = COUNT.get();
+        return count != null ? count[0] : -1;
+    }
+
+    public static void clear() {
+        COUNT.remove();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.teamdraftlol.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// 요청마다 SQL 실행 수를 세어 X-Query-Count 응답 헤더로 내려준다
+// 헤더는 응답 본문을 쓰기 직전(핸들러 실행이 끝난 뒤)에 붙이므로 컨트롤러에서 실행한 쿼리가 모두 포함된다
+@RestControllerAdvice
+public class QueryCountInterceptor implements AsyncHandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-Query-Count";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCountDataSource.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryCountDataSource.clear();
+    }
+
+    // 스트리밍 응답처럼 비동기로 넘어가는 요청은 요청 스레드의 카운트를 바로 정리 (헤더 없음)
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCountDataSource.clear();
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        int count = QueryCountDataSource.current();
+        if (count >= 0) {
+            response.getHeaders().set(HEADER, Integer.toString(count));
+        }
+        return body;
+    }
+}
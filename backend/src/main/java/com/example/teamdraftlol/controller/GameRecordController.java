@@ -1,15 +1,29 @@
 package com.example.teamdraftlol.controller;
 
 import com.example.teamdraftlol.dto.request.GameRecordRequest;
+import com.example.teamdraftlol.dto.response.GameRecordImportResponse;
+import com.example.teamdraftlol.dto.response.GameRecordPageResponse;
 import com.example.teamdraftlol.dto.response.GameRecordResponse;
+import com.example.teamdraftlol.dto.response.RatingReplayResponse;
 import com.example.teamdraftlol.dto.response.SimulatedScoreResponse;  
+import com.example.teamdraftlol.service.GameRecordImportService;
 import com.example.teamdraftlol.service.GameRecordService;
+import com.example.teamdraftlol.service.RatingReplayService;
 import com.example.teamdraftlol.util.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import com.example.teamdraftlol.dto.response.GameRecordSummaryResponse;
 
@@ -19,6 +33,9 @@ import com.example.teamdraftlol.dto.response.GameRecordSummaryResponse;
 public class GameRecordController {
     
     private final GameRecordService gameRecordService;
+    private final RatingReplayService ratingReplayService;
+    private final GameRecordImportService gameRecordImportService;
+    private final ObjectMapper objectMapper;
     
     @PostMapping
     public ResponseEntity<?> createGameRecord(
@@ -48,6 +65,27 @@ public class GameRecordController {
         return ResponseEntity.ok(gameRecords);
     }
     
+    // 전적 목록 페이지 (최신순), nextCursor를 cursor로 넘기면 다음 페이지
+    @GetMapping("/page")
+    public ResponseEntity<?> getUserGameRecordPage(
+            @RequestHeader("Authorization") String authorization,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Long poolId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        String token = authorization.replace("Bearer ", "");
+        String userId = JwtUtil.getUserIdFromToken(token);
+        
+        try {
+            GameRecordPageResponse page = gameRecordService.getUserGameRecordPage(userId, cursor, size, poolId, from, to);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+    
     @GetMapping("/{gameId}")
     public ResponseEntity<?> getGameRecordById(
             @RequestHeader("Authorization") String authorization,
@@ -82,6 +120,23 @@ public class GameRecordController {
         }
     }
     
+    // 풀의 반영 안 된 게임을 생성 순서대로 한 번에 반영 (풀 소유자만)
+    @PostMapping("/pools/{poolId}/apply-pending")
+    public ResponseEntity<String> applyPendingGames(
+            @RequestHeader("Authorization") String authorization,
+            @PathVariable Long poolId
+    ) {
+        String token = authorization.replace("Bearer ", "");
+        String userId = JwtUtil.getUserIdFromToken(token);
+        
+        try {
+            int applied = gameRecordService.applyPendingGames(poolId, userId);
+            return ResponseEntity.ok(applied + "개 게임의 점수가 반영되었습니다.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+    
     @PostMapping("/{gameId}/cancel")
     public ResponseEntity<String> cancelGameResultFromScores(
             @RequestHeader("Authorization") String authorization,
@@ -131,6 +186,46 @@ public class GameRecordController {
         }
     }
 
+    // 전적 파일 일괄 가져오기 (풀 owner 또는 member), 요청 본문을 스트리밍으로 읽는다
+    // Content-Type이 text/csv면 CSV, 그 외(application/x-ndjson 등)는 NDJSON
+    @PostMapping("/pools/{poolId}/import")
+    public ResponseEntity<?> importGameRecords(
+            @RequestHeader("Authorization") String authorization,
+            @RequestHeader(value = "Content-Type", required = false) String contentType,
+            @PathVariable Long poolId,
+            InputStream body
+    ) {
+        String token = authorization.replace("Bearer ", "");
+        String userId = JwtUtil.getUserIdFromToken(token);
+        boolean csv = contentType != null && contentType.toLowerCase().startsWith("text/csv");
+        
+        try {
+            GameRecordImportResponse response = gameRecordImportService.importGames(poolId, userId, body, csv);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body("파일을 읽는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+    
+    // 풀의 반영된 게임을 현재 점수 계산식으로 다시 반영 (풀 소유자만)
+    @PostMapping("/pools/{poolId}/replay")
+    public ResponseEntity<?> replayPool(
+            @RequestHeader("Authorization") String authorization,
+            @PathVariable Long poolId
+    ) {
+        String token = authorization.replace("Bearer ", "");
+        String userId = JwtUtil.getUserIdFromToken(token);
+        
+        try {
+            RatingReplayResponse response = ratingReplayService.replayPool(poolId, userId);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @GetMapping("/simulate-scores")
     public ResponseEntity<List<SimulatedScoreResponse>> simulateScores(
             @RequestHeader("Authorization") String authorization
@@ -140,4 +235,27 @@ public class GameRecordController {
         List<SimulatedScoreResponse> simulated = gameRecordService.simulateScores(userId);
         return ResponseEntity.ok(simulated);
     }
+
+    // simulate-scores의 스트리밍 버전, 한 줄에 SimulatedScoreResponse 하나씩 NDJSON으로 계산 즉시 전송
+    @GetMapping("/simulate-scores/stream")
+    public ResponseEntity<StreamingResponseBody> streamSimulatedScores(
+            @RequestHeader("Authorization") String authorization
+    ) {
+        String token = authorization.replace("Bearer ", "");
+        String userId = JwtUtil.getUserIdFromToken(token);
+        StreamingResponseBody body = out -> gameRecordService.streamSimulatedScores(userId, score -> writeLine(out, score));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, SimulatedScoreResponse score) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(score));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 } 
\ No newline at end of file
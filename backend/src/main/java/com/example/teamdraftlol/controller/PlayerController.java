@@ -2,6 +2,7 @@ package com.example.teamdraftlol.controller;
 
 import com.example.teamdraftlol.dto.request.PlayerRequest;
 import com.example.teamdraftlol.dto.response.PlayerResponse;
+import com.example.teamdraftlol.dto.response.PlayerStatsResponse;
 import com.example.teamdraftlol.service.PlayerService;
 import com.example.teamdraftlol.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
@@ -46,4 +47,27 @@ public class PlayerController {
         playerService.deletePlayer(UUID.fromString(userId), playerId);
         return ResponseEntity.ok().build();
     }
+
+    @GetMapping("/{playerId}/stats")
+    public ResponseEntity<?> getStats(
+            @RequestHeader("Authorization") String authorization,
+            @PathVariable Long playerId) {
+        try {
+            String token = authorization.replace("Bearer ", "");
+            String userId = JwtUtil.getUserIdFromToken(token);
+            PlayerStatsResponse stats = playerService.getStats(UUID.fromString(userId), playerId);
+            return ResponseEntity.ok(stats);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<?> rebuildStats(
+            @RequestHeader("Authorization") String authorization) {
+        String token = authorization.replace("Bearer ", "");
+        String userId = JwtUtil.getUserIdFromToken(token);
+        int rebuilt = playerService.rebuildStats(UUID.fromString(userId));
+        return ResponseEntity.ok(rebuilt + "명의 통계를 다시 만들었습니다.");
+    }
 }
@@ -1,8 +1,10 @@
 package com.example.teamdraftlol.controller;
 
 import com.example.teamdraftlol.dto.request.PoolRequest;
+import com.example.teamdraftlol.dto.request.BulkPlayerRequest;
 import com.example.teamdraftlol.dto.request.PlayerRequest;
 import com.example.teamdraftlol.dto.response.PoolResponse;
+import com.example.teamdraftlol.dto.response.PoolSummaryResponse;
 import com.example.teamdraftlol.dto.response.PlayerResponse;
 import com.example.teamdraftlol.service.PoolService;
 import com.example.teamdraftlol.util.JwtUtil;
@@ -21,13 +23,18 @@ public class PoolController {
     private final PoolService poolService;
 
     @PostMapping
-    public ResponseEntity<PoolResponse> createPool(
+    public ResponseEntity<?> createPool(
             @RequestHeader("Authorization") String authorization,
             @Valid @RequestBody PoolRequest req
     ) {
         String token = authorization.replace("Bearer ", "");
         String userId = JwtUtil.getUserIdFromToken(token);
-        return ResponseEntity.ok(poolService.createPool(UUID.fromString(userId), req));
+        // 같은 lolId의 플레이어를 함께 넣으면 이유를 그대로 반환
+        try {
+            return ResponseEntity.ok(poolService.createPool(UUID.fromString(userId), req));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @GetMapping
@@ -39,6 +46,22 @@ public class PoolController {
         return ResponseEntity.ok(poolService.listPools(UUID.fromString(userId)));
     }
 
+    // 풀 목록 요약 (풀 ID, 이름, 플레이어 수, 점수 상위 top명), 전체 플레이어는 /{poolId}로 조회
+    @GetMapping("/summary")
+    public ResponseEntity<?> listPoolSummaries(
+            @RequestHeader("Authorization") String authorization,
+            @RequestParam(defaultValue = "5") int top
+    ) {
+        String token = authorization.replace("Bearer ", "");
+        String userId = JwtUtil.getUserIdFromToken(token);
+        try {
+            List<PoolSummaryResponse> summaries = poolService.listPoolSummaries(UUID.fromString(userId), top);
+            return ResponseEntity.ok(summaries);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @GetMapping("/{poolId}")
     public ResponseEntity<PoolResponse> getPool(
             @RequestHeader("Authorization") String authorization,
@@ -60,6 +83,23 @@ public class PoolController {
         return ResponseEntity.ok(poolService.addPlayer(UUID.fromString(userId), poolId, req));
     }
 
+    // 여러 플레이어를 한 번에 풀에 추가, lolId가 겹치면 아무것도 추가하지 않는다
+    @PostMapping("/{poolId}/players/bulk")
+    public ResponseEntity<?> addPlayers(
+            @RequestHeader("Authorization") String authorization,
+            @PathVariable Long poolId,
+            @Valid @RequestBody BulkPlayerRequest req
+    ) {
+        String token = authorization.replace("Bearer ", "");
+        String userId = JwtUtil.getUserIdFromToken(token);
+        try {
+            List<PlayerResponse> players = poolService.addPlayers(UUID.fromString(userId), poolId, req.getPlayers());
+            return ResponseEntity.ok(players);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @PostMapping("/join")
     public ResponseEntity<PoolResponse> joinPool(
             @RequestHeader("Authorization") String authorization,
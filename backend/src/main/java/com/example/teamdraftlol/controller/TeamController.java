@@ -1,7 +1,13 @@
 package com.example.teamdraftlol.controller;
 
+import com.example.teamdraftlol.dto.request.BatchDraftRequest;
+import com.example.teamdraftlol.dto.request.LobbySelectionRequest;
+import com.example.teamdraftlol.dto.response.BatchDraftResponse;
 import com.example.teamdraftlol.dto.request.TeamGenerationRequest;
+import com.example.teamdraftlol.dto.request.TeamSwapRequest;
+import com.example.teamdraftlol.dto.response.LobbySelectionResponse;
 import com.example.teamdraftlol.dto.response.TeamGenerationResponse;
+import com.example.teamdraftlol.service.TeamDraftOptions;
 import com.example.teamdraftlol.service.TeamGenerationService;
 import com.example.teamdraftlol.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
@@ -18,27 +24,89 @@ public class TeamController {
     private final TeamGenerationService teamGenerationService;
     
     @PostMapping("/generate")
-    public ResponseEntity<TeamGenerationResponse> generateTeams(
+    public ResponseEntity<?> generateTeams(
             @RequestHeader("Authorization") String authorization,
             @Valid @RequestBody TeamGenerationRequest request
     ) {
         String token = authorization.replace("Bearer ", "");
         JwtUtil.getUserIdFromToken(token); // Token validation only
         
-        TeamGenerationResponse response = teamGenerationService.generateTeams(request.getPlayerIds(), 0);
-        return ResponseEntity.ok(response);
+        try {
+            TeamGenerationResponse response = teamGenerationService.generateTeams(
+                    request.getPlayerIds(), TeamDraftOptions.from(request), 0);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            // 만족할 수 없는 제약 조건 등은 이유를 그대로 반환
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
     
     @PostMapping("/reroll")
-    public ResponseEntity<TeamGenerationResponse> rerollTeams(
+    public ResponseEntity<?> rerollTeams(
             @RequestHeader("Authorization") String authorization,
             @Valid @RequestBody TeamGenerationRequest request,
-            @RequestParam(defaultValue = "0") int combinationIndex
+            @RequestParam(required = false) Integer combinationIndex
     ) {
         String token = authorization.replace("Bearer ", "");
         JwtUtil.getUserIdFromToken(token); // Token validation only
         
-        TeamGenerationResponse response = teamGenerationService.generateTeams(request.getPlayerIds(), combinationIndex);
-        return ResponseEntity.ok(response);
+        // combinationIndex가 없으면 커서의 다음 순위
+        try {
+            TeamGenerationResponse response = teamGenerationService.rerollTeams(request, combinationIndex);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
-} 
\ No newline at end of file
+    
+    @PostMapping("/swap")
+    public ResponseEntity<?> swapPlayer(
+            @RequestHeader("Authorization") String authorization,
+            @Valid @RequestBody TeamSwapRequest request
+    ) {
+        String token = authorization.replace("Bearer ", "");
+        JwtUtil.getUserIdFromToken(token); // Token validation only
+        
+        // 이전 로스터에서 한 명만 바뀐 경우, 바뀌지 않은 팀의 계산 결과를 재사용
+        try {
+            TeamGenerationResponse response = teamGenerationService.swapPlayer(request);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+    
+    @PostMapping("/lobby")
+    public ResponseEntity<?> selectLobbies(
+            @RequestHeader("Authorization") String authorization,
+            @Valid @RequestBody LobbySelectionRequest request
+    ) {
+        String token = authorization.replace("Bearer ", "");
+        JwtUtil.getUserIdFromToken(token); // Token validation only
+        
+        // 존재하지 않거나 중복된 플레이어 ID 등은 이유를 그대로 반환
+        try {
+            LobbySelectionResponse response = teamGenerationService.selectLobbies(request);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+    
+    @PostMapping("/batch")
+    public ResponseEntity<?> draftMatches(
+            @RequestHeader("Authorization") String authorization,
+            @Valid @RequestBody BatchDraftRequest request
+    ) {
+        String token = authorization.replace("Bearer ", "");
+        JwtUtil.getUserIdFromToken(token); // Token validation only
+        
+        // 10의 배수가 아닌 인원, 중복되거나 존재하지 않는 플레이어 ID 등은 이유를 그대로 반환
+        try {
+            BatchDraftResponse response = teamGenerationService.draftMatches(request);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+} 
@@ -0,0 +1,32 @@
+package com.example.teamdraftlol.dto.request;
+
+import com.example.teamdraftlol.service.LaneAssignmentMode;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchDraftRequest {
+    @NotNull
+    @Size(min = 10, max = 100, message = "플레이어는 10명 이상 100명 이하여야 합니다.")
+    private List<@NotNull Long> playerIds; // 10의 배수 명
+
+    private LaneAssignmentMode assignmentMode; // 포지션 배정 방식 (기본값 GREEDY, OPTIMAL은 요청 시에만)
+
+    private Long seed; // 같은 시드와 플레이어면 같은 결과 (기본값: 플레이어 ID로 계산)
+
+    @Min(1000)
+    @Max(2000000)
+    private Integer iterations; // 재시작당 반복 횟수 (기본값 100000)
+
+    @Min(100)
+    @Max(10000)
+    private Long timeBudgetMillis; // 탐색 시간 제한 (기본값 3000ms)
+}
@@ -0,0 +1,19 @@
+package com.example.teamdraftlol.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkPlayerRequest {
+    @Valid
+    @NotNull
+    @Size(min = 1, max = 100, message = "플레이어는 1명 이상 100명 이하여야 합니다.")
+    private List<PlayerRequest> players; // 한 번에 풀에 추가할 플레이어
+}
@@ -0,0 +1,30 @@
+package com.example.teamdraftlol.dto.request;
+
+import com.example.teamdraftlol.service.LaneAssignmentMode;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LobbySelectionRequest {
+    @NotNull
+    @Size(min = 10, max = 40, message = "후보 플레이어는 10명 이상 40명 이하여야 합니다.")
+    private List<@NotNull Long> playerIds; // 체크인한 후보 플레이어
+
+    private LaneAssignmentMode assignmentMode; // 포지션 배정 방식 (기본값 GREEDY, OPTIMAL은 요청 시에만)
+
+    @Min(1)
+    @Max(20)
+    private Integer lobbyCount; // 반환할 로비 수 (기본값 5)
+
+    @Min(100)
+    @Max(10000)
+    private Long timeBudgetMillis; // 탐색 시간 제한 (기본값 2000ms)
+}
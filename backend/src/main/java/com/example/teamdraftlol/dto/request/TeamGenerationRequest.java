@@ -1,10 +1,14 @@
 package com.example.teamdraftlol.dto.request;
 
+import com.example.teamdraftlol.service.LaneAssignmentMode;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
@@ -14,4 +18,18 @@ public class TeamGenerationRequest {
     @NotNull
     @Size(min = 10, max = 10, message = "정확히 10명의 플레이어가 필요합니다.")
     private List<Long> playerIds;
+
+    private LaneAssignmentMode assignmentMode; // 포지션 배정 방식 (기본값 GREEDY, OPTIMAL은 요청 시에만)
+
+    @Min(1)
+    @Max(126)
+    private Integer limit; // 계산할 상위 조합 수 (기본값 10)
+
+    private String cursor; // 리롤 시 이전 응답의 커서
+
+    private List<List<Long>> keepTogether; // 같은 팀으로 묶을 플레이어 그룹 (그룹당 최대 5명)
+
+    private List<List<Long>> keepApart; // 서로 다른 팀에 배정할 두 플레이어 쌍
+
+    private Map<Long, String> laneLocks; // 플레이어 ID → 고정 포지션 (TOP, JGL, MID, ADC, SUP)
 } 
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.example.teamdraftlol.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamSwapRequest {
+    @NotNull
+    @Valid
+    private TeamGenerationRequest previous; // 이전 팀 생성 요청 (교체 전 로스터와 옵션, 옵션은 교체 후에도 그대로 사용)
+
+    @NotNull
+    private Long outPlayerId; // 빠지는 플레이어
+
+    @NotNull
+    private Long inPlayerId; // 대신 들어오는 플레이어
+}
@@ -0,0 +1,19 @@
+package com.example.teamdraftlol.dto.response;
+
+import lombok.*;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchDraftResponse {
+    private List<TeamGenerationResponse> matches; // 경기별 팀 구성
+    private int worstScoreDifference; // 경기별 점수 차이 중 최댓값
+    private int totalScoreDifference; // 경기별 점수 차이 합
+    private long seed;
+    private long iterations; // 모든 재시작의 반복 횟수 합
+    private boolean complete; // false면 시간 제한으로 중단되어 지금까지 찾은 최선의 분할을 반환
+    private long elapsedMillis;
+}
@@ -0,0 +1,28 @@
+package com.example.teamdraftlol.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GameRecordImportResponse {
+    private Long poolId;
+    private int importedGames; // 저장된 게임 수
+    private int failedGames; // 형식·검증·저장 오류로 건너뛴 게임 수
+    private List<LineError> errors; // 줄별 오류 (최대 개수까지만)
+    private long elapsedMs;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineError {
+        private int line; // 게임이 시작하는 줄 (CSV는 오류가 난 전적 줄)
+        private String message;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.teamdraftlol.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GameRecordPageResponse {
+    private List<GameRecordSummaryResponse> records; // 최신순
+    private String nextCursor; // 다음 페이지 요청에 그대로 전달, 마지막 페이지면 null
+}
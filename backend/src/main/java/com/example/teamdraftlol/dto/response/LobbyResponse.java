@@ -0,0 +1,15 @@
+package com.example.teamdraftlol.dto.response;
+
+import lombok.*;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LobbyResponse {
+    private int rank;
+    private List<Long> playerIds; // 로비에 선택된 10명
+    private TeamGenerationResponse teams; // 로비의 팀 분할과 포지션 배정
+}
@@ -0,0 +1,18 @@
+package com.example.teamdraftlol.dto.response;
+
+import lombok.*;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LobbySelectionResponse {
+    private List<LobbyResponse> lobbies;
+    private int candidateCount;
+    private long evaluatedTeams; // 포지션 배정까지 평가한 5인 팀 수
+    private long evaluatedSplits; // 비교한 팀 분할(로비 × 분할) 수
+    private boolean complete; // false면 시간 제한으로 탐색이 중단되어 지금까지 찾은 최선의 로비를 반환
+    private long elapsedMillis;
+}
@@ -0,0 +1,46 @@
+package com.example.teamdraftlol.dto.response;
+
+import com.example.teamdraftlol.entity.PlayerLaneStats;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlayerLaneStatsResponse {
+    private String lane; // TOP, JGL, MID, ADC, SUP 또는 ALL
+    private long games;
+    private long wins;
+    private double winRate; // 0~1
+    private double avgKills;
+    private double avgDeaths;
+    private double avgAssists;
+    private double kda; // (킬 + 어시스트) / 데스, 데스가 0이면 킬 + 어시스트
+    private double avgCs;
+    private double avgCsDiff; // 맞라인 상대와의 평균 CS 차이
+    private long scoreDeltaSum;
+
+    public static PlayerLaneStatsResponse fromEntity(PlayerLaneStats s) {
+        long games = s.getGames();
+        return PlayerLaneStatsResponse.builder()
+                .lane(s.getLane())
+                .games(games)
+                .wins(s.getWins())
+                .winRate(average(s.getWins(), games))
+                .avgKills(average(s.getKills(), games))
+                .avgDeaths(average(s.getDeaths(), games))
+                .avgAssists(average(s.getAssists(), games))
+                .kda(s.getDeaths() == 0 ? s.getKills() + s.getAssists() : (double) (s.getKills() + s.getAssists()) / s.getDeaths())
+                .avgCs(average(s.getCs(), games))
+                .avgCsDiff(average(s.getCsDiffSum(), s.getCsDiffGames()))
+                .scoreDeltaSum(s.getScoreDeltaSum())
+                .build();
+    }
+
+    private static double average(long sum, long count) {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.teamdraftlol.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlayerStatsResponse {
+    private Long playerId;
+    private PlayerLaneStatsResponse total; // 전체 합계 (반영된 게임이 없으면 null)
+    private List<PlayerLaneStatsResponse> lanes; // 포지션별
+}
@@ -0,0 +1,30 @@
+package com.example.teamdraftlol.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 풀 목록용 요약 (전체 플레이어 목록은 /api/pools/{poolId}로 조회)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PoolSummaryResponse {
+    private Long poolId;
+    private String name;
+    private int playersCount;
+    private List<TopPlayer> topPlayers; // 점수 높은 순
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TopPlayer {
+        private Long playerId;
+        private String name;
+        private String lolId;
+        private Integer score;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.teamdraftlol.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RatingReplayResponse {
+    private Long poolId;
+    private int totalGames; // 풀의 반영된 게임 수
+    private int resumedFromGame; // 이어서 시작한 체크포인트의 게임 수 (처음부터면 0)
+    private int replayedGames; // 이번에 다시 계산한 게임 수
+    private int updatedPlayers; // 점수나 연승/연패가 바뀐 플레이어 수
+    private int updatedRecords; // 저장된 변화량이 바뀐 전적 수
+    private int checkpointsWritten;
+    private long elapsedMs;
+}
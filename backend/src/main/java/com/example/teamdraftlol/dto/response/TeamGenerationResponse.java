@@ -17,4 +17,5 @@ public class TeamGenerationResponse {
     private int currentCombination;
     private int totalCombinations;
     private List<Integer> availableCombinations; // 리롤 가능한 조합들의 순위
+    private String cursor; // 서명된 리롤 커서 (로스터, 규칙 버전, 순위 포함), 리롤 요청에 그대로 전달
 }
\ No newline at end of file
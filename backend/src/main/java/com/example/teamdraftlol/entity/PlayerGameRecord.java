@@ -45,4 +45,10 @@ public class PlayerGameRecord {
     
     @Column
     private Integer winLossStreakAtGame; // 해당 게임 시점의 연승/연패 상태
+    
+    @Column
+    private Integer appliedScoreDelta; // 점수 반영 시 실제로 바뀐 점수 (연승/연패 보너스, 0점 하한 포함), 반영 전이거나 취소되면 null
+    
+    @Column
+    private Integer appliedStreakBonus; // 위 변화량 중 연승/연패 보너스
 } 
\ No newline at end of file
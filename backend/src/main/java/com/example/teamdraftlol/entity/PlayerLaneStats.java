@@ -0,0 +1,62 @@
+package com.example.teamdraftlol.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+// 반영된 게임 기준 플레이어별·포지션별 누적 통계 (lane = 'ALL'은 전체 합계)
+// 점수 반영/취소 때 같은 트랜잭션에서 증감하므로 조회는 기본키 범위 읽기 한 번
+@Entity
+@Table(name = "player_lane_stats")
+@IdClass(PlayerLaneStats.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlayerLaneStats {
+    
+    public static final String ALL_LANES = "ALL";
+    
+    @Id
+    private Long playerId;
+    
+    @Id
+    private String lane; // TOP, JGL, MID, ADC, SUP 또는 ALL
+    
+    @Column(nullable = false)
+    private long games;
+    
+    @Column(nullable = false)
+    private long wins;
+    
+    @Column(nullable = false)
+    private long kills;
+    
+    @Column(nullable = false)
+    private long deaths;
+    
+    @Column(nullable = false)
+    private long assists;
+    
+    @Column(nullable = false)
+    private long cs;
+    
+    @Column(nullable = false)
+    private long csDiffSum; // 맞라인 상대와의 CS 차이 합
+    
+    @Column(nullable = false)
+    private long csDiffGames; // 맞라인 상대가 있었던 게임 수
+    
+    @Column(nullable = false)
+    private long scoreDeltaSum; // 반영된 점수 변화량 합
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long playerId;
+        private String lane;
+    }
+}
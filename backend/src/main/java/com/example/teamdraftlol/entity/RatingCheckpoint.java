@@ -0,0 +1,44 @@
+package com.example.teamdraftlol.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// 풀 점수 리플레이의 중간 상태: 처음 gameCount개 게임을 반영한 직후의 플레이어 점수/연승·연패
+@Entity
+@Table(name = "rating_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RatingCheckpoint {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long checkpointId;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "pool_id", nullable = false)
+    private Pool pool;
+    
+    @Column(nullable = false)
+    private int gameCount; // 반영된 게임 수 (생성 시각, 게임 ID 순)
+    
+    @Column(nullable = false)
+    private Long lastGameId; // 마지막으로 반영된 게임
+    
+    @Column(nullable = false)
+    private long prefixHash; // 처음 gameCount개 게임의 해시, 이후 그 사이 게임이 바뀌면 달라진다
+    
+    @Column(nullable = false)
+    private int rulesVersion; // 점수 계산 버전
+    
+    @Column(nullable = false)
+    private byte[] payload; // 플레이어별 (ID, 기준 점수, 기준 연승/연패, 점수, 연승/연패)
+    
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
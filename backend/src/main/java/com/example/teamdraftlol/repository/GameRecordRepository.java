@@ -2,11 +2,49 @@ package com.example.teamdraftlol.repository;
 
 import com.example.teamdraftlol.entity.GameRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @Repository
 public interface GameRecordRepository extends JpaRepository<GameRecord, Long> {
     List<GameRecord> findByPool_PoolIdInOrderByCreatedAtDesc(List<Long> poolIds);
-} 
\ No newline at end of file
+    
+    // 게임과 사용자의 풀 권한(OWNER, MEMBER, NONE)을 한 번에 조회, 게임이 없으면 빈 목록 (행: GameRecord, 권한 문자열)
+    // 풀은 조인만 하고 읽지 않으므로 g.pool은 지연 프록시(풀 ID만 사용)로 남는다
+    @Query("SELECT g, CASE WHEN p.owner.id = :userId THEN 'OWNER' " +
+           "WHEN EXISTS (SELECT m.id FROM p.members m WHERE m.id = :userId) THEN 'MEMBER' ELSE 'NONE' END " +
+           "FROM GameRecord g JOIN g.pool p WHERE g.gameId = :gameId")
+    List<Object[]> findWithRoleByGameId(@Param("gameId") Long gameId, @Param("userId") UUID userId);
+    
+    // 사용자가 소유하거나 멤버인 풀의 전적 요약을 최신순으로 (행: game_id, team1_won, team1_kills, team2_kills, team1_gold, team2_gold, is_applied, created_at)
+    // 키셋: cursorCreatedAt/cursorGameId가 있으면 그 게임보다 오래된 것부터, poolId/from/to는 선택 필터 (from 이상, to 미만)
+    // 풀마다 idx_game_records_pool_history에서 최신 limit개만 읽고(LATERAL) 합친 뒤 다시 limit개로 자른다
+    // (풀 여러 개를 IN으로 걸고 정렬하면 인덱스 순서를 쓸 수 없어 일치하는 모든 행을 읽어 정렬하게 된다)
+    @Query(value = "SELECT g.game_id, g.team1_won, g.team1_kills, g.team2_kills, g.team1_gold, g.team2_gold, g.is_applied, g.created_at " +
+           "FROM (SELECT p.pool_id FROM pools p WHERE p.owner = :userId " +
+           "      AND (CAST(:poolId AS bigint) IS NULL OR p.pool_id = CAST(:poolId AS bigint)) " +
+           "      UNION SELECT m.pool_id FROM pool_members m WHERE m.profile_id = :userId " +
+           "      AND (CAST(:poolId AS bigint) IS NULL OR m.pool_id = CAST(:poolId AS bigint))) mp " +
+           "CROSS JOIN LATERAL (" +
+           "  SELECT r.game_id, r.team1_won, r.team1_kills, r.team2_kills, r.team1_gold, r.team2_gold, r.is_applied, r.created_at " +
+           "  FROM game_records r WHERE r.pool_id = mp.pool_id " +
+           "  AND (CAST(:from AS timestamp) IS NULL OR r.created_at >= CAST(:from AS timestamp)) " +
+           "  AND (CAST(:to AS timestamp) IS NULL OR r.created_at < CAST(:to AS timestamp)) " +
+           "  AND (CAST(:cursorCreatedAt AS timestamp) IS NULL " +
+           "       OR (r.created_at, r.game_id) < (CAST(:cursorCreatedAt AS timestamp), CAST(:cursorGameId AS bigint))) " +
+           "  ORDER BY r.created_at DESC, r.game_id DESC LIMIT :limit" +
+           ") g " +
+           "ORDER BY g.created_at DESC, g.game_id DESC LIMIT :limit", nativeQuery = true)
+    List<Object[]> findSummaryPage(@Param("userId") UUID userId,
+                                   @Param("poolId") Long poolId,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to,
+                                   @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                   @Param("cursorGameId") Long cursorGameId,
+                                   @Param("limit") int limit);
+}
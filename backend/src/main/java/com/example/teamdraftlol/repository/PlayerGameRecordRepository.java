@@ -1,12 +1,86 @@
 package com.example.teamdraftlol.repository;
 
 import com.example.teamdraftlol.entity.PlayerGameRecord;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface PlayerGameRecordRepository extends JpaRepository<PlayerGameRecord, Long> {
     List<PlayerGameRecord> findByGameRecord_GameId(Long gameId);
-} 
\ No newline at end of file
+    
+    // 한 게임의 전적을 플레이어와 함께 조회 (상세 화면용)
+    @Query("SELECT pgr FROM PlayerGameRecord pgr JOIN FETCH pgr.player WHERE pgr.gameRecord.gameId = :gameId ORDER BY pgr.recordId")
+    List<PlayerGameRecord> findWithPlayerByGameId(@Param("gameId") Long gameId);
+    
+    // 사용자가 소유하거나 멤버인 풀의 모든 플레이어 전적을 게임·플레이어와 함께 조회 (게임 최신순, 같은 게임의 전적은 연속)
+    String USER_POOL_RECORDS_QUERY = "SELECT pgr FROM PlayerGameRecord pgr JOIN FETCH pgr.gameRecord g JOIN FETCH pgr.player " +
+           "WHERE g.pool.poolId IN (SELECT p.poolId FROM Pool p WHERE p.owner.id = :userId OR :userId IN (SELECT m.id FROM p.members m)) " +
+           "ORDER BY g.createdAt DESC, g.gameId DESC, pgr.recordId";
+    
+    @Query(USER_POOL_RECORDS_QUERY)
+    List<PlayerGameRecord> findAllWithGameAndPlayerByUserId(@Param("userId") UUID userId);
+    
+    // 같은 조회를 전방향 커서로 읽음, 트랜잭션 안에서 사용하고 반드시 닫아야 한다
+    // 전역 fetch_size가 1이므로 스트리밍 조회만 한 번에 가져올 행 수를 따로 지정
+    @Query(USER_POOL_RECORDS_QUERY)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<PlayerGameRecord> streamAllWithGameAndPlayerByUserId(@Param("userId") UUID userId);
+    
+    // 풀의 반영 안 된 게임을 전적·플레이어와 함께 생성 순서대로 조회 (일괄 반영용, 행: GameRecord, PlayerGameRecord, Player)
+    // 게임에서 LEFT JOIN하므로 전적이 없는 게임도 전적·플레이어가 null인 행 하나로 나온다
+    // 읽기 전용: 계산 결과는 dirty checking이 아니라 JDBC 배치로 쓴다
+    @Query("SELECT g, pgr, p FROM GameRecord g LEFT JOIN PlayerGameRecord pgr ON pgr.gameRecord = g LEFT JOIN pgr.player p " +
+           "WHERE g.pool.poolId = :poolId AND g.isApplied = false " +
+           "ORDER BY g.createdAt, g.gameId, pgr.recordId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Object[]> findPendingGamesWithRecordsByPoolId(@Param("poolId") Long poolId);
+    
+    // 점수 반영 취소 전 확인: 변화량이 저장되지 않은 (저장 기능 이전에 반영된) 전적 수
+    long countByGameRecord_GameIdAndAppliedScoreDeltaIsNull(Long gameId);
+    
+    // 전적 c(게임 cg)의 플레이어에게 그 게임보다 나중에 (created_at, game_id 순) 반영된 게임이 있는지
+    String LATER_APPLIED_GAME_EXISTS = "EXISTS (SELECT 1 FROM player_game_records l JOIN game_records lg ON lg.game_id = l.game_id " +
+           "WHERE l.player_id = c.player_id AND lg.is_applied AND (lg.created_at, lg.game_id) > (cg.created_at, cg.game_id))";
+    
+    // 취소할 게임 이후에도 반영된 게임이 있는 플레이어의 반영된 전적 전체 (취소할 게임 포함, 플레이어별 반영 순서)
+    // 행: player_id, game_id, 승리 여부, win_loss_streak_at_game
+    @Query(value = "SELECT r.player_id, r.game_id, (r.team_number = 1) = g.team1_won, r.win_loss_streak_at_game " +
+           "FROM player_game_records r JOIN game_records g ON g.game_id = r.game_id " +
+           "WHERE g.is_applied AND r.player_id IN (" +
+           "  SELECT c.player_id FROM player_game_records c JOIN game_records cg ON cg.game_id = c.game_id " +
+           "  WHERE c.game_id = :gameId AND " + LATER_APPLIED_GAME_EXISTS +
+           ") " +
+           "ORDER BY r.player_id, g.created_at, g.game_id", nativeQuery = true)
+    List<Object[]> findAppliedChainsWithLaterGames(@Param("gameId") Long gameId);
+    
+    // 점수 반영 취소: 반영 때 저장한 변화량을 빼고 전적의 반영 값을 비운다 (한 문장)
+    // 같은 UPDATE 안에서 자기 자신(o)을 조인해 비우기 전 값을 RETURNING으로 넘긴다
+    // 연승/연패는 이 게임이 플레이어의 마지막 반영 게임일 때만 게임 직전 값으로 되돌린다
+    // (이후 게임이 있으면 그대로 두고 호출자가 남은 반영 게임으로 다시 계산), 되돌린 플레이어 수를 반환
+    // 변화량이 없는 전적은 건너뛰므로 호출자가 먼저 countByGameRecord_GameIdAndAppliedScoreDeltaIsNull로 거부해야 한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "WITH reverted AS (" +
+           "  UPDATE player_game_records r SET applied_score_delta = NULL, applied_streak_bonus = NULL " +
+           "  FROM player_game_records c JOIN game_records cg ON cg.game_id = c.game_id " +
+           "  WHERE c.record_id = r.record_id AND r.game_id = :gameId AND r.applied_score_delta IS NOT NULL " +
+           "  RETURNING r.player_id, c.applied_score_delta, c.win_loss_streak_at_game, " + LATER_APPLIED_GAME_EXISTS + " AS has_later" +
+           ") " +
+           "UPDATE players p SET score = GREATEST(0, p.score - reverted.applied_score_delta), " +
+           "  win_loss_streak = CASE WHEN reverted.has_later THEN p.win_loss_streak " +
+           "    ELSE COALESCE(reverted.win_loss_streak_at_game, p.win_loss_streak) END " +
+           "FROM reverted WHERE p.player_id = reverted.player_id", nativeQuery = true)
+    int revertAppliedScores(@Param("gameId") Long gameId);
+}
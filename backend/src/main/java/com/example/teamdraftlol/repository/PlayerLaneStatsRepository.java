@@ -0,0 +1,64 @@
+package com.example.teamdraftlol.repository;
+
+import com.example.teamdraftlol.entity.PlayerLaneStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PlayerLaneStatsRepository extends JpaRepository<PlayerLaneStats, PlayerLaneStats.Key> {
+    
+    // 게임들의 전적을 플레이어·포지션(+ ALL)별로 묶은 통계 증감분
+    // 맞라인 상대는 점수 계산과 같이 상대 팀 같은 포지션의 첫 전적
+    String GAME_STATS_SELECT = "SELECT r.player_id, l.lane, COUNT(*) AS games, " +
+            "COUNT(*) FILTER (WHERE (r.team_number = 1) = g.team1_won) AS wins, " +
+            "SUM(r.kills) AS kills, SUM(r.deaths) AS deaths, SUM(r.assists) AS assists, SUM(r.cs) AS cs, " +
+            "COALESCE(SUM(r.cs - o.cs), 0) AS cs_diff_sum, COUNT(o.cs) AS cs_diff_games, " +
+            "COALESCE(SUM(r.applied_score_delta), 0) AS score_delta_sum " +
+            "FROM player_game_records r JOIN game_records g ON g.game_id = r.game_id " +
+            "LEFT JOIN LATERAL (SELECT o.cs FROM player_game_records o WHERE o.game_id = r.game_id " +
+            "  AND o.team_number <> r.team_number AND o.assigned_position = r.assigned_position " +
+            "  ORDER BY o.record_id LIMIT 1) o ON true " +
+            "CROSS JOIN LATERAL (VALUES (r.assigned_position), ('ALL')) AS l(lane) ";
+    
+    String STATS_COLUMNS = "player_lane_stats (player_id, lane, games, wins, kills, deaths, assists, cs, " +
+            "cs_diff_sum, cs_diff_games, score_delta_sum) ";
+    
+    // 점수 반영(sign = 1) / 취소(sign = -1) 시 해당 게임들의 통계를 더하거나 뺀다
+    // 취소는 저장된 점수 변화량을 지우기 전에 호출해야 한다
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO " + STATS_COLUMNS +
+            "SELECT player_id, lane, games * :sign, wins * :sign, kills * :sign, deaths * :sign, assists * :sign, " +
+            "cs * :sign, cs_diff_sum * :sign, cs_diff_games * :sign, score_delta_sum * :sign FROM (" +
+            GAME_STATS_SELECT + "WHERE r.game_id IN (:gameIds) GROUP BY r.player_id, l.lane) AS d " +
+            "ON CONFLICT (player_id, lane) DO UPDATE SET " +
+            "games = player_lane_stats.games + EXCLUDED.games, wins = player_lane_stats.wins + EXCLUDED.wins, " +
+            "kills = player_lane_stats.kills + EXCLUDED.kills, deaths = player_lane_stats.deaths + EXCLUDED.deaths, " +
+            "assists = player_lane_stats.assists + EXCLUDED.assists, cs = player_lane_stats.cs + EXCLUDED.cs, " +
+            "cs_diff_sum = player_lane_stats.cs_diff_sum + EXCLUDED.cs_diff_sum, " +
+            "cs_diff_games = player_lane_stats.cs_diff_games + EXCLUDED.cs_diff_games, " +
+            "score_delta_sum = player_lane_stats.score_delta_sum + EXCLUDED.score_delta_sum",
+            nativeQuery = true)
+    int addGames(@Param("gameIds") List<Long> gameIds, @Param("sign") int sign);
+    
+    // 재구성: 플레이어들의 통계를 지운 뒤 반영된 전체 게임에서 다시 채운다 (deleteByPlayerIds → insertFromAppliedGames 순서)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM player_lane_stats WHERE player_id IN (:playerIds)", nativeQuery = true)
+    int deleteByPlayerIds(@Param("playerIds") List<Long> playerIds);
+    
+    @Modifying
+    @Query(value = "INSERT INTO " + STATS_COLUMNS + GAME_STATS_SELECT +
+            "WHERE g.is_applied AND r.player_id IN (:playerIds) GROUP BY r.player_id, l.lane",
+            nativeQuery = true)
+    int insertFromAppliedGames(@Param("playerIds") List<Long> playerIds);
+    
+    // 소유자 확인을 겸한 조회 (다른 사용자의 플레이어면 빈 목록)
+    @Query("SELECT s FROM PlayerLaneStats s WHERE s.playerId = :playerId " +
+           "AND s.playerId IN (SELECT p.playerId FROM Player p WHERE p.owner.id = :ownerId) ORDER BY s.lane")
+    List<PlayerLaneStats> findByPlayerIdAndOwnerId(@Param("playerId") Long playerId, @Param("ownerId") UUID ownerId);
+}
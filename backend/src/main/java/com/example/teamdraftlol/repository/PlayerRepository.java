@@ -2,10 +2,17 @@ package com.example.teamdraftlol.repository;
 
 import com.example.teamdraftlol.entity.Player;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface PlayerRepository extends JpaRepository<Player, Long> {
     List<Player> findByOwnerId(UUID ownerId);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Player p SET p.winLossStreak = :streak WHERE p.playerId = :playerId")
+    int updateWinLossStreak(@Param("playerId") Long playerId, @Param("streak") int streak);
 }
\ No newline at end of file
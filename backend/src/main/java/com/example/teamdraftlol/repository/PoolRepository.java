@@ -3,6 +3,7 @@ package com.example.teamdraftlol.repository;
 import com.example.teamdraftlol.entity.Pool;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -21,6 +22,63 @@ public interface PoolRepository extends JpaRepository<Pool, Long> {
     @Query("SELECT DISTINCT p FROM Pool p WHERE p.owner.id = :userId OR :userId IN (SELECT m.id FROM p.members m)")
     List<Pool> findByOwnerIdOrMemberId(@Param("userId") UUID userId);
 
+    // 사용자의 풀 권한 (OWNER, MEMBER, NONE), 풀이 없으면 null
+    @Query(value = "SELECT CASE WHEN p.owner = :userId THEN 'OWNER' " +
+            "WHEN EXISTS (SELECT 1 FROM pool_members m WHERE m.pool_id = p.pool_id AND m.profile_id = :userId) THEN 'MEMBER' " +
+            "ELSE 'NONE' END FROM pools p WHERE p.pool_id = :poolId",
+            nativeQuery = true)
+    String findRoleByPoolIdAndUserId(@Param("poolId") Long poolId, @Param("userId") UUID userId);
+
+    // 풀에 플레이어 추가 (lol_id는 트리거가 채우고, 같은 풀의 lolId 중복은 유니크 인덱스 위반)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO pool_players (pool_id, player_id) VALUES (:poolId, :playerId)", nativeQuery = true)
+    int insertPoolPlayer(@Param("poolId") Long poolId, @Param("playerId") Long playerId);
+
+    @Modifying
+    @Query(value = "INSERT INTO pool_members (pool_id, profile_id) VALUES (:poolId, :profileId)", nativeQuery = true)
+    int insertPoolMember(@Param("poolId") Long poolId, @Param("profileId") UUID profileId);
+
+    // 풀 목록 요약: 사용자가 소유하거나 멤버인 풀마다 플레이어 수와 점수 상위 플레이어를 한 번의 쿼리로 조회
+    // 행: pool_id, name, players_count, rn(풀 안 점수 순위), player_id, player_name, lol_id, score (풀 순, 순위 순)
+    // 플레이어가 없는 풀도 한 행(player_id NULL)이 나오도록 rn <= GREATEST(top, 1)
+    @Query(value = "SELECT x.pool_id, x.name, x.players_count, x.rn, x.player_id, x.player_name, x.lol_id, x.score FROM (" +
+            "SELECT mp.pool_id, mp.name, pl.player_id, pl.name AS player_name, pl.lol_id, pl.score, " +
+            "COUNT(pl.player_id) OVER (PARTITION BY mp.pool_id) AS players_count, " +
+            "ROW_NUMBER() OVER (PARTITION BY mp.pool_id ORDER BY pl.score DESC NULLS LAST, pl.player_id) AS rn " +
+            "FROM (SELECT p.pool_id, p.name FROM pools p WHERE p.owner = :userId " +
+            "      UNION SELECT p.pool_id, p.name FROM pools p JOIN pool_members m ON m.pool_id = p.pool_id " +
+            "      WHERE m.profile_id = :userId) mp " +
+            "LEFT JOIN pool_players pp ON pp.pool_id = mp.pool_id " +
+            "LEFT JOIN players pl ON pl.player_id = pp.player_id" +
+            ") x WHERE x.rn <= GREATEST(:top, 1) ORDER BY x.pool_id, x.rn",
+            nativeQuery = true)
+    List<Object[]> findSummaryRowsByOwnerIdOrMemberId(@Param("userId") UUID userId, @Param("top") int top);
+
+    // 풀 상세 스냅샷용: 플레이어와 멤버까지 한 번에 조회
+    @Query("SELECT DISTINCT p FROM Pool p LEFT JOIN FETCH p.players LEFT JOIN FETCH p.members WHERE p.poolId = :poolId")
+    Optional<Pool> findWithPlayersAndMembersById(@Param("poolId") Long poolId);
+
+    // 점수가 바뀐 플레이어들이 속한 풀 (풀 스냅샷 무효화용)
+    @Query(value = "SELECT DISTINCT pool_id FROM pool_players WHERE player_id IN (:playerIds)", nativeQuery = true)
+    List<Long> findPoolIdsByPlayerIds(@Param("playerIds") List<Long> playerIds);
+
+    // 게임 참가 플레이어들이 속한 풀
+    @Query(value = "SELECT DISTINCT pp.pool_id FROM player_game_records r JOIN pool_players pp ON pp.player_id = r.player_id " +
+            "WHERE r.game_id IN (:gameIds)", nativeQuery = true)
+    List<Long> findPoolIdsByGameIds(@Param("gameIds") List<Long> gameIds);
+
+    // 플레이어가 속한 풀 (pool_players(player_id) 인덱스 사용, 풀 엔티티와 플레이어 컬렉션은 읽지 않음)
+    @Query(value = "SELECT pool_id FROM pool_players WHERE player_id = :playerId", nativeQuery = true)
+    List<Long> findPoolIdsByPlayerId(@Param("playerId") Long playerId);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM pool_players WHERE pool_id = :poolId AND player_id = :playerId)", nativeQuery = true)
+    boolean existsPoolPlayer(@Param("poolId") Long poolId, @Param("playerId") Long playerId);
+
+    // 플레이어를 모든 풀에서 제거 (조인 테이블 행만 삭제), 삭제한 행 수를 반환
+    @Modifying
+    @Query(value = "DELETE FROM pool_players WHERE player_id = :playerId", nativeQuery = true)
+    int deletePoolPlayersByPlayerId(@Param("playerId") Long playerId);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select p from Pool p where p.poolId = :poolId")
     Pool findByIdForUpdate(@Param("poolId") Long poolId);
@@ -0,0 +1,13 @@
+package com.example.teamdraftlol.repository;
+
+import com.example.teamdraftlol.entity.RatingCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RatingCheckpointRepository extends JpaRepository<RatingCheckpoint, Long> {
+    // 가장 많이 진행된 체크포인트부터
+    List<RatingCheckpoint> findByPool_PoolIdAndRulesVersionOrderByGameCountDesc(Long poolId, int rulesVersion);
+}
@@ -0,0 +1,306 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.dto.response.TeamGenerationResponse;
+import com.example.teamdraftlol.entity.Player;
+import com.example.teamdraftlol.service.LaneEvaluator.LaneAssignment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static com.example.teamdraftlol.service.LaneEvaluator.PERMUTATION_COUNT;
+import static com.example.teamdraftlol.service.LaneEvaluator.TEAM_SIZE;
+import static com.example.teamdraftlol.service.LaneEvaluator.closestPair;
+
+// 10의 배수 명의 플레이어를 여러 경기(경기당 5 대 5)로 나누는 분할기
+// 목표: 1) 경기별 점수 차이 중 최댓값 (낮을수록 좋음), 2) 점수 차이 합 (낮을수록 좋음)
+// 팀 점수는 팀 생성과 같은 포지션 배정 규칙(LaneEvaluator)으로 계산하고,
+// 서로 다른 팀의 두 플레이어를 맞바꾸는 시뮬레이티드 어닐링을 시드별로 독립 실행해 가장 좋은 결과를 고른다
+final class BatchDraftPartitioner {
+
+    static final int MATCH_SIZE = TEAM_SIZE * 2;
+
+    // 시작 온도(평균 점수 대비 비율)와 마지막 온도
+    private static final double START_TEMPERATURE_RATIO = 0.05;
+    private static final double END_TEMPERATURE = 0.5;
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+    // 재시작별 시드 간격 (64비트 황금비)
+    private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final LaneEvaluator lanes;
+    private final LaneAssignmentMode mode;
+    private final int playerCount;
+    private final int teamCount;
+    private final int matchCount;
+    private final long seed;
+    private final int restarts;
+    private final int iterations;
+    private final long deadline;
+
+    BatchDraftPartitioner(List<Player> players, LaneAssignmentMode mode, long seed,
+                          int restarts, int iterations, Duration timeBudget) {
+        if (players.isEmpty() || players.size() % MATCH_SIZE != 0) {
+            throw new IllegalArgumentException("플레이어 수는 10의 배수여야 합니다.");
+        }
+        this.lanes = new LaneEvaluator(players, mode);
+        this.mode = mode;
+        this.playerCount = players.size();
+        this.teamCount = playerCount / TEAM_SIZE;
+        this.matchCount = playerCount / MATCH_SIZE;
+        this.seed = seed;
+        this.restarts = restarts;
+        this.iterations = iterations;
+        this.deadline = System.nanoTime() + timeBudget.toNanos();
+    }
+
+    // 재시작을 주어진 풀에서 병렬로 실행하고 가장 좋은 분할을 반환, 동률이면 재시작 번호가 작은 쪽
+    Result partition(ForkJoinPool pool) {
+        List<ForkJoinTask<Result>> tasks = new ArrayList<>(restarts);
+        for (int restart = 0; restart < restarts; restart++) {
+            long restartSeed = seed + restart * SEED_GAMMA;
+            tasks.add(pool.submit(() -> new Annealer(restartSeed).run()));
+        }
+        List<Result> results = tasks.stream().map(ForkJoinTask::join).toList();
+        Result best = results.get(0);
+        boolean complete = true;
+        for (Result result : results) {
+            if (result.isBetterThan(best)) {
+                best = result;
+            }
+            complete &= result.complete();
+        }
+        long totalIterations = results.stream().mapToLong(Result::iterations).sum();
+        return new Result(best.slots(), best.worstGap(), best.gapSum(), totalIterations, complete);
+    }
+
+    // 분할 결과를 경기별 팀 생성 응답으로 변환 (slots는 [team * 5 + slot] = 플레이어 인덱스, 팀 2k와 2k+1이 k번째 경기)
+    List<TeamGenerationResponse> toResponses(int[] slots) {
+        List<TeamGenerationResponse> matches = new ArrayList<>(matchCount);
+        for (int match = 0; match < matchCount; match++) {
+            List<Integer> indices = new ArrayList<>(MATCH_SIZE);
+            for (int slot = match * MATCH_SIZE; slot < (match + 1) * MATCH_SIZE; slot++) {
+                indices.add(slots[slot]);
+            }
+            indices.sort(Comparator.naturalOrder());
+
+            List<Player> matchPlayers = new ArrayList<>(MATCH_SIZE);
+            int team1Mask = 0;
+            for (int local = 0; local < MATCH_SIZE; local++) {
+                int index = indices.get(local);
+                matchPlayers.add(lanes.player(index));
+                if (teamOfSlot(slots, match * 2, index)) {
+                    team1Mask |= 1 << local;
+                }
+            }
+            // 가장 작은 ID의 플레이어가 속한 팀을 1팀으로 사용
+            if ((team1Mask & 1) == 0) {
+                team1Mask ^= TeamCombinationEngine.FULL_MASK;
+            }
+            matches.add(new TeamCombinationEngine(matchPlayers, mode).toResponse(team1Mask));
+        }
+        return matches;
+    }
+
+    int matchCount() {
+        return matchCount;
+    }
+
+    private static boolean teamOfSlot(int[] slots, int team, int player) {
+        for (int slot = team * TEAM_SIZE; slot < (team + 1) * TEAM_SIZE; slot++) {
+            if (slots[slot] == player) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 한 번의 어닐링 실행, 상태는 모두 primitive 배열이며 실행마다 따로 가진다
+    private final class Annealer {
+        private final SplittableRandom random;
+        private final int[] slots = new int[playerCount];
+        private final int[] totals = new int[teamCount * PERMUTATION_COUNT];
+        private final int[] totalCounts = new int[teamCount];
+        private final int[] gaps = new int[matchCount];
+
+        private final LaneAssignment work = new LaneAssignment();
+        private final int[] members = new int[TEAM_SIZE];
+        private final int[] teamTotals = new int[PERMUTATION_COUNT];
+        private final int[] savedTotals = new int[PERMUTATION_COUNT * 2];
+        private final int[] savedCounts = new int[2];
+
+        Annealer(long seed) {
+            this.random = new SplittableRandom(seed);
+        }
+
+        Result run() {
+            initialize();
+            int worst = worstGap();
+            int sum = gapSum();
+            int[] bestSlots = slots.clone();
+            int bestWorst = worst;
+            int bestSum = sum;
+
+            double temperature = Math.max(END_TEMPERATURE, averageScore() * START_TEMPERATURE_RATIO);
+            double cooling = Math.pow(END_TEMPERATURE / temperature, 1.0 / Math.max(1, iterations));
+            int done = 0;
+            boolean complete = true;
+            for (; done < iterations; done++) {
+                if (done % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+                    complete = false;
+                    break;
+                }
+                int a = random.nextInt(playerCount);
+                int b = random.nextInt(playerCount - TEAM_SIZE);
+                // b를 a와 다른 팀의 slot으로 옮김
+                int teamA = a / TEAM_SIZE;
+                if (b >= teamA * TEAM_SIZE) {
+                    b += TEAM_SIZE;
+                }
+                int teamB = b / TEAM_SIZE;
+
+                swap(a, b, teamA, teamB);
+                int newWorst = worstGap();
+                int newSum = gapSum();
+                long delta = energy(newWorst, newSum) - energy(worst, sum);
+                if (delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)) {
+                    worst = newWorst;
+                    sum = newSum;
+                    if (worst < bestWorst || (worst == bestWorst && sum < bestSum)) {
+                        bestWorst = worst;
+                        bestSum = sum;
+                        System.arraycopy(slots, 0, bestSlots, 0, playerCount);
+                        if (bestSum == 0) {
+                            // 모든 경기의 점수 차이가 0이면 더 좋아질 수 없다
+                            done++;
+                            break;
+                        }
+                    }
+                } else {
+                    undo(a, b, teamA, teamB);
+                }
+                temperature *= cooling;
+            }
+            return new Result(bestSlots, bestWorst, bestSum, done, complete);
+        }
+
+        // 점수 내림차순 스네이크 드래프트로 시작 (1팀 → 2M팀 → 2M팀 → 1팀 ...)
+        private void initialize() {
+            Integer[] order = new Integer[playerCount];
+            for (int i = 0; i < playerCount; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (x, y) -> Integer.compare(lanes.score(y), lanes.score(x)));
+            for (int i = 0; i < playerCount; i++) {
+                int round = i / teamCount;
+                int pick = i % teamCount;
+                int team = round % 2 == 0 ? pick : teamCount - 1 - pick;
+                slots[team * TEAM_SIZE + round] = order[i];
+            }
+            for (int team = 0; team < teamCount; team++) {
+                evaluate(team);
+            }
+            for (int match = 0; match < matchCount; match++) {
+                updateGap(match);
+            }
+        }
+
+        private double averageScore() {
+            long total = 0;
+            for (int i = 0; i < playerCount; i++) {
+                total += lanes.score(i);
+            }
+            return (double) total / playerCount;
+        }
+
+        // 최댓값이 우선이 되도록 합친 에너지
+        private long energy(int worst, int sum) {
+            return (long) worst * matchCount + sum;
+        }
+
+        private void swap(int a, int b, int teamA, int teamB) {
+            save(teamA, 0);
+            save(teamB, 1);
+            int player = slots[a];
+            slots[a] = slots[b];
+            slots[b] = player;
+            evaluate(teamA);
+            evaluate(teamB);
+            updateGap(teamA / 2);
+            updateGap(teamB / 2);
+        }
+
+        private void undo(int a, int b, int teamA, int teamB) {
+            int player = slots[a];
+            slots[a] = slots[b];
+            slots[b] = player;
+            restore(teamA, 0);
+            restore(teamB, 1);
+            updateGap(teamA / 2);
+            updateGap(teamB / 2);
+        }
+
+        private void save(int team, int saved) {
+            savedCounts[saved] = totalCounts[team];
+            System.arraycopy(totals, team * PERMUTATION_COUNT, savedTotals, saved * PERMUTATION_COUNT, totalCounts[team]);
+        }
+
+        private void restore(int team, int saved) {
+            totalCounts[team] = savedCounts[saved];
+            System.arraycopy(savedTotals, saved * PERMUTATION_COUNT, totals, team * PERMUTATION_COUNT, savedCounts[saved]);
+        }
+
+        // 팀 멤버를 인덱스 오름차순으로 정렬해 포지션 배정 후 합계 점수 후보를 기록
+        private void evaluate(int team) {
+            System.arraycopy(slots, team * TEAM_SIZE, members, 0, TEAM_SIZE);
+            for (int i = 1; i < TEAM_SIZE; i++) {
+                int value = members[i];
+                int j = i - 1;
+                while (j >= 0 && members[j] > value) {
+                    members[j + 1] = members[j];
+                    j--;
+                }
+                members[j + 1] = value;
+            }
+            int count = lanes.collectTotals(members, work, teamTotals);
+            System.arraycopy(teamTotals, 0, totals, team * PERMUTATION_COUNT, count);
+            totalCounts[team] = count;
+        }
+
+        private void updateGap(int match) {
+            int team1 = match * 2;
+            int team2 = team1 + 1;
+            int pair = closestPair(totals, team1 * PERMUTATION_COUNT, totalCounts[team1],
+                    totals, team2 * PERMUTATION_COUNT, totalCounts[team2]);
+            gaps[match] = Math.abs(totals[team1 * PERMUTATION_COUNT + (pair >>> 8)]
+                    - totals[team2 * PERMUTATION_COUNT + (pair & 0xFF)]);
+        }
+
+        private int worstGap() {
+            int worst = 0;
+            for (int gap : gaps) {
+                worst = Math.max(worst, gap);
+            }
+            return worst;
+        }
+
+        private int gapSum() {
+            int sum = 0;
+            for (int gap : gaps) {
+                sum += gap;
+            }
+            return sum;
+        }
+    }
+
+    record Result(int[] slots, int worstGap, int gapSum, long iterations, boolean complete) {
+
+        boolean isBetterThan(Result other) {
+            return worstGap < other.worstGap || (worstGap == other.worstGap && gapSum < other.gapSum);
+        }
+    }
+}
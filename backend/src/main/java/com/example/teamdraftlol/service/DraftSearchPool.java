@@ -0,0 +1,32 @@
+package com.example.teamdraftlol.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+
+// 로비 선택/일괄 드래프트 탐색 전용 스레드 풀
+// 탐색 한 번이 시간 제한(최대 10초) 동안 모든 워커를 쓰므로, 공용 ForkJoinPool 대신 크기를 제한한 별도 풀에서 실행한다
+// 동시에 들어온 탐색은 같은 풀의 워커를 나눠 쓴다
+@Component
+public class DraftSearchPool {
+
+    private final ForkJoinPool pool;
+
+    public DraftSearchPool(@Value("${team.draft-search.parallelism:2}") int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("team.draft-search.parallelism는 1 이상이어야 합니다.");
+        }
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    ForkJoinPool pool() {
+        return pool;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.teamdraftlol.service;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+// 전적 목록 키셋 커서: 이전 페이지 마지막 게임의 (createdAt, gameId), 다음 페이지는 이보다 오래된 게임부터
+// 권한은 매 조회의 풀 조건으로 확인하므로 서명 없이 base64url로만 감싼다
+// 형식: [epoch 초 8B][나노초 4B][게임 ID 8B]
+public record GameRecordCursor(LocalDateTime createdAt, long gameId) {
+
+    private static final int LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH)
+                .putLong(createdAt.toEpochSecond(ZoneOffset.UTC))
+                .putInt(createdAt.getNano())
+                .putLong(gameId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static GameRecordCursor decode(String token) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            if (bytes.length != LENGTH) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            return new GameRecordCursor(createdAt, buffer.getLong());
+        } catch (IllegalArgumentException | BufferUnderflowException | DateTimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
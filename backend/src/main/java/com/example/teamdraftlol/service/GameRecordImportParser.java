@@ -0,0 +1,259 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.dto.request.GameRecordRequest;
+import com.example.teamdraftlol.dto.request.PlayerGameRecordRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// 전적 가져오기 파일을 한 줄씩 읽어 게임 단위로 돌려주는 파서 (파일 전체를 메모리에 올리지 않음)
+// NDJSON: 한 줄이 게임 하나, playerRecords의 각 전적은 playerId 대신 lolId
+//   {"team1Won":true,"team1Kills":30,...,"playerRecords":[{"lolId":"hide on bush","teamNumber":1,"assignedPosition":"MID",...}]}
+// CSV: 첫 줄은 헤더, 한 줄이 전적 하나, game 열 값이 같은 연속된 줄이 한 게임 (게임 값은 첫 줄 기준)
+//   game,team1Won,team1Kills,team2Kills,team1Gold,team2Gold,lolId,teamNumber,assignedPosition,kills,deaths,assists,cs
+abstract class GameRecordImportParser {
+
+    static final List<String> CSV_COLUMNS = List.of("game", "team1Won", "team1Kills", "team2Kills", "team1Gold",
+            "team2Gold", "lolId", "teamNumber", "assignedPosition", "kills", "deaths", "assists", "cs");
+
+    protected final BufferedReader reader;
+    protected int lineNumber;
+
+    GameRecordImportParser(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static GameRecordImportParser ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+        return new Ndjson(reader, objectMapper);
+    }
+
+    static GameRecordImportParser csv(BufferedReader reader) {
+        return new Csv(reader);
+    }
+
+    // 다음 게임, 파일 끝이면 null (형식 오류는 error가 채워진 게임으로 돌려주고 다음 게임으로 계속)
+    abstract ParsedGame next() throws IOException;
+
+    // 파싱한 게임 하나, 전적의 playerId는 lolId로 플레이어를 찾은 뒤 채운다
+    static final class ParsedGame {
+        final int line;
+        final GameRecordRequest request;
+        final List<String> lolIds;
+        final String error;
+
+        private ParsedGame(int line, GameRecordRequest request, List<String> lolIds, String error) {
+            this.line = line;
+            this.request = request;
+            this.lolIds = lolIds;
+            this.error = error;
+        }
+
+        static ParsedGame of(int line, GameRecordRequest request, List<String> lolIds) {
+            return new ParsedGame(line, request, lolIds, null);
+        }
+
+        static ParsedGame failed(int line, String error) {
+            return new ParsedGame(line, null, List.of(), error);
+        }
+    }
+
+    private static final class Ndjson extends GameRecordImportParser {
+        private final ObjectMapper objectMapper;
+
+        Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        ParsedGame next() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                if (text == null) {
+                    return null;
+                }
+                lineNumber++;
+            } while (text.isBlank());
+
+            try {
+                JsonNode node = objectMapper.readTree(text);
+                GameRecordRequest request = objectMapper.treeToValue(node, GameRecordRequest.class);
+                List<String> lolIds = new ArrayList<>();
+                JsonNode records = node.get("playerRecords");
+                if (records != null && records.isArray()) {
+                    for (JsonNode record : records) {
+                        lolIds.add(record.hasNonNull("lolId") ? record.get("lolId").asText() : null);
+                    }
+                }
+                return ParsedGame.of(lineNumber, request, lolIds);
+            } catch (JsonProcessingException e) {
+                return ParsedGame.failed(lineNumber, "JSON 형식이 잘못되었습니다: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private static final class Csv extends GameRecordImportParser {
+        private Map<String, Integer> columns;
+        // 다음 게임의 첫 줄 (게임 경계를 알려면 한 줄을 미리 읽어야 한다)
+        private String[] pending;
+        private int pendingLine;
+
+        Csv(BufferedReader reader) {
+            super(reader);
+        }
+
+        @Override
+        ParsedGame next() throws IOException {
+            if (columns == null && !readHeader()) {
+                return null;
+            }
+            String[] first = pending != null ? pending : readRow();
+            int firstLine = pending != null ? pendingLine : lineNumber;
+            pending = null;
+            if (first == null) {
+                return null;
+            }
+
+            List<String[]> rows = new ArrayList<>();
+            rows.add(first);
+            String gameKey = value(first, "game");
+            String[] row;
+            while ((row = readRow()) != null) {
+                if (!Objects.equals(value(row, "game"), gameKey)) {
+                    pending = row;
+                    pendingLine = lineNumber;
+                    break;
+                }
+                rows.add(row);
+            }
+            return toGame(firstLine, rows);
+        }
+
+        private boolean readHeader() throws IOException {
+            String[] header = readRow();
+            if (header == null) {
+                return false;
+            }
+            columns = new HashMap<>();
+            for (int i = 0; i < header.length; i++) {
+                columns.put(header[i].trim(), i);
+            }
+            for (String column : CSV_COLUMNS) {
+                if (!columns.containsKey(column)) {
+                    throw new IllegalArgumentException("CSV 헤더에 " + column + " 열이 없습니다.");
+                }
+            }
+            return true;
+        }
+
+        private ParsedGame toGame(int line, List<String[]> rows) {
+            String[] first = rows.get(0);
+            int rowLine = line;
+            try {
+                GameRecordRequest request = GameRecordRequest.builder()
+                        .team1Won(parseBoolean(value(first, "team1Won")))
+                        .team1Kills(parseInt(value(first, "team1Kills")))
+                        .team2Kills(parseInt(value(first, "team2Kills")))
+                        .team1Gold(parseInt(value(first, "team1Gold")))
+                        .team2Gold(parseInt(value(first, "team2Gold")))
+                        .playerRecords(new ArrayList<>(rows.size()))
+                        .build();
+                List<String> lolIds = new ArrayList<>(rows.size());
+                for (String[] row : rows) {
+                    request.getPlayerRecords().add(PlayerGameRecordRequest.builder()
+                            .teamNumber(parseInt(value(row, "teamNumber")))
+                            .assignedPosition(value(row, "assignedPosition"))
+                            .kills(parseInt(value(row, "kills")))
+                            .deaths(parseInt(value(row, "deaths")))
+                            .assists(parseInt(value(row, "assists")))
+                            .cs(parseInt(value(row, "cs")))
+                            .build());
+                    lolIds.add(value(row, "lolId"));
+                    rowLine++;
+                }
+                return ParsedGame.of(line, request, lolIds);
+            } catch (IllegalArgumentException e) {
+                return ParsedGame.failed(rowLine, e.getMessage());
+            }
+        }
+
+        private String value(String[] row, String column) {
+            int index = columns.get(column);
+            if (index >= row.length || row[index].isBlank()) {
+                return null;
+            }
+            return row[index].trim();
+        }
+
+        // 빈 줄은 건너뛴다, 따옴표로 감싼 값 안의 쉼표와 ""(따옴표 하나)를 지원 (값 안의 줄바꿈은 지원하지 않음)
+        private String[] readRow() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                if (text == null) {
+                    return null;
+                }
+                lineNumber++;
+            } while (text.isBlank());
+
+            List<String> values = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            values.add(current.toString());
+            return values.toArray(new String[0]);
+        }
+
+        private static Integer parseInt(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Integer.valueOf(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("숫자가 아닙니다: " + value);
+            }
+        }
+
+        private static Boolean parseBoolean(String value) {
+            if (value == null) {
+                return null;
+            }
+            if (value.equalsIgnoreCase("true") || value.equals("1")) {
+                return true;
+            }
+            if (value.equalsIgnoreCase("false") || value.equals("0")) {
+                return false;
+            }
+            throw new IllegalArgumentException("true/false 값이 아닙니다: " + value);
+        }
+    }
+}
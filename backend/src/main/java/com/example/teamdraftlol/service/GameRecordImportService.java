@@ -0,0 +1,267 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.dto.request.GameRecordRequest;
+import com.example.teamdraftlol.dto.request.PlayerGameRecordRequest;
+import com.example.teamdraftlol.dto.response.GameRecordImportResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 시즌 전적 일괄 가져오기: 파일을 스트리밍으로 읽어 CHUNK_SIZE 게임씩 저장
+// 청크마다 lolId → 플레이어 조회 1번, 게임 ID 발급 1번, 게임 INSERT 1번(unnest), 전적 JDBC 배치 INSERT 1번 (reWriteBatchedInserts로 여러 행 INSERT)
+// 청크마다 별도 트랜잭션이므로 한 청크의 저장 오류는 그 청크 게임만 실패로 기록하고 다음 청크를 계속한다
+@Service
+@RequiredArgsConstructor
+public class GameRecordImportService {
+
+    static final int CHUNK_SIZE = 500;
+    // 응답에 담는 줄별 오류 최대 개수 (실패 게임 수는 모두 센다)
+    static final int MAX_ERRORS = 1000;
+
+    private final PoolAccessControl poolAccessControl;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    // 풀에 속한 플레이어 중 lolId가 일치하는 플레이어 (같은 lolId가 여럿이면 모두)
+    private static final String FIND_POOL_PLAYERS_SQL =
+            "SELECT p.lol_id, p.player_id FROM pool_players pp JOIN players p ON p.player_id = pp.player_id " +
+            "WHERE pp.pool_id = ? AND p.lol_id = ANY(?::text[])";
+
+    // 게임 ID를 먼저 n개 받아 두고 직접 넣는다 (INSERT ... SELECT가 입력 순서대로 ID를 발급한다는 보장이 없음)
+    private static final String RESERVE_GAME_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('game_records', 'game_id')) FROM generate_series(1, ?)";
+
+    private static final String INSERT_GAMES_SQL =
+            "INSERT INTO game_records (game_id, user_id, team1_won, team1_kills, team2_kills, team1_gold, team2_gold, " +
+            "is_applied, pool_id, created_at) " +
+            "SELECT v.id, ?, v.won, v.k1, v.k2, v.g1, v.g2, false, ?, ? " +
+            "FROM unnest(?::bigint[], ?::boolean[], ?::int[], ?::int[], ?::int[], ?::int[]) AS v(id, won, k1, k2, g1, g2)";
+
+    private static final String INSERT_RECORDS_SQL =
+            "INSERT INTO player_game_records (game_id, player_id, team_number, assigned_position, kills, deaths, assists, cs) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // csv가 false면 NDJSON, 가져온 게임은 반영되지 않은 상태로 저장된다
+    public GameRecordImportResponse importGames(Long poolId, String userId, InputStream body, boolean csv) throws IOException {
+        long started = System.nanoTime();
+        checkCanAdd(poolId, userId);
+
+        ImportResult result = new ImportResult();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        GameRecordImportParser parser = csv
+                ? GameRecordImportParser.csv(reader)
+                : GameRecordImportParser.ndjson(reader, objectMapper);
+        List<GameRecordImportParser.ParsedGame> chunk = new ArrayList<>(CHUNK_SIZE);
+        GameRecordImportParser.ParsedGame game;
+        while ((game = parser.next()) != null) {
+            if (game.error != null) {
+                result.fail(game.line, game.error);
+                continue;
+            }
+            chunk.add(game);
+            if (chunk.size() == CHUNK_SIZE) {
+                importChunk(poolId, userId, chunk, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(poolId, userId, chunk, result);
+        }
+
+        return GameRecordImportResponse.builder()
+                .poolId(poolId)
+                .importedGames(result.imported)
+                .failedGames(result.failed)
+                .errors(result.errors)
+                .elapsedMs((System.nanoTime() - started) / 1_000_000)
+                .build();
+    }
+
+    // createGameRecord와 같은 규칙: owner 또는 member만 추가 가능
+    private void checkCanAdd(Long poolId, String userId) {
+        if (!poolAccessControl.role(poolId, userId).canAccess()) {
+            throw new IllegalArgumentException("풀의 멤버만 전적을 추가할 수 있습니다.");
+        }
+    }
+
+    private void importChunk(Long poolId, String userId, List<GameRecordImportParser.ParsedGame> chunk, ImportResult result) {
+        Set<String> ambiguous = new HashSet<>();
+        Map<String, Long> playerIds = findPoolPlayers(poolId, chunk, ambiguous);
+
+        List<GameRecordRequest> valid = new ArrayList<>(chunk.size());
+        List<Integer> validLines = new ArrayList<>(chunk.size());
+        for (GameRecordImportParser.ParsedGame game : chunk) {
+            String error = bindPlayers(game, poolId, playerIds, ambiguous);
+            if (error == null) {
+                error = validate(game.request);
+            }
+            if (error != null) {
+                result.fail(game.line, error);
+            } else {
+                valid.add(game.request);
+                validLines.add(game.line);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertGames(poolId, userId, valid));
+            result.imported += valid.size();
+        } catch (DataAccessException e) {
+            String message = "저장 중 오류가 발생했습니다: " + e.getMostSpecificCause().getMessage();
+            for (int line : validLines) {
+                result.fail(line, message);
+            }
+        }
+    }
+
+    private Map<String, Long> findPoolPlayers(Long poolId, List<GameRecordImportParser.ParsedGame> chunk, Set<String> ambiguous) {
+        Set<String> lolIds = new LinkedHashSet<>();
+        for (GameRecordImportParser.ParsedGame game : chunk) {
+            for (String lolId : game.lolIds) {
+                if (lolId != null) {
+                    lolIds.add(lolId);
+                }
+            }
+        }
+        Map<String, Long> playerIds = new HashMap<>();
+        if (lolIds.isEmpty()) {
+            return playerIds;
+        }
+        String[] lolIdArray = lolIds.toArray(new String[0]);
+        jdbcTemplate.query(FIND_POOL_PLAYERS_SQL, ps -> {
+            ps.setLong(1, poolId);
+            ps.setArray(2, ps.getConnection().createArrayOf("text", lolIdArray));
+        }, (RowCallbackHandler) rs -> {
+            if (playerIds.put(rs.getString(1), rs.getLong(2)) != null) {
+                ambiguous.add(rs.getString(1));
+            }
+        });
+        return playerIds;
+    }
+
+    // 전적의 lolId를 playerId로 바꿔 넣는다, 찾을 수 없으면 오류 메시지
+    private String bindPlayers(GameRecordImportParser.ParsedGame game, Long poolId, Map<String, Long> playerIds, Set<String> ambiguous) {
+        GameRecordRequest request = game.request;
+        request.setPoolId(poolId);
+        List<PlayerGameRecordRequest> records = request.getPlayerRecords();
+        if (records == null || records.isEmpty()) {
+            return "플레이어 전적이 없습니다.";
+        }
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < records.size(); i++) {
+            String lolId = i < game.lolIds.size() ? game.lolIds.get(i) : null;
+            if (lolId == null) {
+                return "playerRecords[" + i + "]: lolId가 없습니다.";
+            }
+            if (ambiguous.contains(lolId)) {
+                return "풀에 lolId가 같은 플레이어가 여러 명 있습니다: " + lolId;
+            }
+            Long playerId = playerIds.get(lolId);
+            if (playerId == null) {
+                return "풀에서 플레이어를 찾을 수 없습니다: " + lolId;
+            }
+            if (!seen.add(playerId)) {
+                return "같은 플레이어가 한 게임에 두 번 있습니다: " + lolId;
+            }
+            records.get(i).setPlayerId(playerId);
+        }
+        return null;
+    }
+
+    // 단건 등록(@Valid GameRecordRequest)과 같은 제약 검사
+    private String validate(GameRecordRequest request) {
+        Set<ConstraintViolation<GameRecordRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private void insertGames(Long poolId, String userId, List<GameRecordRequest> games) {
+        int size = games.size();
+        Boolean[] won = new Boolean[size];
+        Integer[] team1Kills = new Integer[size];
+        Integer[] team2Kills = new Integer[size];
+        Integer[] team1Gold = new Integer[size];
+        Integer[] team2Gold = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            GameRecordRequest game = games.get(i);
+            won[i] = game.getTeam1Won();
+            team1Kills[i] = game.getTeam1Kills();
+            team2Kills[i] = game.getTeam2Kills();
+            team1Gold[i] = game.getTeam1Gold();
+            team2Gold[i] = game.getTeam2Gold();
+        }
+        // 받은 ID를 정렬해 i번째 게임에 i번째 ID를 준다 (같은 청크는 같은 시각이므로 파일 순서가 game_id 순서가 된다)
+        List<Long> reserved = jdbcTemplate.queryForList(RESERVE_GAME_IDS_SQL, Long.class, size);
+        Collections.sort(reserved);
+        Long[] gameIds = reserved.toArray(new Long[0]);
+        // 단건 등록의 @CreationTimestamp와 같이 서버 시각
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(INSERT_GAMES_SQL, ps -> {
+            ps.setString(1, userId);
+            ps.setLong(2, poolId);
+            ps.setTimestamp(3, createdAt);
+            ps.setArray(4, ps.getConnection().createArrayOf("bigint", gameIds));
+            ps.setArray(5, ps.getConnection().createArrayOf("boolean", won));
+            ps.setArray(6, ps.getConnection().createArrayOf("integer", team1Kills));
+            ps.setArray(7, ps.getConnection().createArrayOf("integer", team2Kills));
+            ps.setArray(8, ps.getConnection().createArrayOf("integer", team1Gold));
+            ps.setArray(9, ps.getConnection().createArrayOf("integer", team2Gold));
+        });
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Long gameId = gameIds[i];
+            for (PlayerGameRecordRequest record : games.get(i).getPlayerRecords()) {
+                rows.add(new Object[]{gameId, record.getPlayerId(), record.getTeamNumber(), record.getAssignedPosition(),
+                        record.getKills(), record.getDeaths(), record.getAssists(), record.getCs()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_RECORDS_SQL, rows);
+    }
+
+    private static final class ImportResult {
+        int imported;
+        int failed;
+        List<GameRecordImportResponse.LineError> errors = new ArrayList<>();
+
+        void fail(int line, String message) {
+            failed++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(new GameRecordImportResponse.LineError(line, message));
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.teamdraftlol.service;
 
 import com.example.teamdraftlol.dto.request.GameRecordRequest;
 import com.example.teamdraftlol.dto.request.PlayerGameRecordRequest;
+import com.example.teamdraftlol.dto.response.GameRecordPageResponse;
 import com.example.teamdraftlol.dto.response.GameRecordResponse;
 import com.example.teamdraftlol.dto.response.GameRecordSummaryResponse;
 import com.example.teamdraftlol.dto.response.PlayerGameRecordResponse;
@@ -12,17 +13,27 @@ import com.example.teamdraftlol.entity.PlayerGameRecord;
 import com.example.teamdraftlol.entity.Pool;
 import com.example.teamdraftlol.repository.GameRecordRepository;
 import com.example.teamdraftlol.repository.PlayerGameRecordRepository;
+import com.example.teamdraftlol.repository.PlayerLaneStatsRepository;
 import com.example.teamdraftlol.repository.PlayerRepository;
 import com.example.teamdraftlol.repository.PoolRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import java.util.UUID;
 
 @Service
@@ -33,18 +44,25 @@ public class GameRecordService {
     private final PlayerGameRecordRepository playerGameRecordRepository;
     private final PlayerRepository playerRepository;
     private final PoolRepository poolRepository;
+    private final PlayerLaneStatsRepository playerLaneStatsRepository;
+    private final PoolAccessControl poolAccessControl;
+    private final PoolSnapshotCache poolSnapshotCache;
+    // 스트리밍 조회 중 영속성 컨텍스트를 비우는 용도 (트랜잭션에 묶인 공유 프록시가 주입된다)
+    private final EntityManager entityManager;
+    // 일괄 반영의 JDBC 배치 쓰기용
+    private final JdbcTemplate jdbcTemplate;
+    
+    private static final int MAX_PAGE_SIZE = 100;
     
     @Transactional
     public GameRecordResponse createGameRecord(String userId, GameRecordRequest request) {
-        // Pool 조회
-        Pool pool = poolRepository.findById(request.getPoolId())
-                .orElseThrow(() -> new IllegalArgumentException("풀을 찾을 수 없습니다."));
         // owner 또는 member만 추가 가능
-        boolean canAdd = pool.getOwner().getId().toString().equals(userId) ||
-                pool.getMembers().stream().anyMatch(m -> m.getId().toString().equals(userId));
-        if (!canAdd) {
+        PoolAccessControl.Role role = poolAccessControl.role(request.getPoolId(), userId);
+        if (!role.canAccess()) {
             throw new IllegalArgumentException("풀의 멤버만 전적을 추가할 수 있습니다.");
         }
+        // 권한 확인이 끝났으므로 풀은 외래 키로만 쓴다 (조회 없음)
+        Pool pool = poolRepository.getReferenceById(request.getPoolId());
         // 게임 기록 생성
         GameRecord gameRecord = GameRecord.builder()
                 .userId(userId)
@@ -83,11 +101,7 @@ public class GameRecordService {
         
         playerGameRecordRepository.saveAll(playerRecords);
         
-        // 권한 정보 계산
-        boolean isOwner = pool.getOwner().getId().toString().equals(userId);
-        boolean isMember = pool.getMembers().stream().anyMatch(m -> m.getId().toString().equals(userId));
-        
-        return convertToResponse(savedGameRecord, userId, isOwner, isMember);
+        return convertToResponse(savedGameRecord, userId, role.isOwner(), role.isMember());
     }
     
     @Transactional
@@ -96,7 +110,7 @@ public class GameRecordService {
                 .orElseThrow(() -> new IllegalArgumentException("게임 기록을 찾을 수 없습니다."));
         
         // Pool의 owner만 점수 반영 가능
-        if (!gameRecord.getPool().getOwner().getId().toString().equals(userId)) {
+        if (!poolAccessControl.role(gameRecord.getPool().getPoolId(), userId).isOwner()) {
             throw new IllegalArgumentException("풀의 소유자만 점수를 반영할 수 있습니다.");
         }
         
@@ -119,6 +133,74 @@ public class GameRecordService {
         // 게임 기록을 반영됨으로 표시
         gameRecord.setApplied(true);
         gameRecordRepository.save(gameRecord);
+        
+        // 플레이어 누적 통계에 이 게임을 더함
+        playerLaneStatsRepository.addGames(List.of(gameId), 1);
+        poolSnapshotCache.invalidate(poolRepository.findPoolIdsByGameIds(List.of(gameId)));
+    }
+    
+    // 풀의 반영 안 된 게임을 생성 순서대로 한 번에 반영 (풀 소유자만), 반영한 게임 수를 반환
+    // 게임·전적·플레이어를 한 번에 읽고 메모리에서 순서대로 계산한 뒤, 플레이어/전적/게임 변경을 JDBC 배치로 쓴다
+    @Transactional
+    public int applyPendingGames(Long poolId, String userId) {
+        // 같은 풀의 다른 일괄 반영/재계산과 겹치지 않도록 풀 행을 잠근다
+        Pool pool = poolRepository.findByIdForUpdate(poolId);
+        if (pool == null) {
+            throw new IllegalArgumentException("풀을 찾을 수 없습니다.");
+        }
+        if (!poolAccessControl.role(poolId, userId).isOwner()) {
+            throw new IllegalArgumentException("풀의 소유자만 점수를 반영할 수 있습니다.");
+        }
+        
+        // 읽기 전용으로 읽으므로 아래 계산에서 바꾼 값은 flush되지 않고, 쓰기는 배치로만 한다
+        // 전적이 없는 게임도 게임 행에서 읽으므로 함께 반영됨으로 표시된다 (반환값에도 포함)
+        List<Object[]> rows = playerGameRecordRepository.findPendingGamesWithRecordsByPoolId(poolId);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Map<Long, GameRecord> games = new LinkedHashMap<>();
+        Map<Long, List<PlayerGameRecord>> recordsByGame = new LinkedHashMap<>();
+        List<PlayerGameRecord> records = new ArrayList<>();
+        Map<Long, Player> playerMap = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            GameRecord game = (GameRecord) row[0];
+            games.putIfAbsent(game.getGameId(), game);
+            List<PlayerGameRecord> gameRecords = recordsByGame.computeIfAbsent(game.getGameId(), id -> new ArrayList<>());
+            PlayerGameRecord record = (PlayerGameRecord) row[1];
+            if (record != null) {
+                gameRecords.add(record);
+                records.add(record);
+                playerMap.putIfAbsent(record.getPlayer().getPlayerId(), record.getPlayer());
+            }
+        }
+        // 같은 Player 인스턴스를 이어서 바꾸므로 앞 게임 결과가 다음 게임의 점수/연승·연패가 된다
+        recordsByGame.forEach((gameId, gameRecords) -> applyScores(games.get(gameId), gameRecords, playerMap));
+        
+        // 게임부터 반영됨으로 표시, 그 사이 단건 반영된 게임이 있으면 예외로 전체를 롤백
+        int[] marked = jdbcTemplate.batchUpdate("UPDATE game_records SET is_applied = true WHERE game_id = ? AND NOT is_applied",
+                recordsByGame.keySet().stream()
+                        .map(gameId -> new Object[]{gameId})
+                        .collect(Collectors.toList()));
+        for (int count : marked) {
+            if (count == 0) {
+                throw new IllegalArgumentException("다른 요청에서 이미 반영된 게임이 있어 일괄 반영을 취소했습니다.");
+            }
+        }
+        jdbcTemplate.batchUpdate("UPDATE players SET score = ?, win_loss_streak = ? WHERE player_id = ?",
+                playerMap.values().stream()
+                        .map(player -> new Object[]{player.getScore(), player.getWinLossStreak(), player.getPlayerId()})
+                        .collect(Collectors.toList()));
+        jdbcTemplate.batchUpdate("UPDATE player_game_records SET win_loss_streak_at_game = ?, applied_score_delta = ?, " +
+                        "applied_streak_bonus = ? WHERE record_id = ?",
+                records.stream()
+                        .map(record -> new Object[]{record.getWinLossStreakAtGame(), record.getAppliedScoreDelta(),
+                                record.getAppliedStreakBonus(), record.getRecordId()})
+                        .collect(Collectors.toList()));
+        playerLaneStatsRepository.addGames(new ArrayList<>(recordsByGame.keySet()), 1);
+        if (!playerMap.isEmpty()) {
+            poolSnapshotCache.invalidate(poolRepository.findPoolIdsByPlayerIds(new ArrayList<>(playerMap.keySet())));
+        }
+        return recordsByGame.size();
     }
     
     @Transactional
@@ -127,7 +209,7 @@ public class GameRecordService {
                 .orElseThrow(() -> new IllegalArgumentException("게임 기록을 찾을 수 없습니다."));
         
         // Pool의 owner만 점수 반영 취소 가능
-        if (!gameRecord.getPool().getOwner().getId().toString().equals(userId)) {
+        if (!poolAccessControl.role(gameRecord.getPool().getPoolId(), userId).isOwner()) {
             throw new IllegalArgumentException("풀의 소유자만 점수 반영을 취소할 수 있습니다.");
         }
         
@@ -144,179 +226,38 @@ public class GameRecordService {
         gameRecordRepository.save(gameRecord);
     }
     
-    private int getStreakBonus(Integer streak, boolean isWinner) {
-        int s = streak != null ? streak : 0;
-        int futureStreak = isWinner
-            ? (s < 0 ? 1 : s + 1)
-            : (s > 0 ? -1 : s - 1);
-        if (isWinner) {
-            if (futureStreak >= 2) return futureStreak;
-            else return 0;
-        } else {
-            if (futureStreak <= -2) return -futureStreak;
-            else return 0;
+    private void calculateAndApplyScores(GameRecord gameRecord, List<PlayerGameRecord> playerRecords, Map<Long, Player> playerMap) {
+        applyScores(gameRecord, playerRecords, playerMap);
+        for (PlayerGameRecord record : playerRecords) {
+            playerRepository.save(playerMap.get(record.getPlayer().getPlayerId()));
         }
+        playerGameRecordRepository.saveAll(playerRecords);
     }
 
-    private void calculateAndApplyScores(GameRecord gameRecord, List<PlayerGameRecord> playerRecords, Map<Long, Player> playerMap) {
-        for (PlayerGameRecord record : playerRecords) {
+    // 점수 반영 계산만 (엔티티 값 변경, 저장 없음), 여러 게임을 이어서 호출하면 연승/연패와 점수가 순서대로 이어진다
+    // 테스트와 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+    static void applyScores(GameRecord gameRecord, List<PlayerGameRecord> playerRecords, Map<Long, Player> playerMap) {
+        ScoreKernel.Game game = ScoreKernel.Game.of(gameRecord, playerRecords);
+        for (int slot = 0; slot < playerRecords.size(); slot++) {
+            PlayerGameRecord record = playerRecords.get(slot);
             Player player = playerMap.get(record.getPlayer().getPlayerId());
-            boolean isWinner = (record.getTeamNumber() == 1 && gameRecord.isTeam1Won()) ||
-                    (record.getTeamNumber() == 2 && !gameRecord.isTeam1Won());
-            int total = isWinner ? 0 : -15;
-            double kda = record.getDeaths() == 0 ? record.getKills() + record.getAssists() : (double) (record.getKills() + record.getAssists()) / record.getDeaths();
-            PlayerGameRecord opponent = playerRecords.stream()
-                    .filter(p -> p.getAssignedPosition().equals(record.getAssignedPosition()) && p.getTeamNumber() != record.getTeamNumber())
-                    .findFirst().orElse(null);
-            double coef = getLaneCoef(record.getAssignedPosition());
-            // KDA
-            if (isWinner) {
-                total += (int) Math.round(kda * coef);
-            } else {
-                total -= (int) Math.round(kda * coef);
-            }
-            // 골드 차이
-            int myTeamGold = record.getTeamNumber() == 1 ? gameRecord.getTeam1Gold() : gameRecord.getTeam2Gold();
-            int oppTeamGold = record.getTeamNumber() == 1 ? gameRecord.getTeam2Gold() : gameRecord.getTeam1Gold();
-            int goldDiff = (int) Math.round(((double) myTeamGold / (oppTeamGold == 0 ? 1 : oppTeamGold)) * 3);
-            total += isWinner ? goldDiff : -goldDiff;
-            // 킬 차이
-            int myTeamKills = record.getTeamNumber() == 1 ? gameRecord.getTeam1Kills() : gameRecord.getTeam2Kills();
-            int oppTeamKills = record.getTeamNumber() == 1 ? gameRecord.getTeam2Kills() : gameRecord.getTeam1Kills();
-            int killDiff = (int) Math.round((myTeamKills - oppTeamKills) * 0.5);
-            total += isWinner ? killDiff : -killDiff;
-            // CS 차이
-            if (opponent != null) {
-                int cs = record.getCs();
-                int csOpponent = opponent.getCs();
-                double csCoefFactor = 3;
-                int csCoef = (int) Math.round(((double) Math.max(cs, csOpponent) / Math.max(Math.min(cs, csOpponent), 1)) * csCoefFactor);
-                total += cs > csOpponent ? csCoef : -csCoef;
-            }
-            // 점수 차이
-            if (opponent != null) {
-                int myScore = player.getScore();
-                int oppScore = opponent.getPlayer().getScore();
-                if (myScore < oppScore) {
-                    if (!isWinner) {
-                        total += (int) Math.round(((double) oppScore / (myScore == 0 ? 1 : myScore)) * 2);
-                    } else {
-                        total += (int) Math.round(((double) oppScore / (myScore == 0 ? 1 : myScore)) * 5);
-                    }
-                } else if (myScore > oppScore) {
-                    if (!isWinner) {
-                        total -= (int) Math.round(((double) myScore / (oppScore == 0 ? 1 : oppScore)) * 5);
-                    } else {
-                        total -= (int) Math.round(((double) myScore / (oppScore == 0 ? 1 : oppScore)) * 2);
-                    }
-                }
-            }
-            if (isWinner) total = Math.max(10, Math.min(75, total));
-            else total = Math.max(-75, Math.min(-10, total));
+            boolean isWinner = game.isWinner(slot);
             // streakBonus 적용 (반영 전 streak 기준)
             Integer currentStreak = player.getWinLossStreak();
             if (currentStreak == null) currentStreak = 0;
             record.setWinLossStreakAtGame(currentStreak); // 반드시 업데이트 전에!
-            int streakBonus = getStreakBonus(currentStreak, isWinner);
-            total += streakBonus;
-            int currentScore = player.getScore();
-            int newScore = Math.max(0, currentScore + total);
-            player.setScore(newScore);
+            game.streaks[slot] = currentStreak;
+            // 이후 플레이어의 맞라인 점수 비교에는 이미 반영된 새 점수(game.scores)를 사용
+            int delta = ScoreKernel.applySlot(game, slot);
+            player.setScore(game.scores[slot]);
+            // 취소 시 그대로 빼기 위해 실제 변화량(0점 하한 적용 후)을 기록
+            record.setAppliedScoreDelta(delta);
+            record.setAppliedStreakBonus(ScoreKernel.streakBonus(currentStreak, isWinner));
             // 이제 streak 업데이트 (반영 후)
-            if (isWinner) {
-                if (currentStreak < 0) {
-                    player.setWinLossStreak(1);
-                } else {
-                    player.setWinLossStreak(currentStreak + 1);
-                }
-            } else {
-                if (currentStreak > 0) {
-                    player.setWinLossStreak(-1);
-                } else {
-                    player.setWinLossStreak(currentStreak - 1);
-                }
-            }
-            playerRepository.save(player);
-        }
-        playerGameRecordRepository.saveAll(playerRecords);
-    }
-
-    private double getLaneCoef(String position) {
-        switch (position) {
-            case "TOP": return 1.5;
-            case "JGL": return 1.2;
-            case "MID": return 1.2;
-            case "ADC": return 1.0;
-            case "SUP": return 0.8;
-            default: return 1.0;
+            player.setWinLossStreak(ScoreKernel.nextStreak(currentStreak, isWinner));
         }
     }
 
-    private int calculateSimulatedScore(PlayerGameRecord record, List<PlayerGameRecord> playerRecords, GameRecord gameRecord) {
-        boolean isWinner = (record.getTeamNumber() == 1 && gameRecord.isTeam1Won()) ||
-                (record.getTeamNumber() == 2 && !gameRecord.isTeam1Won());
-        int total = isWinner ? 7 : -7;
-        double kda = record.getDeaths() == 0 ? record.getKills() + record.getAssists() : (double) (record.getKills() + record.getAssists()) / record.getDeaths();
-        PlayerGameRecord opponent = playerRecords.stream()
-                .filter(p -> p.getAssignedPosition().equals(record.getAssignedPosition()) && p.getTeamNumber() != record.getTeamNumber())
-                .findFirst().orElse(null);
-        double kdaOpponent = opponent != null ? (opponent.getDeaths() == 0 ? opponent.getKills() + opponent.getAssists() : (double) (opponent.getKills() + opponent.getAssists()) / opponent.getDeaths()) : 1.0;
-        double coef = getLaneCoef(record.getAssignedPosition());
-        if (isWinner) {
-            total += Math.round(kda * coef);
-        } else {
-            total -= Math.round((kdaOpponent / (kda == 0 ? 1 : kda)) * coef);
-        }
-        int myTeamGold = record.getTeamNumber() == 1 ? gameRecord.getTeam1Gold() : gameRecord.getTeam2Gold();
-        int oppTeamGold = record.getTeamNumber() == 1 ? gameRecord.getTeam2Gold() : gameRecord.getTeam1Gold();
-        int goldDiff = (int) Math.round(((double) myTeamGold / (oppTeamGold == 0 ? 1 : oppTeamGold)) * 3);
-        total += isWinner ? goldDiff : -goldDiff;
-        int myTeamKills = record.getTeamNumber() == 1 ? gameRecord.getTeam1Kills() : gameRecord.getTeam2Kills();
-        int oppTeamKills = record.getTeamNumber() == 1 ? gameRecord.getTeam2Kills() : gameRecord.getTeam1Kills();
-        int killDiff = (int) Math.round((myTeamKills - oppTeamKills) * 0.5);
-        total += isWinner ? killDiff : -killDiff;
-        if (opponent != null) {
-            int cs = record.getCs();
-            int csOpponent = opponent.getCs();
-            int csCoef = (int) Math.round(((double) Math.max(cs, csOpponent) / Math.max(Math.min(cs, csOpponent), 1)) * 5);
-            total += cs > csOpponent ? csCoef : -csCoef;
-        }
-        if (opponent != null) {
-            int kdaCoef = (int) Math.round((Math.max(kda, kdaOpponent) / Math.max(Math.min(kda, kdaOpponent), 1)) * 5);
-            total += kda > kdaOpponent ? kdaCoef : -kdaCoef;
-        }
-        if (opponent != null) {
-            int myScore = record.getPlayer().getScore();
-            int oppScore = opponent.getPlayer().getScore();
-            double scoreCoef = (double) Math.max(myScore, oppScore) / Math.max(Math.min(myScore, oppScore), 1);
-            if (myScore < oppScore) {
-                if (!isWinner) {
-                    total += Math.round(scoreCoef);
-                    total -= Math.round(scoreCoef * 3);
-                } else {
-                    total += Math.round(scoreCoef * 3);
-                    total -= Math.round(scoreCoef * 5);
-                }
-            }
-        }
-        if (isWinner) total = Math.max(10, Math.min(75, total));
-        else total = Math.max(-75, Math.min(-10, total));
-        // streakBonus 적용
-        Integer storedStreak = record.getWinLossStreakAtGame();
-        int streak;
-        if (storedStreak != null) {
-            streak = storedStreak;
-        } else {
-            // 저장된 값이 없으면 현재 플레이어의 streak 사용
-            Player player = record.getPlayer();
-            Integer currentStreak = player.getWinLossStreak();
-            streak = currentStreak != null ? currentStreak : 0;
-        }
-        int streakBonus = getStreakBonus(streak, isWinner);
-        total += streakBonus;
-        return total;
-    }
-    
     public List<GameRecordSummaryResponse> getUserGameRecords(String userId) {
         // 내가 owner이거나 멤버로 속한 모든 풀 조회
         List<Pool> myPools = poolRepository.findByOwnerIdOrMemberId(UUID.fromString(userId));
@@ -338,22 +279,64 @@ public class GameRecordService {
                 .collect(Collectors.toList());
     }
     
+    // 전적 목록 한 페이지 (최신순, 키셋 페이지네이션), 히스토리 길이와 관계없이 쿼리 1번
+    // size + 1개를 읽어 다음 페이지가 있는지 판단
+    public GameRecordPageResponse getUserGameRecordPage(String userId, String cursor, int size,
+                                                        Long poolId, LocalDateTime from, LocalDateTime to) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        GameRecordCursor after = cursor == null || cursor.isBlank() ? null : GameRecordCursor.decode(cursor);
+        List<GameRecordSummaryResponse> rows = gameRecordRepository.findSummaryPage(UUID.fromString(userId), poolId, from, to,
+                        after != null ? after.createdAt() : null,
+                        after != null ? after.gameId() : null,
+                        size + 1)
+                .stream()
+                .map(GameRecordService::toSummary)
+                .collect(Collectors.toList());
+        if (rows.size() <= size) {
+            return GameRecordPageResponse.builder().records(rows).build();
+        }
+        List<GameRecordSummaryResponse> page = rows.subList(0, size);
+        GameRecordSummaryResponse last = page.get(size - 1);
+        return GameRecordPageResponse.builder()
+                .records(new ArrayList<>(page))
+                .nextCursor(new GameRecordCursor(last.getCreatedAt(), last.getGameId()).encode())
+                .build();
+    }
+    
+    // findSummaryPage 행을 응답으로 (네이티브 조회의 시각은 드라이버/설정에 따라 Timestamp 또는 LocalDateTime)
+    private static GameRecordSummaryResponse toSummary(Object[] row) {
+        Object createdAt = row[7];
+        return GameRecordSummaryResponse.builder()
+                .gameId(((Number) row[0]).longValue())
+                .team1Won((Boolean) row[1])
+                .team1Kills(((Number) row[2]).intValue())
+                .team2Kills(((Number) row[3]).intValue())
+                .team1Gold(((Number) row[4]).intValue())
+                .team2Gold(((Number) row[5]).intValue())
+                .isApplied((Boolean) row[6])
+                .createdAt(createdAt instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) createdAt)
+                .build();
+    }
+    
+    // 게임+권한 1번, 전적(플레이어 포함) 1번으로 응답을 만든다 (권한 캐시를 거치지 않으므로 캐시 적중 여부와 관계없이 쿼리 2번)
+    @Transactional(readOnly = true)
     public GameRecordResponse getGameRecordById(Long gameId, String userId) {
-        GameRecord gameRecord = gameRecordRepository.findById(gameId)
-                .orElseThrow(() -> new IllegalArgumentException("게임 기록을 찾을 수 없습니다."));
+        List<Object[]> rows = gameRecordRepository.findWithRoleByGameId(gameId, UUID.fromString(userId));
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("게임 기록을 찾을 수 없습니다.");
+        }
+        GameRecord gameRecord = (GameRecord) rows.get(0)[0];
         
         // 풀의 owner 또는 멤버만 열람 가능하도록 권한 체크
-        Pool pool = gameRecord.getPool();
-        String ownerId = pool.getOwner().getId().toString();
-        boolean isOwner = ownerId.equals(userId);
-        boolean isMember = pool.getMembers().stream().anyMatch(m -> m.getId().toString().equals(userId));
-        
-        if (!isOwner && !isMember) {
+        PoolAccessControl.Role role = PoolAccessControl.Role.valueOf((String) rows.get(0)[1]);
+        if (!role.canAccess()) {
             throw new IllegalArgumentException("접근 권한이 없습니다.");
         }
         
         // 권한 정보를 미리 계산해서 전달
-        return convertToResponse(gameRecord, userId, isOwner, isMember);
+        return convertToResponse(gameRecord, userId, role.isOwner(), role.isMember());
     }
 
     @Transactional
@@ -362,10 +345,8 @@ public class GameRecordService {
                 .orElseThrow(() -> new IllegalArgumentException("게임 기록을 찾을 수 없습니다."));
         
         // Pool의 owner 또는 멤버만 수정 가능
-        Pool pool = gameRecord.getPool();
-        boolean isOwner = pool.getOwner().getId().toString().equals(userId);
-        boolean isMember = pool.getMembers().stream().anyMatch(m -> m.getId().toString().equals(userId));
-        if (!isOwner && !isMember) {
+        PoolAccessControl.Role role = poolAccessControl.role(gameRecord.getPool().getPoolId(), userId);
+        if (!role.canAccess()) {
             throw new IllegalArgumentException("풀의 소유자 또는 멤버만 전적을 수정할 수 있습니다.");
         }
         
@@ -412,23 +393,28 @@ public class GameRecordService {
         
         playerGameRecordRepository.saveAll(newPlayerRecords);
         
-        return convertToResponse(savedGameRecord, userId, isOwner, isMember);
+        return convertToResponse(savedGameRecord, userId, role.isOwner(), role.isMember());
     }
 
     public GameRecordResponse convertToResponse(GameRecord gameRecord, String userId, boolean isOwner, boolean isMember) {
-        List<PlayerGameRecord> playerRecords = playerGameRecordRepository.findByGameRecord_GameId(gameRecord.getGameId());
-        
-        List<PlayerGameRecordResponse> playerResponses = playerRecords.stream()
-                .map(pr -> {
+        List<PlayerGameRecord> playerRecords = playerGameRecordRepository.findWithPlayerByGameId(gameRecord.getGameId());
+        return convertToResponse(GameSnapshot.of(gameRecord, playerRecords), isOwner, isMember);
+    }
+    
+    // 스냅샷에 모인 값만 사용하므로 추가 조회가 없다
+    private GameRecordResponse convertToResponse(GameSnapshot snapshot, boolean isOwner, boolean isMember) {
+        GameRecord gameRecord = snapshot.gameRecord();
+        List<PlayerGameRecordResponse> playerResponses = IntStream.range(0, snapshot.size())
+                .mapToObj(slot -> {
                     // 시뮬레이션 점수 계산
-                    Player player = pr.getPlayer();
+                    PlayerGameRecord pr = snapshot.record(slot);
+                    Player player = snapshot.player(slot);
                     int beforeScore = player.getScore();
-                    int simulatedScore = calculateSimulatedScore(pr, playerRecords, gameRecord);
+                    int simulatedScore = snapshot.simulatedDelta(slot);
                     int afterScore = Math.max(0, beforeScore + simulatedScore);
                     
                     // 연승/연패 보너스 계산
-                    boolean isWinner = (pr.getTeamNumber() == 1 && gameRecord.isTeam1Won()) ||
-                                     (pr.getTeamNumber() == 2 && !gameRecord.isTeam1Won());
+                    boolean isWinner = snapshot.isWinner(slot);
                     
                     // 반영된 게임의 경우 저장된 streakBonus 사용, 반영되지 않은 게임의 경우 계산
                     int streakBonus;
@@ -436,14 +422,14 @@ public class GameRecordService {
                         // 반영된 게임: 저장된 winLossStreakAtGame 값을 사용하여 계산
                         streakBonus = calculateStreakBonusFromStoredData(pr, isWinner);
                     } else {
-                        // 반영되지 않은 게임: 현재 상태로 계산
-                        streakBonus = calculateStreakBonus(gameRecord.getUserId(), player.getPlayerId(), isWinner, gameRecord);
+                        // 반영되지 않은 게임: 저장된 연승/연패 (없으면 현재 상태)로 계산
+                        streakBonus = calculateStreakBonus(snapshot.streak(slot), isWinner);
                     }
                     
                     return PlayerGameRecordResponse.builder()
-                            .playerId(pr.getPlayer().getPlayerId())
-                            .playerName(pr.getPlayer().getName())
-                            .lolId(pr.getPlayer().getLolId())
+                            .playerId(player.getPlayerId())
+                            .playerName(player.getName())
+                            .lolId(player.getLolId())
                             .teamNumber(pr.getTeamNumber())
                             .assignedPosition(pr.getAssignedPosition())
                             .kills(pr.getKills())
@@ -474,26 +460,8 @@ public class GameRecordService {
                 .build();
     }
     
-    private int calculateStreakBonus(String userId, Long playerId, boolean isWinner, GameRecord currentGame) {
-        // PlayerGameRecord에서 해당 플레이어의 기록 찾기
-        List<PlayerGameRecord> playerRecords = playerGameRecordRepository.findByGameRecord_GameId(currentGame.getGameId());
-        PlayerGameRecord playerRecord = playerRecords.stream()
-                .filter(pr -> pr.getPlayer().getPlayerId().equals(playerId))
-                .findFirst()
-                .orElse(null);
-        
-        if (playerRecord == null) return 0;
-        
-        // 저장된 연승/연패 상태 사용 (없으면 현재 상태 사용)
-        Integer currentStreak = playerRecord.getWinLossStreakAtGame();
-        if (currentStreak == null) {
-            // 저장된 값이 없으면 현재 플레이어 상태 사용 (기존 게임 기록들)
-            Player player = playerRepository.findById(playerId).orElse(null);
-            if (player == null) return 0;
-            currentStreak = player.getWinLossStreak();
-            if (currentStreak == null) currentStreak = 0;
-        }
-        
+    // 게임 시점 연승/연패(currentStreak)에 이번 결과를 반영했을 때의 화면 표시용 보너스
+    private int calculateStreakBonus(int currentStreak, boolean isWinner) {
         // 이번 게임을 반영했을 때의 연승/연패 상태 계산
         int futureStreak;
         if (isWinner) {
@@ -538,46 +506,44 @@ public class GameRecordService {
         if (storedStreak == null) {
             return 0; // 저장된 값이 없으면 0 반환
         }
-        
-        // 저장된 연승/연패 상태를 기반으로 미래 상태 계산
-        int futureStreak;
-        if (isWinner) {
-            // 승리 시
-            if (storedStreak < 0) {
-                // 연패 중이었다면 1로 리셋
-                futureStreak = 1;
-            } else {
-                // 연승 중이었다면 +1
-                futureStreak = storedStreak + 1;
-            }
-        } else {
-            // 패배 시
-            if (storedStreak > 0) {
-                // 연승 중이었다면 -1로 리셋
-                futureStreak = -1;
-            } else {
-                // 연패 중이었다면 -1
-                futureStreak = storedStreak - 1;
-            }
-        }
-        
-        // 연승/연패 보너스 계산 (미래 상태 기준)
-        if (isWinner) {
-            if (futureStreak >= 2) return futureStreak;
-            else return 0;
-        } else {
-            if (futureStreak <= -2) return -futureStreak;
-            else return 0;
-        }
+        // 저장된 연승/연패 상태를 기반으로 이번 결과를 반영한 보너스 (점수 계산과 같은 규칙)
+        return ScoreKernel.streakBonus(storedStreak, isWinner);
     }
 
+    // 반영 때 저장한 변화량으로 되돌림 (재계산 없이 UPDATE 한 번)
+    // 영속성 컨텍스트가 비워지므로 호출 후에는 다시 조회하거나 save(merge)로 변경을 반영해야 한다
+    // 누적 통계는 저장된 변화량을 지우기 전에 먼저 뺀다
     private void reverseGameResultFromScores(GameRecord gameRecord) {
-        List<PlayerGameRecord> playerRecords = playerGameRecordRepository.findByGameRecord_GameId(gameRecord.getGameId());
-        Map<Long, Player> playerMap = new HashMap<>();
-        for (PlayerGameRecord record : playerRecords) {
-            playerMap.put(record.getPlayer().getPlayerId(), record.getPlayer());
+        Long gameId = gameRecord.getGameId();
+        // 변화량이 저장되지 않은 (이전 방식으로 반영된) 게임은 뺄 값을 모르므로 거부, 반영 상태를 풀면 다시 반영할 때 점수가 두 번 들어간다
+        // 반영 취소와 수정(수정은 먼저 반영을 취소한다) 모두 막히고, 점수를 건드리지 않는 삭제만 가능하다
+        if (playerGameRecordRepository.countByGameRecord_GameIdAndAppliedScoreDeltaIsNull(gameId) > 0) {
+            throw new IllegalArgumentException("점수 변화량이 저장되지 않은 (이전 방식으로 반영된) 게임은 점수 반영 취소와 수정을 할 수 없습니다. " +
+                    "삭제는 가능하며 이미 반영된 점수는 그대로 남습니다.");
+        }
+        // 이 게임 이후에도 반영된 게임이 있는 플레이어는 게임 직전 값이 아니라 남은 반영 게임으로 현재 연승/연패를 다시 계산
+        Map<Long, Integer> streaks = streaksWithoutGame(gameId, playerGameRecordRepository.findAppliedChainsWithLaterGames(gameId));
+        playerLaneStatsRepository.addGames(List.of(gameId), -1);
+        playerGameRecordRepository.revertAppliedScores(gameId);
+        streaks.forEach(playerRepository::updateWinLossStreak);
+        poolSnapshotCache.invalidate(poolRepository.findPoolIdsByGameIds(List.of(gameId)));
+    }
+
+    // 플레이어별 반영 순서의 전적 행(player_id, game_id, 승리 여부, win_loss_streak_at_game)에서 cancelledGameId를 뺀 현재 연승/연패
+    // 첫 전적의 게임 직전 값(취소할 게임이 가장 앞이면 그 게임의 직전 값)에서 시작해 남은 게임 결과를 점수 반영과 같은 규칙으로 이어 간다
+    // 이후 게임들에 저장된 연승/연패·보너스는 바꾸지 않는다 (전체 재구성은 풀 다시 계산)
+    static Map<Long, Integer> streaksWithoutGame(long cancelledGameId, List<Object[]> rows) {
+        Map<Long, Integer> streaks = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            Long playerId = ((Number) row[0]).longValue();
+            if (!streaks.containsKey(playerId)) {
+                streaks.put(playerId, row[3] != null ? ((Number) row[3]).intValue() : 0);
+            }
+            if (((Number) row[1]).longValue() != cancelledGameId) {
+                streaks.put(playerId, ScoreKernel.nextStreak(streaks.get(playerId), (Boolean) row[2]));
+            }
         }
-        // 점수 되돌리기 로직은 현재 구현되지 않음
+        return streaks;
     }
 
     @Transactional
@@ -586,49 +552,85 @@ public class GameRecordService {
                 .orElseThrow(() -> new IllegalArgumentException("게임 기록을 찾을 수 없습니다."));
         
         // 풀의 owner만 삭제할 수 있음
-        if (!gameRecord.getPool().getOwner().getId().toString().equals(userId)) {
+        if (!poolAccessControl.role(gameRecord.getPool().getPoolId(), userId).isOwner()) {
             throw new IllegalArgumentException("풀의 소유자만 전적을 삭제할 수 있습니다.");
         }
         
-        // 점수 되돌리기 없이 바로 삭제
+        // 점수 되돌리기 없이 바로 삭제 (누적 통계는 전적 기준이므로 반영된 게임이면 뺀다)
+        if (gameRecord.isApplied()) {
+            playerLaneStatsRepository.addGames(List.of(gameId), -1);
+        }
         List<PlayerGameRecord> playerRecords = playerGameRecordRepository.findByGameRecord_GameId(gameId);
         playerGameRecordRepository.deleteAll(playerRecords);
         gameRecordRepository.delete(gameRecord);
     }
 
+    @Transactional(readOnly = true)
     public List<SimulatedScoreResponse> simulateScores(String userId) {
-        // 내가 owner이거나 멤버로 속한 모든 풀 조회
-        List<Pool> myPools = poolRepository.findByOwnerIdOrMemberId(UUID.fromString(userId));
-        List<Long> myPoolIds = myPools.stream().map(Pool::getPoolId).collect(Collectors.toList());
-        if (myPoolIds.isEmpty()) return new ArrayList<>();
-        // 해당 풀들의 모든 전적 조회
-        List<GameRecord> gameRecords = gameRecordRepository.findByPool_PoolIdInOrderByCreatedAtDesc(myPoolIds);
-        List<SimulatedScoreResponse> result = new ArrayList<>();
-        for (GameRecord gameRecord : gameRecords) {
-            List<PlayerGameRecord> playerRecords = playerGameRecordRepository.findByGameRecord_GameId(gameRecord.getGameId());
-            for (PlayerGameRecord record : playerRecords) {
-                Player player = record.getPlayer();
-                int beforeScore = player.getScore();
-                int simulatedScore = calculateSimulatedScore(record, playerRecords, gameRecord);
-                int afterScore = Math.max(0, beforeScore + simulatedScore);
-                boolean isWinner = (record.getTeamNumber() == 1 && gameRecord.isTeam1Won()) ||
-                                   (record.getTeamNumber() == 2 && !gameRecord.isTeam1Won());
-                result.add(SimulatedScoreResponse.builder()
-                        .playerId(player.getPlayerId())
-                        .playerName(player.getName())
-                        .lolId(player.getLolId())
-                        .beforeScore(beforeScore)
-                        .afterScore(afterScore)
-                        .gameId(gameRecord.getGameId())
-                        .assignedPosition(record.getAssignedPosition())
-                        .kills(record.getKills())
-                        .deaths(record.getDeaths())
-                        .assists(record.getAssists())
-                        .cs(record.getCs())
-                        .isWinner(isWinner)
-                        .build());
-            }
+        // 내가 owner이거나 멤버로 속한 풀의 플레이어 전적을 게임·플레이어와 함께 한 번의 쿼리로 조회
+        // 게임 수와 관계없이 쿼리 수가 일정하다
+        List<PlayerGameRecord> records = playerGameRecordRepository.findAllWithGameAndPlayerByUserId(UUID.fromString(userId));
+        // 조회 순서(게임 최신순)를 유지하며 게임별로 묶음
+        Map<Long, List<PlayerGameRecord>> recordsByGame = new LinkedHashMap<>();
+        for (PlayerGameRecord record : records) {
+            recordsByGame.computeIfAbsent(record.getGameRecord().getGameId(), gameId -> new ArrayList<>()).add(record);
+        }
+        List<SimulatedScoreResponse> result = new ArrayList<>(records.size());
+        for (List<PlayerGameRecord> playerRecords : recordsByGame.values()) {
+            simulateGame(playerRecords, result::add);
         }
         return result;
     }
+
+    // simulateScores의 스트리밍 버전: 결과를 계산하는 즉시 sink로 넘긴다
+    // 전방향 커서(fetch size 힌트)로 읽고 한 게임의 전적만 메모리에 두며, 게임마다 영속성 컨텍스트를 비워 기록이 길어도 메모리 사용량이 일정하다
+    @Transactional(readOnly = true)
+    public void streamSimulatedScores(String userId, Consumer<SimulatedScoreResponse> sink) {
+        try (Stream<PlayerGameRecord> records = playerGameRecordRepository.streamAllWithGameAndPlayerByUserId(UUID.fromString(userId))) {
+            List<PlayerGameRecord> playerRecords = new ArrayList<>();
+            Iterator<PlayerGameRecord> iterator = records.iterator();
+            while (iterator.hasNext()) {
+                PlayerGameRecord record = iterator.next();
+                // 조회 결과는 게임별로 연속되어 있으므로 게임 ID가 바뀌면 이전 게임을 계산
+                if (!playerRecords.isEmpty()
+                        && !playerRecords.get(0).getGameRecord().getGameId().equals(record.getGameRecord().getGameId())) {
+                    simulateGame(playerRecords, sink);
+                    playerRecords.clear();
+                    entityManager.clear();
+                }
+                playerRecords.add(record);
+            }
+            if (!playerRecords.isEmpty()) {
+                simulateGame(playerRecords, sink);
+            }
+        }
+    }
+
+    // 한 게임의 전적(같은 게임의 플레이어 전적 전체)으로 플레이어별 시뮬레이션 결과를 만든다
+    private void simulateGame(List<PlayerGameRecord> playerRecords, Consumer<SimulatedScoreResponse> sink) {
+        GameRecord gameRecord = playerRecords.get(0).getGameRecord();
+        ScoreKernel.Game game = ScoreKernel.Game.of(gameRecord, playerRecords);
+        for (int slot = 0; slot < playerRecords.size(); slot++) {
+            PlayerGameRecord record = playerRecords.get(slot);
+            Player player = record.getPlayer();
+            int beforeScore = player.getScore();
+            int simulatedScore = ScoreKernel.scoreDelta(game, slot, ScoreFormula.SIMULATE);
+            int afterScore = Math.max(0, beforeScore + simulatedScore);
+            boolean isWinner = game.isWinner(slot);
+            sink.accept(SimulatedScoreResponse.builder()
+                    .playerId(player.getPlayerId())
+                    .playerName(player.getName())
+                    .lolId(player.getLolId())
+                    .beforeScore(beforeScore)
+                    .afterScore(afterScore)
+                    .gameId(gameRecord.getGameId())
+                    .assignedPosition(record.getAssignedPosition())
+                    .kills(record.getKills())
+                    .deaths(record.getDeaths())
+                    .assists(record.getAssists())
+                    .cs(record.getCs())
+                    .isWinner(isWinner)
+                    .build());
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.entity.GameRecord;
+import com.example.teamdraftlol.entity.Player;
+import com.example.teamdraftlol.entity.PlayerGameRecord;
+
+import java.util.List;
+
+// 게임 상세 화면용 읽기 전용 스냅샷: 게임, 플레이어 전적(플레이어 포함), 게임 시점 연승/연패
+// 만들 때 한 번만 계산해 두고, 이후 파생 값(예상 점수 변화, 연승 보너스)은 DB 조회 없이 여기서 읽는다
+final class GameSnapshot {
+
+    private final GameRecord gameRecord;
+    private final List<PlayerGameRecord> records;
+    private final int[] simulatedDeltas;
+    // 저장된 게임 시점 연승/연패, 없으면 플레이어의 현재 값
+    private final int[] streaks;
+    private final boolean[] winners;
+
+    private GameSnapshot(GameRecord gameRecord, List<PlayerGameRecord> records) {
+        this.gameRecord = gameRecord;
+        this.records = List.copyOf(records);
+        int size = this.records.size();
+        ScoreKernel.Game game = ScoreKernel.Game.of(gameRecord, this.records);
+        this.simulatedDeltas = new int[size];
+        this.streaks = new int[size];
+        this.winners = new boolean[size];
+        for (int slot = 0; slot < size; slot++) {
+            PlayerGameRecord record = this.records.get(slot);
+            simulatedDeltas[slot] = ScoreKernel.scoreDelta(game, slot, ScoreFormula.SIMULATE);
+            streaks[slot] = game.streaks[slot];
+            winners[slot] = (record.getTeamNumber() == 1 && gameRecord.isTeam1Won()) ||
+                    (record.getTeamNumber() == 2 && !gameRecord.isTeam1Won());
+        }
+    }
+
+    // records는 플레이어가 함께 로드된 이 게임의 전체 전적
+    static GameSnapshot of(GameRecord gameRecord, List<PlayerGameRecord> records) {
+        return new GameSnapshot(gameRecord, records);
+    }
+
+    GameRecord gameRecord() {
+        return gameRecord;
+    }
+
+    int size() {
+        return records.size();
+    }
+
+    PlayerGameRecord record(int slot) {
+        return records.get(slot);
+    }
+
+    Player player(int slot) {
+        return records.get(slot).getPlayer();
+    }
+
+    int simulatedDelta(int slot) {
+        return simulatedDeltas[slot];
+    }
+
+    int streak(int slot) {
+        return streaks[slot];
+    }
+
+    boolean isWinner(int slot) {
+        return winners[slot];
+    }
+}
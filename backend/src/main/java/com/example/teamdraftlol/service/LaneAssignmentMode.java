@@ -0,0 +1,7 @@
+package com.example.teamdraftlol.service;
+
+// 팀 내 포지션 배정 방식
+public enum LaneAssignmentMode {
+    GREEDY,  // 주 포지션 → 부 포지션 → 남은 포지션 순서의 3단계 그리디 배정
+    OPTIMAL  // 5x5 조정 점수 행렬에서 120개 순열을 모두 비교하는 최적 배정
+}
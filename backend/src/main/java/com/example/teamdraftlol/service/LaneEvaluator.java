@@ -0,0 +1,423 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.dto.response.TeamPlayerResponse;
+import com.example.teamdraftlol.dto.response.TeamResponse;
+import com.example.teamdraftlol.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+// 플레이어 목록(ID 순 인덱스)에 대한 포지션 배정·점수 조정 규칙
+// 팀은 오름차순 플레이어 인덱스 5개(members)로 표현하므로 로스터 크기와 무관하게 재사용할 수 있다
+// 생성 후에는 읽기 전용이며, 작업 공간(LaneAssignment)만 호출자별로 따로 쓰면 여러 스레드에서 사용해도 된다
+final class LaneEvaluator {
+
+    // 포지션 배정·점수 조정 규칙 버전, 규칙이 바뀌면 올려서 이전에 발급한 리롤 커서를 무효화한다
+    static final int RULES_VERSION = 1;
+
+    static final String[] POSITIONS = {"TOP", "JGL", "MID", "ADC", "SUP"};
+    static final int TEAM_SIZE = 5;
+    static final int SUP = 4;
+
+    static final int TYPE_MAIN = 0;
+    static final int TYPE_SUB = 1;
+    static final int TYPE_FILL = 2;
+    private static final String[] TYPE_NAMES = {"MAIN", "SUB", "FILL"};
+
+    // 5개 포지션의 120가지 순열, [perm * 5 + slot] = 팀 내 slot번째 플레이어에게 줄 포지션
+    static final int PERMUTATION_COUNT = 120;
+    private static final int[] LANE_PERMUTATIONS = buildLanePermutations();
+
+    // 최적 배정 키: 주 포지션 수(상위 비트) + 주 포지션 플레이어의 (LOW_SCORE_CAP - 점수) 합(하위 비트)
+    // 조합 정렬 키 1, 2(주 포지션 수, 낮은 점수 보너스)를 팀 단위로 그대로 최대화한다
+    private static final int MAIN_COUNT_SHIFT = 40;
+    private static final int LOW_SCORE_CAP = 1 << 30;
+    // 고정된 포지션이 아닌 곳에 배정하는 순열의 키 감점, 어떤 배정 키 합보다도 크다
+    private static final long LOCK_PENALTY = 1L << 52;
+
+    private final List<Player> players;
+    private final LaneAssignmentMode mode;
+    private final int[] scores;
+    private final int[] mainLanes;
+    private final int[] subLanes;
+    // 플레이어별 포지션 타입(MAIN/SUB/FILL)에 따른 조정 점수, [player * 3 + type]
+    private final int[] adjustedScores;
+    // 플레이어별 포지션 타입, 조정 점수, 최적 배정 키, [player * 5 + lane]
+    private final int[] laneTypes;
+    private final int[] laneScores;
+    private final long[] laneKeys;
+    // 플레이어별 고정 포지션, 없으면 -1
+    private final int[] lockedLanes;
+    private final boolean hasLockedLanes;
+
+    LaneEvaluator(List<Player> roster, LaneAssignmentMode mode) {
+        this(roster, mode, Map.of());
+    }
+
+    // lockedLanes: 플레이어 ID → 고정 포지션 인덱스
+    LaneEvaluator(List<Player> roster, LaneAssignmentMode mode, Map<Long, Integer> lockedLanes) {
+        // 플레이어를 ID로 정렬하여 일관성 확보
+        List<Player> sorted = new ArrayList<>(roster);
+        sorted.sort(Comparator.comparing(Player::getPlayerId));
+        this.players = sorted;
+        this.mode = mode;
+
+        int size = sorted.size();
+        this.scores = new int[size];
+        this.mainLanes = new int[size];
+        this.subLanes = new int[size];
+        this.adjustedScores = new int[size * 3];
+        this.laneTypes = new int[size * TEAM_SIZE];
+        this.laneScores = new int[size * TEAM_SIZE];
+        this.laneKeys = new long[size * TEAM_SIZE];
+        this.lockedLanes = new int[size];
+        this.hasLockedLanes = !lockedLanes.isEmpty();
+
+        for (int i = 0; i < size; i++) {
+            Player player = sorted.get(i);
+            int score = player.getScore();
+            scores[i] = score;
+            mainLanes[i] = laneIndex(player.getMainLane());
+            subLanes[i] = laneIndex(player.getSubLane());
+            boolean supportMain = mainLanes[i] == SUP;
+            adjustedScores[i * 3 + TYPE_MAIN] = score;
+            adjustedScores[i * 3 + TYPE_SUB] = adjust(score, supportMain ? 0.75 : 0.85); // 서폿 메인이면 75%, 아니면 85%
+            adjustedScores[i * 3 + TYPE_FILL] = adjust(score, supportMain ? 0.60 : 0.70); // 서폿 메인이면 60%, 아니면 70%
+            this.lockedLanes[i] = lockedLanes.getOrDefault(player.getPlayerId(), -1);
+
+            for (int lane = 0; lane < TEAM_SIZE; lane++) {
+                int type = mainLanes[i] == lane ? TYPE_MAIN : subLanes[i] == lane ? TYPE_SUB : TYPE_FILL;
+                laneTypes[i * TEAM_SIZE + lane] = type;
+                laneScores[i * TEAM_SIZE + lane] = adjustedScores[i * 3 + type];
+                laneKeys[i * TEAM_SIZE + lane] = type == TYPE_MAIN
+                        ? (1L << MAIN_COUNT_SHIFT) + (LOW_SCORE_CAP - Math.min(score, LOW_SCORE_CAP - 1))
+                        : 0L;
+                if (this.lockedLanes[i] >= 0 && this.lockedLanes[i] != lane) {
+                    laneKeys[i * TEAM_SIZE + lane] -= LOCK_PENALTY;
+                }
+            }
+        }
+    }
+
+    static int laneIndex(String lane) {
+        for (int i = 0; i < POSITIONS.length; i++) {
+            if (POSITIONS[i].equals(lane)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int adjust(int score, double ratio) {
+        return (int) Math.round(score * ratio);
+    }
+
+    int size() {
+        return players.size();
+    }
+
+    Player player(int index) {
+        return players.get(index);
+    }
+
+    int score(int index) {
+        return scores[index];
+    }
+
+    // 정렬 키 1, 2가 최선인 배정들의 합계 점수를 오름차순·중복 없이 totals에 기록하고 개수를 반환
+    // 그리디 배정은 후보가 하나, 최적 배정은 키가 같은 순열이 여러 개일 수 있다
+    // 배정 결과의 주 포지션 수와 주 포지션 원점수 합은 work에 남는다
+    int collectTotals(int[] members, LaneAssignment work, int[] totals) {
+        if (mode == LaneAssignmentMode.GREEDY) {
+            assignGreedy(members, work);
+            int total = 0;
+            int mainCount = 0;
+            int mainScoreSum = 0;
+            for (int lane = 0; lane < TEAM_SIZE; lane++) {
+                int player = work.players[lane];
+                int type = work.types[lane];
+                total += adjustedScores[player * 3 + type];
+                if (type == TYPE_MAIN) {
+                    mainCount++;
+                    mainScoreSum += scores[player];
+                }
+            }
+            work.mainCount = mainCount;
+            work.mainScoreSum = mainScoreSum;
+            totals[0] = total;
+            return 1;
+        }
+
+        loadMatrix(members, work);
+        long bestKey = bestPermutationKey(work);
+        int count = 0;
+        for (int base = 0; base < PERMUTATION_COUNT * TEAM_SIZE; base += TEAM_SIZE) {
+            if (permutationKey(work.keyMatrix, base) != bestKey) {
+                continue;
+            }
+            int total = permutationScore(work.scoreMatrix, base);
+            // 작은 정렬 배열에 중복 없이 삽입
+            int pos = count;
+            while (pos > 0 && totals[pos - 1] > total) {
+                pos--;
+            }
+            if (pos > 0 && totals[pos - 1] == total) {
+                continue;
+            }
+            System.arraycopy(totals, pos, totals, pos + 1, count - pos);
+            totals[pos] = total;
+            count++;
+        }
+        int mainCount = (int) (bestKey >>> MAIN_COUNT_SHIFT);
+        work.mainCount = mainCount;
+        work.mainScoreSum = (int) ((long) mainCount * LOW_SCORE_CAP - (bestKey & ((1L << MAIN_COUNT_SHIFT) - 1)));
+        return count;
+    }
+
+    // 두 팀의 합계 점수 후보 중 차이가 가장 작은 쌍을 찾아 (a 인덱스 << 8 | b 인덱스)로 반환
+    static int closestPair(int[] a, int offA, int countA, int[] b, int offB, int countB) {
+        int i = 0;
+        int j = 0;
+        int best = 0;
+        int bestDiff = Integer.MAX_VALUE;
+        while (i < countA && j < countB) {
+            int x = a[offA + i];
+            int y = b[offB + j];
+            int diff = Math.abs(x - y);
+            if (diff < bestDiff) {
+                bestDiff = diff;
+                best = (i << 8) | j;
+            }
+            if (x < y) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return best;
+    }
+
+    // 팀에 포지션을 배정, 최적 배정은 정렬 키 1, 2가 최선이면서 합계가 targetTotal인 첫 번째 순열을 사용
+    void assignPositions(int[] members, int targetTotal, LaneAssignment out) {
+        if (mode == LaneAssignmentMode.GREEDY) {
+            assignGreedy(members, out);
+            return;
+        }
+        loadMatrix(members, out);
+        long bestKey = bestPermutationKey(out);
+        int chosen = -1;
+        for (int base = 0; base < PERMUTATION_COUNT * TEAM_SIZE; base += TEAM_SIZE) {
+            if (permutationKey(out.keyMatrix, base) == bestKey
+                    && permutationScore(out.scoreMatrix, base) == targetTotal) {
+                chosen = base;
+                break;
+            }
+        }
+        if (chosen < 0) {
+            throw new IllegalStateException("no lane assignment with total " + targetTotal);
+        }
+        out.clear();
+        for (int slot = 0; slot < TEAM_SIZE; slot++) {
+            int lane = LANE_PERMUTATIONS[chosen + slot];
+            int player = out.members[slot];
+            out.place(lane, player, laneTypes[player * TEAM_SIZE + lane], lane);
+        }
+    }
+
+    // 팀 5명 × 포지션 5개의 조정 점수 행렬과 배정 키 행렬을 작업 공간에 채움
+    private void loadMatrix(int[] members, LaneAssignment work) {
+        for (int slot = 0; slot < TEAM_SIZE; slot++) {
+            int player = members[slot];
+            work.members[slot] = player;
+            System.arraycopy(laneKeys, player * TEAM_SIZE, work.keyMatrix, slot * TEAM_SIZE, TEAM_SIZE);
+            System.arraycopy(laneScores, player * TEAM_SIZE, work.scoreMatrix, slot * TEAM_SIZE, TEAM_SIZE);
+        }
+    }
+
+    private static long bestPermutationKey(LaneAssignment work) {
+        long bestKey = Long.MIN_VALUE;
+        for (int base = 0; base < PERMUTATION_COUNT * TEAM_SIZE; base += TEAM_SIZE) {
+            bestKey = Math.max(bestKey, permutationKey(work.keyMatrix, base));
+        }
+        return bestKey;
+    }
+
+    private static long permutationKey(long[] matrix, int base) {
+        return matrix[LANE_PERMUTATIONS[base]]
+                + matrix[5 + LANE_PERMUTATIONS[base + 1]]
+                + matrix[10 + LANE_PERMUTATIONS[base + 2]]
+                + matrix[15 + LANE_PERMUTATIONS[base + 3]]
+                + matrix[20 + LANE_PERMUTATIONS[base + 4]];
+    }
+
+    private static int permutationScore(int[] matrix, int base) {
+        return matrix[LANE_PERMUTATIONS[base]]
+                + matrix[5 + LANE_PERMUTATIONS[base + 1]]
+                + matrix[10 + LANE_PERMUTATIONS[base + 2]]
+                + matrix[15 + LANE_PERMUTATIONS[base + 3]]
+                + matrix[20 + LANE_PERMUTATIONS[base + 4]];
+    }
+
+    // 기존 3단계 그리디 배정을 인덱스/비트 연산으로 수행 (비트는 members의 slot)
+    private void assignGreedy(int[] members, LaneAssignment out) {
+        out.clear();
+        int unassigned = (1 << TEAM_SIZE) - 1;
+        int assigned = 0;
+
+        // 0단계: 포지션이 고정된 플레이어를 먼저 배정 (한 팀에 같은 포지션 고정은 마스크 필터에서 이미 걸러짐)
+        if (hasLockedLanes) {
+            for (int slot = 0; slot < TEAM_SIZE; slot++) {
+                int player = members[slot];
+                int lane = lockedLanes[player];
+                if (lane >= 0) {
+                    out.place(lane, player, laneTypes[player * TEAM_SIZE + lane], assigned++);
+                    unassigned &= ~(1 << slot);
+                }
+            }
+        }
+
+        // 1단계: 각 포지션별로 해당 포지션을 주포지션으로 하는 플레이어들 중 점수가 가장 낮은 사람을 배정
+        for (int lane = 0; lane < TEAM_SIZE; lane++) {
+            if (out.players[lane] >= 0) {
+                continue;
+            }
+            int best = lowestScore(members, unassigned, mainLanes, lane);
+            if (best >= 0) {
+                out.place(lane, members[best], TYPE_MAIN, assigned++);
+                unassigned &= ~(1 << best);
+            }
+        }
+
+        // 2단계: 남은 포지션에 대해 해당 포지션을 부포지션으로 하는 플레이어들 중 점수가 가장 낮은 사람을 배정
+        for (int lane = 0; lane < TEAM_SIZE; lane++) {
+            if (out.players[lane] >= 0) {
+                continue;
+            }
+            int best = lowestScore(members, unassigned, subLanes, lane);
+            if (best >= 0) {
+                out.place(lane, members[best], TYPE_SUB, assigned++);
+                unassigned &= ~(1 << best);
+            }
+        }
+
+        // 3단계: 남은 플레이어들을 남은 포지션에 점수가 낮은 순으로 배정
+        int lane = 0;
+        while (unassigned != 0) {
+            int best = lowestScore(members, unassigned, null, 0);
+            while (out.players[lane] >= 0) {
+                lane++;
+            }
+            out.place(lane, members[best], TYPE_FILL, assigned++);
+            unassigned &= ~(1 << best);
+        }
+    }
+
+    // 후보 slot 중 (lanes가 주어지면 해당 라인인 플레이어 중) 점수가 가장 낮은 slot, 동점이면 ID가 작은 쪽
+    private int lowestScore(int[] members, int candidates, int[] lanes, int lane) {
+        int best = -1;
+        for (int m = candidates; m != 0; m &= m - 1) {
+            int slot = Integer.numberOfTrailingZeros(m);
+            int i = members[slot];
+            if (lanes != null && lanes[i] != lane) {
+                continue;
+            }
+            if (best < 0 || scores[i] < scores[members[best]]) {
+                best = slot;
+            }
+        }
+        return best;
+    }
+
+    TeamResponse buildTeam(int[] members, int teamNumber, int targetTotal, LaneAssignment assignment) {
+        assignPositions(members, targetTotal, assignment);
+        TeamPlayerResponse[] byLane = new TeamPlayerResponse[TEAM_SIZE];
+        List<TeamPlayerResponse> teamPlayers = new ArrayList<>(TEAM_SIZE);
+        int totalScore = 0;
+        for (int order = 0; order < TEAM_SIZE; order++) {
+            int lane = assignment.order[order];
+            TeamPlayerResponse teamPlayer = createTeamPlayer(assignment.players[lane], lane, assignment.types[lane]);
+            byLane[lane] = teamPlayer;
+            teamPlayers.add(teamPlayer);
+            totalScore += teamPlayer.getAdjustedScore();
+        }
+
+        return TeamResponse.builder()
+                .teamNumber(teamNumber)
+                .players(teamPlayers)
+                .totalScore(totalScore)
+                .topPlayer(byLane[0])
+                .junglePlayer(byLane[1])
+                .midPlayer(byLane[2])
+                .adcPlayer(byLane[3])
+                .supportPlayer(byLane[4])
+                .build();
+    }
+
+    private TeamPlayerResponse createTeamPlayer(int index, int lane, int type) {
+        Player player = players.get(index);
+        return TeamPlayerResponse.builder()
+                .playerId(player.getPlayerId())
+                .name(player.getName())
+                .lolId(player.getLolId())
+                .originalScore(scores[index])
+                .adjustedScore(adjustedScores[index * 3 + type])
+                .assignedPosition(POSITIONS[lane])
+                .mainLane(player.getMainLane())
+                .subLane(player.getSubLane())
+                .positionType(TYPE_NAMES[type])
+                .build();
+    }
+
+    // 비트마스크(인덱스 < 64)의 멤버를 오름차순으로 members에 기록
+    static void membersOf(long mask, int[] members) {
+        int slot = 0;
+        for (long m = mask; m != 0; m &= m - 1) {
+            members[slot++] = Long.numberOfTrailingZeros(m);
+        }
+    }
+
+    // 한 팀의 포지션 배정 결과와 작업 공간 (포지션 인덱스 기준), order는 배정된 순서의 포지션
+    static final class LaneAssignment {
+        final int[] players = new int[TEAM_SIZE];
+        final int[] types = new int[TEAM_SIZE];
+        final int[] order = new int[TEAM_SIZE];
+        int mainCount;
+        int mainScoreSum;
+        // 최적 배정 작업 공간: 팀 멤버와 5x5 키/조정 점수 행렬
+        final int[] members = new int[TEAM_SIZE];
+        final long[] keyMatrix = new long[TEAM_SIZE * TEAM_SIZE];
+        final int[] scoreMatrix = new int[TEAM_SIZE * TEAM_SIZE];
+
+        void clear() {
+            Arrays.fill(players, -1);
+        }
+
+        void place(int lane, int player, int type, int index) {
+            players[lane] = player;
+            types[lane] = type;
+            order[index] = lane;
+        }
+    }
+
+    private static int[] buildLanePermutations() {
+        int[] permutations = new int[PERMUTATION_COUNT * TEAM_SIZE];
+        fillPermutations(permutations, new int[TEAM_SIZE], 0, 0, new int[]{0});
+        return permutations;
+    }
+
+    private static void fillPermutations(int[] permutations, int[] current, int depth, int used, int[] count) {
+        if (depth == TEAM_SIZE) {
+            System.arraycopy(current, 0, permutations, count[0]++ * TEAM_SIZE, TEAM_SIZE);
+            return;
+        }
+        for (int lane = 0; lane < TEAM_SIZE; lane++) {
+            if ((used & (1 << lane)) == 0) {
+                current[depth] = lane;
+                fillPermutations(permutations, current, depth + 1, used | (1 << lane), count);
+            }
+        }
+    }
+}
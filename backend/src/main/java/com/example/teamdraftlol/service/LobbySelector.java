@@ -0,0 +1,418 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.dto.response.LobbyResponse;
+import com.example.teamdraftlol.entity.Player;
+import com.example.teamdraftlol.service.LaneEvaluator.LaneAssignment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.example.teamdraftlol.service.LaneEvaluator.PERMUTATION_COUNT;
+import static com.example.teamdraftlol.service.LaneEvaluator.TEAM_SIZE;
+import static com.example.teamdraftlol.service.LaneEvaluator.membersOf;
+
+// N명의 후보 중 가장 공정한 10명(로비)과 팀 분할을 찾는 탐색기
+// 로비 C(N,10) × 분할 126개의 공간은 "서로 겹치지 않는 5인 팀 두 개"의 쌍과 같으므로,
+// C(N,5)개의 팀을 한 번씩만 포지션 배정하고 합계 점수 순으로 정렬한 뒤 점수 차이 상한으로 가지치기하며 쌍을 찾는다
+// 정렬 우선순위: 1) 주 포지션 수 (높을수록 좋음), 2) 점수 차이 (낮을수록 좋음), 3) 로비/분할 마스크 (작을수록 좋음)
+final class LobbySelector {
+
+    static final int MIN_CANDIDATES = 10;
+    static final int MAX_CANDIDATES = 40;
+
+    // 정렬 항목 비트 구성 (부호 비트는 항상 0): [62..60] (5 - 팀 주 포지션 수) | [59..32] 합계 점수 + TOTAL_BIAS | [31..0] 팀 인덱스
+    // 오름차순 정렬하면 주 포지션 수가 많은 팀 묶음(bucket)부터, 묶음 안에서는 합계 점수 순으로 놓인다
+    private static final int BUCKET_SHIFT = 60;
+    private static final int TOTAL_SHIFT = 32;
+    private static final long TOTAL_BIAS = 1L << 27;
+    private static final long TOTAL_MASK = (1L << 28) - 1;
+    private static final int BUCKET_COUNT = TEAM_SIZE + 1;
+
+    // 분할 키: 주 포지션 수 << 24 | 점수 차이 반전 (클수록 좋음)
+    private static final int DIFF_BITS = 24;
+    private static final int DIFF_MAX = (1 << DIFF_BITS) - 1;
+
+    // 포크/조인 작업 분할 단위와 마감 시간 확인 주기
+    private static final int TEAM_CHUNK = 2048;
+    private static final int ENTRY_CHUNK = 512;
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    private final LaneEvaluator lanes;
+    private final LaneAssignmentMode mode;
+    private final int lobbyCount;
+    private final long evaluationDeadline;
+    private final long deadline;
+
+    private long[] teamMasks;
+    private long[] entries;
+    private final int[] bucketStarts = new int[BUCKET_COUNT + 1];
+
+    // 작업 간에 공유하는 K번째 로비의 분할 키, 이보다 나쁜 분할은 어느 작업에서도 상위 K에 들 수 없다
+    private final AtomicInteger threshold = new AtomicInteger(Integer.MIN_VALUE);
+    private final AtomicBoolean evaluationTimedOut = new AtomicBoolean();
+    private final AtomicBoolean timedOut = new AtomicBoolean();
+    private final LongAdder evaluatedTeams = new LongAdder();
+    private final LongAdder evaluatedSplits = new LongAdder();
+
+    LobbySelector(List<Player> candidates, LaneAssignmentMode mode, int lobbyCount, Duration timeBudget) {
+        if (candidates.size() < MIN_CANDIDATES || candidates.size() > MAX_CANDIDATES) {
+            throw new IllegalArgumentException("후보 플레이어는 10명 이상 40명 이하여야 합니다.");
+        }
+        this.lanes = new LaneEvaluator(candidates, mode);
+        this.mode = mode;
+        this.lobbyCount = lobbyCount;
+        // 시간 제한의 절반까지는 팀 평가, 나머지는 쌍 탐색에 사용
+        long start = System.nanoTime();
+        this.evaluationDeadline = start + timeBudget.toNanos() / 2;
+        this.deadline = start + timeBudget.toNanos();
+    }
+
+    // 정렬과 하위 작업이 모두 주어진 풀의 워커에서 실행되도록 탐색 전체를 풀 안에서 실행
+    Result search(ForkJoinPool pool) {
+        return pool.invoke(ForkJoinTask.adapt(this::searchInPool));
+    }
+
+    private Result searchInPool() {
+        teamMasks = buildTeamMasks(lanes.size());
+        entries = new EvaluateTask(0, teamMasks.length).invoke();
+        Arrays.parallelSort(entries);
+        for (int bucket = 0, i = 0; bucket <= BUCKET_COUNT; bucket++) {
+            while (i < entries.length && (int) (entries[i] >>> BUCKET_SHIFT) < bucket) {
+                i++;
+            }
+            bucketStarts[bucket] = i;
+        }
+
+        BestLobbies best = new PairTask(0, entries.length).invoke();
+        return new Result(Arrays.copyOf(best.lobbies, best.size), Arrays.copyOf(best.splits, best.size),
+                evaluatedTeams.sum(), evaluatedSplits.sum(), !evaluationTimedOut.get() && !timedOut.get());
+    }
+
+    // 로비 하나를 응답으로 변환, 분할은 기존 조합 엔진으로 다시 포지션 배정한다
+    LobbyResponse toResponse(int rank, long lobby, long split) {
+        List<Player> lobbyPlayers = new ArrayList<>(TeamCombinationEngine.ROSTER_SIZE);
+        List<Long> playerIds = new ArrayList<>(TeamCombinationEngine.ROSTER_SIZE);
+        int localMask = 0;
+        int local = 0;
+        for (long m = lobby; m != 0; m &= m - 1) {
+            int index = Long.numberOfTrailingZeros(m);
+            Player player = lanes.player(index);
+            lobbyPlayers.add(player);
+            playerIds.add(player.getPlayerId());
+            if ((split & (1L << index)) != 0) {
+                localMask |= 1 << local;
+            }
+            local++;
+        }
+        TeamCombinationEngine engine = new TeamCombinationEngine(lobbyPlayers, mode);
+        return LobbyResponse.builder()
+                .rank(rank)
+                .playerIds(playerIds)
+                .teams(engine.toResponse(localMask))
+                .build();
+    }
+
+    int candidateCount() {
+        return lanes.size();
+    }
+
+    private static boolean pastDeadline(long limit, AtomicBoolean flag) {
+        if (flag.get()) {
+            return true;
+        }
+        if (System.nanoTime() > limit) {
+            flag.set(true);
+            return true;
+        }
+        return false;
+    }
+
+    private static int splitKey(int mainCount, int diff) {
+        return (mainCount << DIFF_BITS) | (DIFF_MAX - Math.min(diff, DIFF_MAX));
+    }
+
+    // 주 포지션 수 합이 mainCount인 분할이 threshold를 넘으려면 필요한 최대 점수 차이, 불가능하면 -1
+    private static int diffBound(int threshold, int mainCount) {
+        if (threshold == Integer.MIN_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+        int thresholdMain = threshold >>> DIFF_BITS;
+        if (mainCount < thresholdMain) {
+            return -1;
+        }
+        if (mainCount > thresholdMain) {
+            return Integer.MAX_VALUE;
+        }
+        return DIFF_MAX - (threshold & DIFF_MAX);
+    }
+
+    // 모든 5인 팀을 포지션 배정하고 (묶음, 합계 점수, 팀 인덱스) 항목을 만든다
+    private final class EvaluateTask extends RecursiveTask<long[]> {
+        private final int from;
+        private final int to;
+
+        EvaluateTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from > TEAM_CHUNK) {
+                int mid = (from + to) >>> 1;
+                EvaluateTask left = new EvaluateTask(from, mid);
+                left.fork();
+                long[] right = new EvaluateTask(mid, to).compute();
+                long[] joined = left.join();
+                long[] merged = Arrays.copyOf(joined, joined.length + right.length);
+                System.arraycopy(right, 0, merged, joined.length, right.length);
+                return merged;
+            }
+
+            LaneAssignment work = new LaneAssignment();
+            int[] members = new int[TEAM_SIZE];
+            int[] totals = new int[PERMUTATION_COUNT];
+            long[] result = new long[(to - from) * 2];
+            int size = 0;
+            int evaluated = 0;
+            for (int team = from; team < to; team++) {
+                if ((team - from) % DEADLINE_CHECK_INTERVAL == 0 && pastDeadline(evaluationDeadline, evaluationTimedOut)) {
+                    break;
+                }
+                membersOf(teamMasks[team], members);
+                int count = lanes.collectTotals(members, work, totals);
+                long bucket = (long) (TEAM_SIZE - work.mainCount) << BUCKET_SHIFT;
+                if (size + count > result.length) {
+                    result = Arrays.copyOf(result, Math.max(result.length * 2, size + count));
+                }
+                for (int k = 0; k < count; k++) {
+                    long total = (totals[k] + TOTAL_BIAS) & TOTAL_MASK;
+                    result[size++] = bucket | (total << TOTAL_SHIFT) | team;
+                }
+                evaluated++;
+            }
+            evaluatedTeams.add(evaluated);
+            return Arrays.copyOf(result, size);
+        }
+    }
+
+    // 항목 구간의 각 팀(A)에 대해 합계 점수가 가까운 팀(B)부터 살펴보며, 점수 차이가 상한을 넘으면 그 방향 탐색을 멈춘다
+    // 같은 묶음이면 뒤쪽 항목만, 주 포지션 수가 더 적은 묶음이면 양방향으로 살펴 모든 쌍을 한 번씩만 본다
+    private final class PairTask extends RecursiveTask<BestLobbies> {
+        private final int from;
+        private final int to;
+        private final BestLobbies best = new BestLobbies(lobbyCount);
+        private long splits;
+        private int steps;
+
+        PairTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BestLobbies compute() {
+            if (to - from > ENTRY_CHUNK) {
+                int mid = (from + to) >>> 1;
+                PairTask left = new PairTask(from, mid);
+                left.fork();
+                BestLobbies right = new PairTask(mid, to).compute();
+                BestLobbies merged = left.join();
+                merged.mergeFrom(right);
+                return merged;
+            }
+
+            for (int a = from; a < to && !timedOut.get(); a++) {
+                long entry = entries[a];
+                int bucketA = (int) (entry >>> BUCKET_SHIFT);
+                int mainA = TEAM_SIZE - bucketA;
+                long total = (entry >>> TOTAL_SHIFT) & TOTAL_MASK;
+                for (int bucketB = bucketA; bucketB < BUCKET_COUNT; bucketB++) {
+                    int mainCount = mainA + TEAM_SIZE - bucketB;
+                    if (diffBound(threshold.get(), mainCount) < 0) {
+                        break;
+                    }
+                    int start = bucketStarts[bucketB];
+                    int end = bucketStarts[bucketB + 1];
+                    if (bucketB == bucketA) {
+                        scanUp(entry, mainCount, a + 1, end);
+                    } else {
+                        long probe = ((long) bucketB << BUCKET_SHIFT) | (total << TOTAL_SHIFT);
+                        int pos = Arrays.binarySearch(entries, start, end, probe);
+                        if (pos < 0) {
+                            pos = -pos - 1;
+                        }
+                        scanUp(entry, mainCount, pos, end);
+                        scanDown(entry, mainCount, pos - 1, start);
+                    }
+                }
+            }
+            evaluatedSplits.add(splits);
+            return best;
+        }
+
+        private void scanUp(long entryA, int mainCount, int from, int end) {
+            long totalA = (entryA >>> TOTAL_SHIFT) & TOTAL_MASK;
+            int bound = diffBound(threshold.get(), mainCount);
+            for (int b = from; b < end && bound >= 0; b++) {
+                int diff = (int) (((entries[b] >>> TOTAL_SHIFT) & TOTAL_MASK) - totalA);
+                if (diff > bound || tick()) {
+                    return;
+                }
+                if (consider(entryA, entries[b], mainCount, diff)) {
+                    bound = diffBound(threshold.get(), mainCount);
+                }
+            }
+        }
+
+        private void scanDown(long entryA, int mainCount, int from, int start) {
+            long totalA = (entryA >>> TOTAL_SHIFT) & TOTAL_MASK;
+            int bound = diffBound(threshold.get(), mainCount);
+            for (int b = from; b >= start && bound >= 0; b--) {
+                int diff = (int) (totalA - ((entries[b] >>> TOTAL_SHIFT) & TOTAL_MASK));
+                if (diff > bound || tick()) {
+                    return;
+                }
+                if (consider(entryA, entries[b], mainCount, diff)) {
+                    bound = diffBound(threshold.get(), mainCount);
+                }
+            }
+        }
+
+        private boolean tick() {
+            return ++steps % DEADLINE_CHECK_INTERVAL == 0 && pastDeadline(deadline, timedOut);
+        }
+
+        // 겹치지 않는 두 팀이면 로비 후보로 넣고, 상위 K가 바뀌었으면 true
+        private boolean consider(long entryA, long entryB, int mainCount, int diff) {
+            long maskA = teamMasks[(int) entryA];
+            long maskB = teamMasks[(int) entryB];
+            if ((maskA & maskB) != 0) {
+                return false;
+            }
+            splits++;
+            int key = splitKey(mainCount, diff);
+            if (key < threshold.get()) {
+                return false;
+            }
+            long lobby = maskA | maskB;
+            // 가장 작은 인덱스의 플레이어가 속한 팀을 1팀으로 사용
+            long split = (maskA & Long.lowestOneBit(lobby)) != 0 ? maskA : maskB;
+            if (!best.offer(lobby, split, key)) {
+                return false;
+            }
+            if (best.isFull()) {
+                threshold.accumulateAndGet(best.worstKey(), Math::max);
+            }
+            return true;
+        }
+    }
+
+    // 로비별로 가장 좋은 분할 하나만 남기는 상위 K 목록 (좋은 순서로 정렬), K가 작아 선형 탐색을 사용
+    static final class BestLobbies {
+        private final long[] lobbies;
+        private final long[] splits;
+        private final int[] keys;
+        private int size;
+
+        BestLobbies(int capacity) {
+            this.lobbies = new long[capacity];
+            this.splits = new long[capacity];
+            this.keys = new int[capacity];
+        }
+
+        boolean isFull() {
+            return size == keys.length;
+        }
+
+        int worstKey() {
+            return keys[size - 1];
+        }
+
+        boolean offer(long lobby, long split, int key) {
+            for (int i = 0; i < size; i++) {
+                if (lobbies[i] == lobby) {
+                    if (!isBetter(key, lobby, split, i)) {
+                        return false;
+                    }
+                    remove(i);
+                    break;
+                }
+            }
+            if (isFull()) {
+                if (!isBetter(key, lobby, split, size - 1)) {
+                    return false;
+                }
+                size--;
+            }
+            int pos = size;
+            while (pos > 0 && isBetter(key, lobby, split, pos - 1)) {
+                lobbies[pos] = lobbies[pos - 1];
+                splits[pos] = splits[pos - 1];
+                keys[pos] = keys[pos - 1];
+                pos--;
+            }
+            lobbies[pos] = lobby;
+            splits[pos] = split;
+            keys[pos] = key;
+            size++;
+            return true;
+        }
+
+        void mergeFrom(BestLobbies other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.lobbies[i], other.splits[i], other.keys[i]);
+            }
+        }
+
+        private boolean isBetter(int key, long lobby, long split, int i) {
+            if (key != keys[i]) {
+                return key > keys[i];
+            }
+            if (lobby != lobbies[i]) {
+                return lobby < lobbies[i];
+            }
+            return split < splits[i];
+        }
+
+        private void remove(int index) {
+            int moved = size - index - 1;
+            System.arraycopy(lobbies, index + 1, lobbies, index, moved);
+            System.arraycopy(splits, index + 1, splits, index, moved);
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            size--;
+        }
+    }
+
+    record Result(long[] lobbies, long[] splits, long evaluatedTeams, long evaluatedSplits, boolean complete) {
+    }
+
+    // n명 중 5명을 고르는 모든 팀 마스크 (사전순)
+    private static long[] buildTeamMasks(int n) {
+        long[] masks = new long[binomial(n, TEAM_SIZE)];
+        int count = 0;
+        for (int a = 0; a < n; a++)
+            for (int b = a + 1; b < n; b++)
+                for (int c = b + 1; c < n; c++)
+                    for (int d = c + 1; d < n; d++)
+                        for (int e = d + 1; e < n; e++)
+                            masks[count++] = (1L << a) | (1L << b) | (1L << c) | (1L << d) | (1L << e);
+        return masks;
+    }
+
+    private static int binomial(int n, int k) {
+        long result = 1;
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+        return (int) result;
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.teamdraftlol.service;
 
 import com.example.teamdraftlol.dto.request.PlayerRequest;
+import com.example.teamdraftlol.dto.response.PlayerLaneStatsResponse;
 import com.example.teamdraftlol.dto.response.PlayerResponse;
+import com.example.teamdraftlol.dto.response.PlayerStatsResponse;
 import com.example.teamdraftlol.entity.Player;
+import com.example.teamdraftlol.entity.PlayerLaneStats;
 import com.example.teamdraftlol.entity.Profile;
-import com.example.teamdraftlol.entity.Pool;
+import com.example.teamdraftlol.repository.PlayerLaneStatsRepository;
 import com.example.teamdraftlol.repository.PlayerRepository;
 import com.example.teamdraftlol.repository.ProfileRepository;
 import com.example.teamdraftlol.repository.PoolRepository;
@@ -13,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -24,6 +28,8 @@ public class PlayerService {
     private final ProfileRepository profileRepository;
     private final PoolRepository poolRepository;
     private final PlayerRepository repo;
+    private final PlayerLaneStatsRepository playerLaneStatsRepository;
+    private final PoolSnapshotCache poolSnapshotCache;
 
     @Transactional
     public PlayerResponse createPlayer(UUID ownerId, PlayerRequest req) {
@@ -59,17 +65,53 @@ public class PlayerService {
             throw new IllegalArgumentException("권한이 없습니다.");
         }
         
-        // 플레이어가 속한 모든 풀에서 제거
-        List<Pool> poolsWithPlayer = poolRepository.findAll().stream()
-                .filter(pool -> pool.getPlayers().contains(player))
-                .collect(Collectors.toList());
-        
-        for (Pool pool : poolsWithPlayer) {
-            pool.getPlayers().remove(player);
-            poolRepository.save(pool);
-        }
+        // 플레이어가 속한 모든 풀에서 제거 (pool_players 행만 한 번에 삭제)
+        poolSnapshotCache.invalidate(poolRepository.findPoolIdsByPlayerId(playerId));
+        poolRepository.deletePoolPlayersByPlayerId(playerId);
         
         // 플레이어 삭제
         playerRepository.delete(player);
     }
-}
\ No newline at end of file
+
+    // 누적 통계 조회 (player_lane_stats 한 번 조회, 게임 전적은 읽지 않음)
+    public PlayerStatsResponse getStats(UUID ownerId, Long playerId) {
+        List<PlayerLaneStats> rows = playerLaneStatsRepository.findByPlayerIdAndOwnerId(playerId, ownerId);
+        if (rows.isEmpty()) {
+            // 반영된 게임이 없는 경우와 권한이 없는 경우 구분
+            Player player = playerRepository.findById(playerId)
+                    .orElseThrow(() -> new IllegalArgumentException("Player not found"));
+            if (!player.getOwner().getId().equals(ownerId)) {
+                throw new IllegalArgumentException("권한이 없습니다.");
+            }
+        }
+        
+        PlayerLaneStatsResponse total = null;
+        List<PlayerLaneStatsResponse> lanes = new ArrayList<>();
+        for (PlayerLaneStats row : rows) {
+            if (PlayerLaneStats.ALL_LANES.equals(row.getLane())) {
+                total = PlayerLaneStatsResponse.fromEntity(row);
+            } else if (row.getGames() > 0) {
+                lanes.add(PlayerLaneStatsResponse.fromEntity(row));
+            }
+        }
+        return PlayerStatsResponse.builder()
+                .playerId(playerId)
+                .total(total != null && total.getGames() > 0 ? total : null)
+                .lanes(lanes)
+                .build();
+    }
+    
+    // 소유한 모든 플레이어의 통계를 반영된 게임 전적에서 다시 만든다 (마이그레이션 직후, 불일치 복구용)
+    @Transactional
+    public int rebuildStats(UUID ownerId) {
+        List<Long> playerIds = playerRepository.findByOwnerId(ownerId).stream()
+                .map(Player::getPlayerId)
+                .collect(Collectors.toList());
+        if (playerIds.isEmpty()) {
+            return 0;
+        }
+        playerLaneStatsRepository.deleteByPlayerIds(playerIds);
+        playerLaneStatsRepository.insertFromAppliedGames(playerIds);
+        return playerIds.size();
+    }
+}
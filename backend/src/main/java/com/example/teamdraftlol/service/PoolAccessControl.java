@@ -0,0 +1,94 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.repository.PoolRepository;
+import com.example.teamdraftlol.util.BoundedLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+// 풀 권한 확인: 사용자 U가 풀 P에서 소유자/멤버인지
+// 풀 엔티티와 멤버 컬렉션을 읽지 않고 인덱스 조회 한 번, 결과는 (풀, 사용자)별로 캐시
+// 권한이 있는 결과만 캐시하므로 가입 직후 거부가 남지 않는다, 풀 삭제 시 그 풀의 항목을 지운다
+@Component
+public class PoolAccessControl {
+
+    public enum Role {
+        OWNER, MEMBER, NONE;
+
+        public boolean isOwner() {
+            return this == OWNER;
+        }
+
+        public boolean isMember() {
+            return this == MEMBER;
+        }
+
+        public boolean canAccess() {
+            return this != NONE;
+        }
+    }
+
+    private final PoolRepository poolRepository;
+    private final BoundedLruCache<Key, Role> cache;
+
+    public PoolAccessControl(
+            PoolRepository poolRepository,
+            @Value("${team.pool-acl-cache.max-size:4096}") int maxSize,
+            @Value("${team.pool-acl-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.poolRepository = poolRepository;
+        this.cache = new BoundedLruCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    // 풀이 없으면 IllegalArgumentException
+    public Role role(Long poolId, UUID userId) {
+        Key key = new Key(poolId, userId);
+        Role cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        String loaded = poolRepository.findRoleByPoolIdAndUserId(poolId, userId);
+        if (loaded == null) {
+            throw new IllegalArgumentException("풀을 찾을 수 없습니다.");
+        }
+        Role role = Role.valueOf(loaded);
+        if (role.canAccess()) {
+            cache.put(key, role);
+        }
+        return role;
+    }
+
+    public Role role(Long poolId, String userId) {
+        return role(poolId, UUID.fromString(userId));
+    }
+
+    // 멤버 가입 등 (풀, 사용자)의 권한이 바뀐 경우
+    public void invalidate(Long poolId, UUID userId) {
+        cache.invalidate(new Key(poolId, userId));
+    }
+
+    // 풀 삭제, 커밋 전에 다른 요청이 다시 캐시할 수 있으므로 트랜잭션 안이면 커밋 후에 한 번 더 지운다
+    public void invalidatePool(Long poolId) {
+        cache.invalidateIf(key -> key.poolId() == poolId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateIf(key -> key.poolId() == poolId);
+                }
+            });
+        }
+    }
+
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+
+    private record Key(long poolId, UUID userId) {
+    }
+}
@@ -3,6 +3,7 @@ package com.example.teamdraftlol.service;
 import com.example.teamdraftlol.dto.request.PoolRequest;
 import com.example.teamdraftlol.dto.request.PlayerRequest;
 import com.example.teamdraftlol.dto.response.PoolResponse;
+import com.example.teamdraftlol.dto.response.PoolSummaryResponse;
 import com.example.teamdraftlol.dto.response.PlayerResponse;
 import com.example.teamdraftlol.entity.Player;
 import com.example.teamdraftlol.entity.Pool;
@@ -10,14 +11,25 @@ import com.example.teamdraftlol.entity.Profile;
 import com.example.teamdraftlol.repository.PlayerRepository;
 import com.example.teamdraftlol.repository.PoolRepository;
 import com.example.teamdraftlol.repository.ProfileRepository;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -29,6 +41,24 @@ public class PoolService {
     private final PoolRepository poolRepository;
     private final ProfileRepository profileRepository;
     private final PlayerRepository playerRepository;
+    private final PoolAccessControl poolAccessControl;
+    private final PoolSnapshotCache poolSnapshotCache;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    static final int MAX_SUMMARY_TOP = 20;
+    // sql/006_pool_players_unique_lol_id.sql의 (pool_id, lol_id) 유니크 인덱스
+    static final String DUPLICATE_LOL_ID_CONSTRAINT = "uq_pool_players_pool_lol_id";
+
+    // 발급 순서는 보장되지 않으므로 ID를 lol_id와 함께 돌려받아 요청 행과 맞춘다 (요청 안의 lolId는 서로 다름)
+    private static final String INSERT_PLAYERS_SQL =
+            "INSERT INTO players (owner, name, lol_id, main_lane, sub_lane, score, win_loss_streak, created_at) " +
+            "SELECT ?, v.name, v.lol_id, v.main_lane, v.sub_lane, v.score, 0, ? " +
+            "FROM unnest(?::text[], ?::text[], ?::text[], ?::text[], ?::int[]) AS v(name, lol_id, main_lane, sub_lane, score) " +
+            "RETURNING lol_id, player_id";
+
+    private static final String INSERT_POOL_PLAYERS_SQL =
+            "INSERT INTO pool_players (pool_id, player_id) SELECT ?, unnest(?::bigint[])";
 
     @Transactional
     public PoolResponse createPool(UUID ownerId, PoolRequest req) {
@@ -50,7 +80,12 @@ public class PoolService {
                     playerRepository.findAllById(req.getPlayerIds())
             );
             saved.getPlayers().addAll(players);
-            saved = poolRepository.save(saved);
+            // 풀 소속 INSERT는 flush 때 실행되므로, lolId가 겹치는 플레이어면 여기서 유니크 인덱스 위반을 받아 400으로 바꾼다
+            try {
+                saved = poolRepository.saveAndFlush(saved);
+            } catch (DataIntegrityViolationException e) {
+                throw translateDuplicateLolId(e);
+            }
         }
 
         return PoolResponse.fromEntity(saved);
@@ -62,40 +97,60 @@ public class PoolService {
                 .collect(Collectors.toList());
     }
 
+    // 풀 목록 화면용 요약 (풀마다 플레이어 컬렉션을 읽지 않고 쿼리 한 번), top: 풀별 점수 상위 플레이어 수
+    @Transactional(readOnly = true)
+    public List<PoolSummaryResponse> listPoolSummaries(UUID userId, int top) {
+        if (top < 0 || top > MAX_SUMMARY_TOP) {
+            throw new IllegalArgumentException("상위 플레이어 수는 0~" + MAX_SUMMARY_TOP + " 사이여야 합니다.");
+        }
+        List<PoolSummaryResponse> result = new ArrayList<>();
+        PoolSummaryResponse current = null;
+        for (Object[] row : poolRepository.findSummaryRowsByOwnerIdOrMemberId(userId, top)) {
+            Long poolId = ((Number) row[0]).longValue();
+            if (current == null || !current.getPoolId().equals(poolId)) {
+                current = PoolSummaryResponse.builder()
+                        .poolId(poolId)
+                        .name((String) row[1])
+                        .playersCount(((Number) row[2]).intValue())
+                        .topPlayers(new ArrayList<>())
+                        .build();
+                result.add(current);
+            }
+            // 플레이어가 없는 풀의 빈 행, top = 0일 때 남는 1위 행은 건너뜀
+            if (row[4] == null || ((Number) row[3]).intValue() > top) {
+                continue;
+            }
+            current.getTopPlayers().add(new PoolSummaryResponse.TopPlayer(((Number) row[4]).longValue(),
+                    (String) row[5], (String) row[6], row[7] == null ? null : ((Number) row[7]).intValue()));
+        }
+        return result;
+    }
+
+    // 캐시된 풀 스냅샷에서 응답을 만든다 (캐시에 있으면 DB 조회 없음)
     public PoolResponse getPool(UUID userId, Long poolId) {
-        Pool pool = poolRepository.findById(poolId)
-                .orElseThrow(() -> new IllegalArgumentException("Pool not found"));
+        PoolSnapshot snapshot = poolSnapshotCache.get(poolId, this::loadSnapshot);
         
         // 소유자이거나 멤버인지 확인
-        boolean hasAccess = pool.getOwner().getId().equals(userId) || 
-                           pool.getMembers().stream().anyMatch(member -> member.getId().equals(userId));
-        
-        if (!hasAccess) {
+        if (!snapshot.canAccess(userId)) {
             throw new IllegalArgumentException("권한이 없습니다.");
         }
         
-        return PoolResponse.fromEntity(pool);
+        return snapshot.toResponse();
     }
 
+    private PoolSnapshot loadSnapshot(Long poolId) {
+        Pool pool = poolRepository.findWithPlayersAndMembersById(poolId)
+                .orElseThrow(() -> new IllegalArgumentException("Pool not found"));
+        return PoolSnapshot.of(pool);
+    }
+
+    // 풀 행을 잠그지 않는다, 같은 풀의 lolId 중복은 유니크 인덱스(DUPLICATE_LOL_ID_CONSTRAINT)가 막는다
     @Transactional
     public PlayerResponse addPlayer(UUID userId, Long poolId, PlayerRequest req) {
-        // 비관적 락을 걸고 풀을 조회
-        Pool pool = poolRepository.findByIdForUpdate(poolId);
-        if (pool == null) {
-            throw new IllegalArgumentException("Pool not found");
-        }
         // 소유자이거나 멤버인지 확인
-        boolean hasAccess = pool.getOwner().getId().equals(userId) || 
-                           pool.getMembers().stream().anyMatch(member -> member.getId().equals(userId));
-        if (!hasAccess) {
+        if (!poolAccessControl.role(poolId, userId).canAccess()) {
             throw new IllegalArgumentException("권한이 없습니다.");
         }
-        // 중복 lolId 체크
-        boolean alreadyExists = pool.getPlayers().stream()
-                .anyMatch(p -> p.getLolId().equals(req.getLolId()));
-        if (alreadyExists) {
-            throw new IllegalArgumentException("이미 동일한 LOL ID의 플레이어가 등록되어 있습니다.");
-        }
         Profile owner = profileRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Owner not found"));
         Player player = Player.builder()
@@ -109,18 +164,115 @@ public class PoolService {
                 .createdAt(Instant.now())
                 .build();
         Player savedPlayer = playerRepository.save(player);
-        pool.getPlayers().add(savedPlayer);
-        poolRepository.save(pool);
+        try {
+            poolRepository.insertPoolPlayer(poolId, savedPlayer.getPlayerId());
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateLolId(e);
+        }
+        poolSnapshotCache.invalidate(poolId);
         return PlayerResponse.fromEntity(savedPlayer);
     }
 
+    // 여러 플레이어를 만들어 풀에 추가 (플레이어 INSERT 한 번, 풀 소속 INSERT 한 번)
+    // 풀에 이미 있거나 요청 안에서 겹치는 lolId가 있으면 전체를 추가하지 않는다
+    @Transactional
+    public List<PlayerResponse> addPlayers(UUID userId, Long poolId, List<PlayerRequest> reqs) {
+        if (!poolAccessControl.role(poolId, userId).canAccess()) {
+            throw new IllegalArgumentException("권한이 없습니다.");
+        }
+        if (!profileRepository.existsById(userId)) {
+            throw new IllegalArgumentException("Owner not found");
+        }
+        // 같은 풀 안의 lolId는 유일해야 하므로 요청 안의 중복은 INSERT 전에 거부 (돌려받은 ID를 lolId로 맞추는 데도 필요)
+        Set<String> requestedLolIds = new HashSet<>();
+        for (PlayerRequest req : reqs) {
+            if (!requestedLolIds.add(req.getLolId())) {
+                throw new IllegalArgumentException("이미 동일한 LOL ID의 플레이어가 등록되어 있습니다.");
+            }
+        }
+        int size = reqs.size();
+        String[] names = new String[size];
+        String[] lolIds = new String[size];
+        String[] mainLanes = new String[size];
+        String[] subLanes = new String[size];
+        Integer[] scores = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            PlayerRequest req = reqs.get(i);
+            names[i] = req.getName();
+            lolIds[i] = req.getLolId();
+            mainLanes[i] = req.getMainLane();
+            subLanes[i] = req.getSubLane();
+            scores[i] = req.getScore();
+        }
+        Instant createdAt = Instant.now();
+        Map<String, Long> playerIds = new HashMap<>();
+        jdbcTemplate.query(INSERT_PLAYERS_SQL, ps -> {
+            ps.setObject(1, userId);
+            ps.setTimestamp(2, Timestamp.from(createdAt));
+            ps.setArray(3, ps.getConnection().createArrayOf("text", names));
+            ps.setArray(4, ps.getConnection().createArrayOf("text", lolIds));
+            ps.setArray(5, ps.getConnection().createArrayOf("text", mainLanes));
+            ps.setArray(6, ps.getConnection().createArrayOf("text", subLanes));
+            ps.setArray(7, ps.getConnection().createArrayOf("integer", scores));
+        }, (RowCallbackHandler) rs -> playerIds.put(rs.getString(1), rs.getLong(2)));
+        Long[] ids = new Long[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = playerIds.get(lolIds[i]);
+        }
+        try {
+            jdbcTemplate.update(INSERT_POOL_PLAYERS_SQL, ps -> {
+                ps.setLong(1, poolId);
+                ps.setArray(2, ps.getConnection().createArrayOf("bigint", ids));
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateLolId(e);
+        }
+        poolSnapshotCache.invalidate(poolId);
+
+        List<PlayerResponse> responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            PlayerRequest req = reqs.get(i);
+            responses.add(PlayerResponse.builder()
+                    .playerId(ids[i])
+                    .name(req.getName())
+                    .lolId(req.getLolId())
+                    .mainLane(req.getMainLane())
+                    .subLane(req.getSubLane())
+                    .score(req.getScore())
+                    .winLossStreak(0)
+                    .build());
+        }
+        return responses;
+    }
+
+    // 풀 lolId 유니크 인덱스 위반이면 기존 중복 오류 메시지로, 다른 무결성 오류는 그대로 던진다
+    // 메시지 문구가 아니라 드라이버가 넘겨준 SQLState(23505)와 제약 이름으로 판단한다
+    private static RuntimeException translateDuplicateLolId(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (!(cause instanceof SQLException sqlException)) {
+                continue;
+            }
+            // 배치 실행 오류는 실제 서버 오류를 getNextException으로 넘긴다
+            for (SQLException sql = sqlException; sql != null; sql = sql.getNextException()) {
+                if (sql instanceof PSQLException psql && isDuplicateLolId(psql)) {
+                    return new IllegalArgumentException("이미 동일한 LOL ID의 플레이어가 등록되어 있습니다.");
+                }
+            }
+        }
+        return e;
+    }
+
+    private static boolean isDuplicateLolId(PSQLException e) {
+        ServerErrorMessage serverError = e.getServerErrorMessage();
+        return PSQLState.UNIQUE_VIOLATION.getState().equals(e.getSQLState())
+                && serverError != null
+                && DUPLICATE_LOL_ID_CONSTRAINT.equals(serverError.getConstraint());
+    }
+
     @Transactional
     public PlayerResponse updatePlayer(UUID userId, Long poolId, Long playerId, PlayerRequest req) {
-        Pool pool = poolRepository.findById(poolId)
-                .orElseThrow(() -> new IllegalArgumentException("Pool not found"));
-        
         // 소유자만 수정 가능하도록 변경
-        if (!pool.getOwner().getId().equals(userId)) {
+        if (!poolAccessControl.role(poolId, userId).isOwner()) {
             throw new IllegalArgumentException("풀의 소유자만 플레이어 정보를 수정할 수 있습니다.");
         }
 
@@ -128,7 +280,7 @@ public class PoolService {
                 .orElseThrow(() -> new IllegalArgumentException("Player not found"));
 
         // 플레이어가 해당 풀에 속해 있는지 확인
-        if (!pool.getPlayers().contains(player)) {
+        if (!poolRepository.existsPoolPlayer(poolId, playerId)) {
             throw new IllegalArgumentException("해당 플레이어는 이 풀에 속해 있지 않습니다.");
         }
 
@@ -139,22 +291,31 @@ public class PoolService {
         player.setSubLane(req.getSubLane());
         player.setScore(req.getScore());
 
-        Player updatedPlayer = playerRepository.save(player);
-        return PlayerResponse.fromEntity(updatedPlayer);
+        // lolId 변경이 풀의 다른 플레이어와 겹치면 여기서 유니크 위반 (트리거가 pool_players에 반영)
+        try {
+            Player updatedPlayer = playerRepository.saveAndFlush(player);
+            // 플레이어는 여러 풀에 속할 수 있다
+            poolSnapshotCache.invalidate(poolRepository.findPoolIdsByPlayerId(playerId));
+            return PlayerResponse.fromEntity(updatedPlayer);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateLolId(e);
+        }
     }
 
     @Transactional
     public void deletePool(UUID userId, Long poolId) {
-        Pool pool = poolRepository.findById(poolId)
-                .orElseThrow(() -> new IllegalArgumentException("Pool not found"));
-        
         // 소유자만 삭제할 수 있음
-        if (!pool.getOwner().getId().equals(userId)) {
+        if (!poolAccessControl.role(poolId, userId).isOwner()) {
             throw new IllegalArgumentException("풀을 삭제할 권한이 없습니다. 풀의 소유자만 삭제할 수 있습니다.");
         }
         
+        Pool pool = poolRepository.findById(poolId)
+                .orElseThrow(() -> new IllegalArgumentException("Pool not found"));
+        
         // 풀 삭제 (플레이어들은 삭제되지 않고 풀에서만 제거됨)
         poolRepository.delete(pool);
+        poolAccessControl.invalidatePool(poolId);
+        poolSnapshotCache.invalidate(poolId);
     }
 
     @Transactional
@@ -167,17 +328,15 @@ public class PoolService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         
         // 이미 소유자이거나 멤버인지 확인
-        boolean isAlreadyMember = pool.getOwner().getId().equals(userId) || 
-                                 pool.getMembers().stream().anyMatch(member -> member.getId().equals(userId));
-        
-        if (isAlreadyMember) {
+        if (poolAccessControl.role(poolId, userId).canAccess()) {
             throw new IllegalArgumentException("이미 해당 풀의 멤버입니다.");
         }
         
-        // 멤버로 추가
-        pool.getMembers().add(user);
-        Pool savedPool = poolRepository.save(pool);
+        // 멤버로 추가 (멤버 컬렉션을 읽지 않고 조인 테이블에 한 행)
+        poolRepository.insertPoolMember(poolId, user.getId());
+        poolAccessControl.invalidate(poolId, userId);
+        poolSnapshotCache.invalidate(poolId);
         
-        return PoolResponse.fromEntity(savedPool);
+        return PoolResponse.fromEntity(pool);
     }
 }
@@ -0,0 +1,114 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.dto.response.PlayerResponse;
+import com.example.teamdraftlol.dto.response.PoolResponse;
+import com.example.teamdraftlol.entity.Player;
+import com.example.teamdraftlol.entity.Pool;
+import com.example.teamdraftlol.entity.Profile;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+// 풀 상세 조회용 불변 스냅샷: 로스터(점수 높은 순)를 열 단위 배열로, 소유자/멤버 ID와 함께 들고 있다
+// 만든 뒤에는 바뀌지 않으므로 여러 요청이 락 없이 공유한다, 변경은 새 스냅샷으로 교체 (PoolSnapshotCache)
+public final class PoolSnapshot {
+
+    // 저장된 값이 없는 점수/연승·연패
+    static final int NULL = Integer.MIN_VALUE;
+
+    private final long poolId;
+    private final String name;
+    private final Instant createdAt;
+    private final UUID ownerId;
+    private final UUID[] memberIds; // 정렬됨
+    private final long[] playerIds;
+    private final String[] names;
+    private final String[] lolIds;
+    private final String[] mainLanes;
+    private final String[] subLanes;
+    private final int[] scores;
+    private final int[] streaks;
+    private final long builtAtNanos;
+
+    private PoolSnapshot(Pool pool, List<Player> roster, UUID[] memberIds) {
+        this.poolId = pool.getPoolId();
+        this.name = pool.getName();
+        this.createdAt = pool.getCreatedAt();
+        this.ownerId = pool.getOwner().getId();
+        this.memberIds = memberIds;
+        int size = roster.size();
+        this.playerIds = new long[size];
+        this.names = new String[size];
+        this.lolIds = new String[size];
+        this.mainLanes = new String[size];
+        this.subLanes = new String[size];
+        this.scores = new int[size];
+        this.streaks = new int[size];
+        for (int i = 0; i < size; i++) {
+            Player player = roster.get(i);
+            playerIds[i] = player.getPlayerId();
+            names[i] = player.getName();
+            lolIds[i] = player.getLolId();
+            mainLanes[i] = player.getMainLane();
+            subLanes[i] = player.getSubLane();
+            scores[i] = player.getScore() == null ? NULL : player.getScore();
+            streaks[i] = player.getWinLossStreak() == null ? NULL : player.getWinLossStreak();
+        }
+        this.builtAtNanos = System.nanoTime();
+    }
+
+    // pool은 players, members가 로드된 상태여야 한다
+    static PoolSnapshot of(Pool pool) {
+        List<Player> roster = new ArrayList<>(pool.getPlayers());
+        roster.sort(Comparator.comparing(Player::getScore, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(Player::getPlayerId));
+        UUID[] memberIds = pool.getMembers().stream()
+                .map(Profile::getId)
+                .sorted()
+                .toArray(UUID[]::new);
+        return new PoolSnapshot(pool, roster, memberIds);
+    }
+
+    public long poolId() {
+        return poolId;
+    }
+
+    public int size() {
+        return playerIds.length;
+    }
+
+    boolean canAccess(UUID userId) {
+        return ownerId.equals(userId) || Arrays.binarySearch(memberIds, userId) >= 0;
+    }
+
+    long ageNanos(long now) {
+        return now - builtAtNanos;
+    }
+
+    // 응답 객체만 새로 만든다 (DB 조회, 엔티티 없음)
+    PoolResponse toResponse() {
+        List<PlayerResponse> players = new ArrayList<>(playerIds.length);
+        for (int i = 0; i < playerIds.length; i++) {
+            players.add(PlayerResponse.builder()
+                    .playerId(playerIds[i])
+                    .name(names[i])
+                    .lolId(lolIds[i])
+                    .mainLane(mainLanes[i])
+                    .subLane(subLanes[i])
+                    .score(scores[i] == NULL ? null : scores[i])
+                    .winLossStreak(streaks[i] == NULL ? null : streaks[i])
+                    .build());
+        }
+        return PoolResponse.builder()
+                .poolId(poolId)
+                .name(name)
+                .createdAt(createdAt)
+                .players(players)
+                .playersCount(players.size())
+                .build();
+    }
+}
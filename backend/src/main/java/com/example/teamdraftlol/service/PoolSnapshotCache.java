@@ -0,0 +1,155 @@
+package com.example.teamdraftlol.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// 풀 ID별 PoolSnapshot 캐시, 조회는 ConcurrentHashMap 읽기 한 번 (락 없음)
+// 풀이 바뀌면 커밋 후 무효화 표시(빈 슬롯)로 바꾸고, 다음 조회가 새 스냅샷을 만들어 통째로 교체한다
+// 무효화 순번보다 먼저 읽기 시작한 스냅샷은 저장하지 않으므로 커밋 전 데이터가 남지 않는다
+// 크기 제한으로 슬롯을 지우면 그 순번을 evictedSequence에 남겨, 슬롯이 없는 풀도 그보다 먼저 읽기 시작한 스냅샷은 저장하지 않는다
+@Component
+public class PoolSnapshotCache {
+
+    private final int maxSize;
+    private final ConcurrentHashMap<Long, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong evictedSequence = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PoolSnapshotCache(@Value("${team.pool-snapshot-cache.max-size:256}") int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    public PoolSnapshot get(Long poolId, Function<Long, PoolSnapshot> loader) {
+        Slot slot = slots.get(poolId);
+        if (slot != null && slot.snapshot() != null) {
+            hits.increment();
+            return slot.snapshot();
+        }
+        misses.increment();
+        long loadSequence = sequence.get();
+        PoolSnapshot snapshot = loader.apply(poolId);
+        rebuilds.increment();
+        // 읽는 동안 무효화됐거나 더 나중에 읽은 스냅샷이 있으면 그대로 둔다 (이번 응답에는 읽은 값을 쓴다)
+        // 슬롯이 없으면 읽는 동안 무효화 표시가 크기 제한으로 지워졌을 수 있으므로 마지막으로 지운 순번과 비교한다
+        slots.compute(poolId, (id, current) -> {
+            long newest = current != null ? current.sequence() : evictedSequence.get();
+            return newest > loadSequence ? current : new Slot(snapshot, loadSequence);
+        });
+        if (slots.size() > maxSize) {
+            evictOldest();
+        }
+        return snapshot;
+    }
+
+    // 풀 구성·점수 변경 후 호출, 트랜잭션 안이면 커밋 후에 무효화한다 (롤백되면 그대로)
+    public void invalidate(Collection<Long> poolIds) {
+        if (poolIds.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> ids = List.copyOf(poolIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markInvalid(ids);
+                }
+            });
+        } else {
+            markInvalid(poolIds);
+        }
+    }
+
+    public void invalidate(Long poolId) {
+        invalidate(List.of(poolId));
+    }
+
+    public Map<String, Object> stats() {
+        long now = System.nanoTime();
+        int cached = 0;
+        long oldestAge = 0;
+        long totalAge = 0;
+        for (Slot slot : slots.values()) {
+            if (slot.snapshot() != null) {
+                long age = slot.snapshot().ageNanos(now);
+                cached++;
+                totalAge += age;
+                oldestAge = Math.max(oldestAge, age);
+            }
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", cached);
+        stats.put("maxSize", maxSize);
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("rebuilds", rebuilds.sum());
+        stats.put("invalidations", invalidations.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("oldestSnapshotAgeMs", oldestAge / 1_000_000);
+        stats.put("averageSnapshotAgeMs", cached == 0 ? 0 : totalAge / cached / 1_000_000);
+        return stats;
+    }
+
+    // 캐시에 없던 풀도 빈 슬롯을 남겨, 커밋 전에 읽기 시작한 조회가 옛 스냅샷을 넣지 못하게 한다
+    private void markInvalid(Collection<Long> poolIds) {
+        for (Long poolId : poolIds) {
+            slots.put(poolId, new Slot(null, sequence.incrementAndGet()));
+            invalidations.increment();
+        }
+        if (slots.size() > maxSize) {
+            evictOldest();
+        }
+    }
+
+    // 크기를 넘으면 빈 슬롯부터, 그다음 가장 오래전에 읽은 스냅샷부터 지운다 (쓰기 때만 실행)
+    // 지우기 전에 순번을 evictedSequence에 올려, 그보다 먼저 읽기 시작한 조회가 빈자리에 옛 스냅샷을 넣지 못하게 한다
+    private synchronized void evictOldest() {
+        while (slots.size() > maxSize) {
+            Long victim = null;
+            Slot victimSlot = null;
+            for (Map.Entry<Long, Slot> entry : slots.entrySet()) {
+                Slot slot = entry.getValue();
+                if (victimSlot == null || slot.olderThan(victimSlot)) {
+                    victim = entry.getKey();
+                    victimSlot = slot;
+                }
+            }
+            if (victim == null) {
+                return;
+            }
+            evictedSequence.accumulateAndGet(victimSlot.sequence(), Math::max);
+            if (slots.remove(victim, victimSlot)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    // snapshot == null이면 무효화 표시, sequence는 읽기 시작(또는 무효화) 시점의 순번
+    private record Slot(PoolSnapshot snapshot, long sequence) {
+        boolean olderThan(Slot other) {
+            if ((snapshot == null) != (other.snapshot == null)) {
+                return snapshot == null;
+            }
+            return sequence < other.sequence;
+        }
+    }
+}
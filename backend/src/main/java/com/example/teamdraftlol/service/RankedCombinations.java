@@ -0,0 +1,31 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.dto.response.TeamGenerationResponse;
+
+// 한 로스터에 대해 계산된 조합 순위 (엔진 + 순위별 팀 마스크), 생성 후에는 읽기 전용
+public final class RankedCombinations {
+
+    private final TeamCombinationEngine engine;
+    private final int[] masks;
+
+    public RankedCombinations(TeamCombinationEngine engine, int[] masks) {
+        this.engine = engine;
+        this.masks = masks;
+    }
+
+    TeamCombinationEngine engine() {
+        return engine;
+    }
+
+    public int size() {
+        return masks.length;
+    }
+
+    public int maskAt(int rank) {
+        return masks[rank];
+    }
+
+    public TeamGenerationResponse toResponse(int rank) {
+        return engine.toResponse(masks[rank]);
+    }
+}
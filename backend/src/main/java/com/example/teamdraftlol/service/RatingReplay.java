@@ -0,0 +1,272 @@
+package com.example.teamdraftlol.service;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 풀의 반영된 게임을 순서대로 다시 반영하는 메모리 엔진 (DB 접근 없음)
+// 플레이어 상태는 primitive 표(scores/streaks)로 들고, 게임마다 ScoreKernel로 점수 반영과 같은 계산을 한다
+// 기준 상태(base): 풀의 첫 게임 이전 점수/연승·연패, 체크포인트는 N게임마다의 플레이어 표 스냅샷
+final class RatingReplay {
+
+    static final int CHECKPOINT_INTERVAL = 1000;
+    // 저장된 값이 없는 전적 필드
+    static final int NULL = Integer.MIN_VALUE;
+    // 게임이 하나도 없을 때의 해시 (mixGame의 시작값)
+    static final long EMPTY_HASH = 0xcbf29ce484222325L;
+
+    // 플레이어 하나당 payload 크기: id, 기준 점수, 기준 연승/연패, 점수, 연승/연패
+    private static final int PLAYER_BYTES = Long.BYTES + 4 * Integer.BYTES;
+
+    private final Map<Long, Integer> indexByPlayer = new HashMap<>();
+    private long[] playerIds = new long[16];
+    private int[] baseScores = new int[16];
+    private int[] baseStreaks = new int[16];
+    private int[] scores = new int[16];
+    private int[] streaks = new int[16];
+    private int playerCount;
+
+    // 기준 상태로 플레이어 추가 (현재 상태도 기준 상태로 시작)
+    void addPlayer(long playerId, int baseScore, int baseStreak) {
+        if (playerCount == playerIds.length) {
+            int capacity = playerCount * 2;
+            playerIds = Arrays.copyOf(playerIds, capacity);
+            baseScores = Arrays.copyOf(baseScores, capacity);
+            baseStreaks = Arrays.copyOf(baseStreaks, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+            streaks = Arrays.copyOf(streaks, capacity);
+        }
+        indexByPlayer.put(playerId, playerCount);
+        playerIds[playerCount] = playerId;
+        baseScores[playerCount] = baseScore;
+        baseStreaks[playerCount] = baseStreak;
+        scores[playerCount] = baseScore;
+        streaks[playerCount] = baseStreak;
+        playerCount++;
+    }
+
+    int playerCount() {
+        return playerCount;
+    }
+
+    long playerId(int index) {
+        return playerIds[index];
+    }
+
+    int score(int index) {
+        return scores[index];
+    }
+
+    int streak(int index) {
+        return streaks[index];
+    }
+
+    // 체크포인트 상태로 되돌림, 기준 상태가 지금과 다른 플레이어가 있으면 (다른 풀 게임이나 점수 직접 수정) 쓰지 않고 false
+    boolean restore(byte[] payload) {
+        if (payload.length % PLAYER_BYTES != 0) {
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        int count = payload.length / PLAYER_BYTES;
+        int[] indexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            Integer index = indexByPlayer.get(buffer.getLong());
+            if (index == null || baseScores[index] != buffer.getInt() || baseStreaks[index] != buffer.getInt()) {
+                return false;
+            }
+            indexes[i] = index;
+            buffer.position(buffer.position() + 2 * Integer.BYTES);
+        }
+        buffer.rewind();
+        for (int i = 0; i < count; i++) {
+            buffer.position(buffer.position() + Long.BYTES + 2 * Integer.BYTES);
+            scores[indexes[i]] = buffer.getInt();
+            streaks[indexes[i]] = buffer.getInt();
+        }
+        return true;
+    }
+
+    byte[] snapshot() {
+        ByteBuffer buffer = ByteBuffer.allocate(playerCount * PLAYER_BYTES);
+        for (int i = 0; i < playerCount; i++) {
+            buffer.putLong(playerIds[i])
+                    .putInt(baseScores[i])
+                    .putInt(baseStreaks[i])
+                    .putInt(scores[i])
+                    .putInt(streaks[i]);
+        }
+        return buffer.array();
+    }
+
+    // log의 게임을 순서대로 반영, 전적별 결과는 log.deltas/bonuses/streaksAtGame에 기록
+    // startGameCount: log 첫 게임 이전까지 반영된 게임 수, prefixHashes[k]: 처음 k게임의 해시
+    // CHECKPOINT_INTERVAL의 배수 지점마다 체크포인트를 만들어 반환
+    List<Checkpoint> run(GameLog log, int startGameCount, long[] prefixHashes) {
+        List<Checkpoint> checkpoints = new ArrayList<>();
+        int[] slots = new int[0];
+        for (int g = 0; g < log.games; g++) {
+            int from = log.firstRecord[g];
+            int size = log.firstRecord[g + 1] - from;
+            ScoreKernel.Game game = new ScoreKernel.Game(log.team1Won[g], log.team1Kills[g], log.team2Kills[g],
+                    log.team1Gold[g], log.team2Gold[g], size);
+            if (slots.length < size) {
+                slots = new int[size];
+            }
+            for (int slot = 0; slot < size; slot++) {
+                int r = from + slot;
+                Integer index = indexByPlayer.get(log.playerIds[r]);
+                if (index == null) {
+                    throw new IllegalStateException("기준 상태가 없는 플레이어입니다: " + log.playerIds[r]);
+                }
+                slots[slot] = index;
+                game.teams[slot] = log.teams[r];
+                game.lanes[slot] = log.lanes[r];
+                game.kills[slot] = log.kills[r];
+                game.deaths[slot] = log.deaths[r];
+                game.assists[slot] = log.assists[r];
+                game.cs[slot] = log.cs[r];
+                game.scores[slot] = scores[index];
+            }
+            game.linkOpponents();
+
+            // 점수 반영과 같은 순서: 앞서 반영한 플레이어의 새 점수를 이후 계산에 사용
+            for (int slot = 0; slot < size; slot++) {
+                int r = from + slot;
+                int index = slots[slot];
+                boolean isWinner = game.isWinner(slot);
+                int currentStreak = streaks[index];
+                game.streaks[slot] = currentStreak;
+                log.streaksAtGame[r] = currentStreak;
+                log.deltas[r] = ScoreKernel.applySlot(game, slot);
+                log.bonuses[r] = ScoreKernel.streakBonus(currentStreak, isWinner);
+                scores[index] = game.scores[slot];
+                streaks[index] = ScoreKernel.nextStreak(currentStreak, isWinner);
+            }
+
+            int gameCount = startGameCount + g + 1;
+            if (gameCount % CHECKPOINT_INTERVAL == 0) {
+                checkpoints.add(new Checkpoint(gameCount, log.gameIds[g], prefixHashes[gameCount], snapshot()));
+            }
+        }
+        return checkpoints;
+    }
+
+    // 체크포인트 유효성 확인용 게임 해시 (게임 결과·전적 구성이 바뀌면 달라진다)
+    // 전적 수정은 전적을 지우고 새로 만들므로 전적 수와 가장 큰 전적 ID로 감지
+    static long mixGame(long hash, long gameId, boolean team1Won, int team1Kills, int team2Kills,
+                        int team1Gold, int team2Gold, long recordCount, long maxRecordId) {
+        hash = (hash ^ gameId) * 0x100000001b3L;
+        hash = (hash ^ (team1Won ? 1 : 2)) * 0x100000001b3L;
+        hash = (hash ^ team1Kills) * 0x100000001b3L;
+        hash = (hash ^ team2Kills) * 0x100000001b3L;
+        hash = (hash ^ team1Gold) * 0x100000001b3L;
+        hash = (hash ^ team2Gold) * 0x100000001b3L;
+        hash = (hash ^ recordCount) * 0x100000001b3L;
+        return (hash ^ maxRecordId) * 0x100000001b3L;
+    }
+
+    record Checkpoint(int gameCount, long lastGameId, long prefixHash, byte[] payload) {
+    }
+
+    // 다시 반영할 게임과 전적을 게임 순서대로 담는 열 단위 버퍼
+    // 같은 게임의 전적은 연속으로 추가해야 한다
+    static final class GameLog {
+        int games;
+        long[] gameIds = new long[16];
+        boolean[] team1Won = new boolean[16];
+        int[] team1Kills = new int[16];
+        int[] team2Kills = new int[16];
+        int[] team1Gold = new int[16];
+        int[] team2Gold = new int[16];
+        // 게임 g의 전적은 [firstRecord[g], firstRecord[g + 1])
+        int[] firstRecord = new int[17];
+
+        int records;
+        long[] recordIds = new long[128];
+        long[] playerIds = new long[128];
+        int[] teams = new int[128];
+        int[] lanes = new int[128];
+        int[] kills = new int[128];
+        int[] deaths = new int[128];
+        int[] assists = new int[128];
+        int[] cs = new int[128];
+        // 저장돼 있던 값 (없으면 NULL), 다시 계산한 값과 비교해 바뀐 전적만 쓴다
+        int[] storedDeltas = new int[128];
+        int[] storedBonuses = new int[128];
+        int[] storedStreaks = new int[128];
+        // run 결과
+        int[] deltas = new int[128];
+        int[] bonuses = new int[128];
+        int[] streaksAtGame = new int[128];
+
+        void addGame(long gameId, boolean won, int kills1, int kills2, int gold1, int gold2) {
+            if (games == gameIds.length) {
+                int capacity = games * 2;
+                gameIds = Arrays.copyOf(gameIds, capacity);
+                team1Won = Arrays.copyOf(team1Won, capacity);
+                team1Kills = Arrays.copyOf(team1Kills, capacity);
+                team2Kills = Arrays.copyOf(team2Kills, capacity);
+                team1Gold = Arrays.copyOf(team1Gold, capacity);
+                team2Gold = Arrays.copyOf(team2Gold, capacity);
+                firstRecord = Arrays.copyOf(firstRecord, capacity + 1);
+            }
+            gameIds[games] = gameId;
+            team1Won[games] = won;
+            team1Kills[games] = kills1;
+            team2Kills[games] = kills2;
+            team1Gold[games] = gold1;
+            team2Gold[games] = gold2;
+            firstRecord[games] = records;
+            games++;
+            firstRecord[games] = records;
+        }
+
+        // 마지막으로 추가한 게임의 전적
+        void addRecord(long recordId, long playerId, int team, int lane, int k, int d, int a, int minions,
+                       int storedDelta, int storedBonus, int storedStreak) {
+            if (records == recordIds.length) {
+                int capacity = records * 2;
+                recordIds = Arrays.copyOf(recordIds, capacity);
+                playerIds = Arrays.copyOf(playerIds, capacity);
+                teams = Arrays.copyOf(teams, capacity);
+                lanes = Arrays.copyOf(lanes, capacity);
+                kills = Arrays.copyOf(kills, capacity);
+                deaths = Arrays.copyOf(deaths, capacity);
+                assists = Arrays.copyOf(assists, capacity);
+                cs = Arrays.copyOf(cs, capacity);
+                storedDeltas = Arrays.copyOf(storedDeltas, capacity);
+                storedBonuses = Arrays.copyOf(storedBonuses, capacity);
+                storedStreaks = Arrays.copyOf(storedStreaks, capacity);
+                deltas = Arrays.copyOf(deltas, capacity);
+                bonuses = Arrays.copyOf(bonuses, capacity);
+                streaksAtGame = Arrays.copyOf(streaksAtGame, capacity);
+            }
+            recordIds[records] = recordId;
+            playerIds[records] = playerId;
+            teams[records] = team;
+            lanes[records] = lane;
+            kills[records] = k;
+            deaths[records] = d;
+            assists[records] = a;
+            cs[records] = minions;
+            storedDeltas[records] = storedDelta;
+            storedBonuses[records] = storedBonus;
+            storedStreaks[records] = storedStreak;
+            records++;
+            firstRecord[games] = records;
+        }
+
+        long lastGameId() {
+            return gameIds[games - 1];
+        }
+
+        boolean changed(int record) {
+            return storedDeltas[record] != deltas[record]
+                    || storedBonuses[record] != bonuses[record]
+                    || storedStreaks[record] != streaksAtGame[record];
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.dto.response.RatingReplayResponse;
+import com.example.teamdraftlol.entity.Pool;
+import com.example.teamdraftlol.entity.RatingCheckpoint;
+import com.example.teamdraftlol.repository.PlayerLaneStatsRepository;
+import com.example.teamdraftlol.repository.PoolRepository;
+import com.example.teamdraftlol.repository.RatingCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 풀의 반영된 게임을 현재 계산식으로 처음부터 다시 반영 (계산식·계수 변경 후 점수 재구성용)
+// 플레이어의 점수는 풀마다 따로가 아니므로, 다른 풀에서도 반영된 게임이 있는 플레이어가 있으면 거부한다
+// 읽기: 게임 목록 1번, 다른 풀 게임 확인 1번, 플레이어 기준 상태 1번, 체크포인트 이후 전적 1번
+// 쓰기: 플레이어·전적은 바뀐 행만 배열 파라미터 UPDATE 한 번씩, 체크포인트는 JDBC 배치 INSERT
+@Service
+@RequiredArgsConstructor
+public class RatingReplayService {
+
+    private final PoolRepository poolRepository;
+    private final PoolAccessControl poolAccessControl;
+    private final RatingCheckpointRepository ratingCheckpointRepository;
+    private final PlayerLaneStatsRepository playerLaneStatsRepository;
+    private final PoolSnapshotCache poolSnapshotCache;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 리플레이 순서의 반영된 게임, 체크포인트 해시용 전적 수·최대 전적 ID와 변화량이 저장되지 않은 전적 수
+    private static final String GAME_HEADERS_SQL =
+            "SELECT g.game_id, g.created_at, g.team1_won, g.team1_kills, g.team2_kills, g.team1_gold, g.team2_gold, " +
+            "COUNT(r.record_id), COALESCE(MAX(r.record_id), 0), " +
+            "COUNT(r.record_id) FILTER (WHERE r.applied_score_delta IS NULL) " +
+            "FROM game_records g LEFT JOIN player_game_records r ON r.game_id = g.game_id " +
+            "WHERE g.pool_id = ? AND g.is_applied " +
+            "GROUP BY g.game_id ORDER BY g.created_at, g.game_id";
+
+    // 플레이어별 기준 상태: 현재 점수 - 이 풀에서 반영된 변화량 합, 풀의 첫 게임 직전 연승/연패
+    private static final String PLAYER_BASES_SQL =
+            "SELECT r.player_id, COALESCE(p.score, 0) - COALESCE(SUM(r.applied_score_delta), 0), " +
+            "COALESCE((ARRAY_AGG(r.win_loss_streak_at_game ORDER BY g.created_at, g.game_id))[1], 0) " +
+            "FROM player_game_records r JOIN game_records g ON g.game_id = r.game_id " +
+            "JOIN players p ON p.player_id = r.player_id " +
+            "WHERE g.pool_id = ? AND g.is_applied " +
+            "GROUP BY r.player_id, p.score";
+
+    // 이 풀의 반영된 게임에 나온 플레이어 중 다른 풀에서도 반영된 게임이 있는 플레이어 수
+    // 점수·연승/연패는 플레이어 하나에 모든 풀의 게임이 누적되므로, 이런 플레이어가 있으면 이 풀만 다시 반영할 수 없다
+    private static final String SHARED_PLAYERS_SQL =
+            "SELECT COUNT(DISTINCT o.player_id) " +
+            "FROM player_game_records o JOIN game_records og ON og.game_id = o.game_id " +
+            "WHERE og.is_applied AND og.pool_id <> ? AND o.player_id IN (" +
+            "  SELECT r.player_id FROM player_game_records r JOIN game_records g ON g.game_id = r.game_id " +
+            "  WHERE g.pool_id = ? AND g.is_applied)";
+
+    private static final String RECORDS_SQL =
+            "SELECT g.game_id, g.team1_won, g.team1_kills, g.team2_kills, g.team1_gold, g.team2_gold, " +
+            "r.record_id, r.player_id, r.team_number, r.assigned_position, r.kills, r.deaths, r.assists, r.cs, " +
+            "r.applied_score_delta, r.applied_streak_bonus, r.win_loss_streak_at_game " +
+            "FROM game_records g LEFT JOIN player_game_records r ON r.game_id = g.game_id " +
+            "WHERE g.pool_id = ? AND g.is_applied ";
+    private static final String AFTER_CHECKPOINT = "AND (g.created_at, g.game_id) > (?, ?) ";
+    private static final String RECORDS_ORDER = "ORDER BY g.created_at, g.game_id, r.record_id";
+
+    private static final String UPDATE_PLAYERS_SQL =
+            "UPDATE players p SET score = v.score, win_loss_streak = v.streak " +
+            "FROM unnest(?::bigint[], ?::int[], ?::int[]) AS v(player_id, score, streak) " +
+            "WHERE p.player_id = v.player_id " +
+            "AND (p.score IS DISTINCT FROM v.score OR p.win_loss_streak IS DISTINCT FROM v.streak)";
+
+    private static final String UPDATE_RECORDS_SQL =
+            "UPDATE player_game_records r SET applied_score_delta = v.delta, applied_streak_bonus = v.bonus, " +
+            "win_loss_streak_at_game = v.streak " +
+            "FROM unnest(?::bigint[], ?::int[], ?::int[], ?::int[]) AS v(record_id, delta, bonus, streak) " +
+            "WHERE r.record_id = v.record_id";
+
+    private static final String DELETE_CHECKPOINTS_SQL =
+            "DELETE FROM rating_checkpoints WHERE pool_id = ? AND (game_count > ? OR rules_version <> ?)";
+
+    private static final String INSERT_CHECKPOINT_SQL =
+            "INSERT INTO rating_checkpoints (pool_id, game_count, last_game_id, prefix_hash, rules_version, payload, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, now())";
+
+    @Transactional
+    public RatingReplayResponse replayPool(Long poolId, String userId) {
+        long started = System.nanoTime();
+        // 같은 풀의 다른 풀 단위 변경과 겹치지 않도록 풀 행을 잠근다
+        Pool pool = poolRepository.findByIdForUpdate(poolId);
+        if (pool == null) {
+            throw new IllegalArgumentException("풀을 찾을 수 없습니다.");
+        }
+        if (!poolAccessControl.role(poolId, userId).isOwner()) {
+            throw new IllegalArgumentException("풀의 소유자만 점수를 다시 계산할 수 있습니다.");
+        }
+
+        GameHeaders headers = loadGameHeaders(poolId);
+        if (headers.legacyRecords > 0) {
+            // 기준 점수를 알 수 없으므로 다시 반영하면 그 게임 점수가 두 번 들어간다
+            throw new IllegalArgumentException("점수 변화량이 저장되지 않은 (이전 방식으로 반영된) 게임이 있어 다시 계산할 수 없습니다.");
+        }
+        // 기준 상태(현재 점수 - 이 풀의 변화량 합)와 연승/연패 흐름이 다른 풀의 게임까지 포함해야 맞으므로 거부
+        Integer sharedPlayers = jdbcTemplate.queryForObject(SHARED_PLAYERS_SQL, Integer.class, poolId, poolId);
+        if (sharedPlayers != null && sharedPlayers > 0) {
+            throw new IllegalArgumentException("다른 풀에서도 반영된 게임이 있는 플레이어가 " + sharedPlayers
+                    + "명 있어 이 풀만 다시 계산할 수 없습니다.");
+        }
+
+        RatingReplay replay = new RatingReplay();
+        jdbcTemplate.query(PLAYER_BASES_SQL, (RowCallbackHandler) rs ->
+                replay.addPlayer(rs.getLong(1), rs.getInt(2), rs.getInt(3)), poolId);
+
+        // 그 사이 게임과 플레이어 기준 상태가 그대로인 가장 많이 진행된 체크포인트부터 이어서 계산
+        int resumedFrom = 0;
+        for (RatingCheckpoint checkpoint : ratingCheckpointRepository
+                .findByPool_PoolIdAndRulesVersionOrderByGameCountDesc(poolId, ScoreKernel.RULES_VERSION)) {
+            int gameCount = checkpoint.getGameCount();
+            if (gameCount <= headers.count
+                    && headers.prefixHashes[gameCount] == checkpoint.getPrefixHash()
+                    && replay.restore(checkpoint.getPayload())) {
+                resumedFrom = gameCount;
+                break;
+            }
+        }
+
+        RatingReplay.GameLog log = loadGames(poolId, headers, resumedFrom);
+        List<RatingReplay.Checkpoint> checkpoints = replay.run(log, resumedFrom, headers.prefixHashes);
+
+        int updatedPlayers = writePlayers(replay);
+        int updatedRecords = writeRecords(log);
+        writeCheckpoints(poolId, resumedFrom, checkpoints);
+        List<Long> playerIds = new ArrayList<>(replay.playerCount());
+        for (int i = 0; i < replay.playerCount(); i++) {
+            playerIds.add(replay.playerId(i));
+        }
+        if (updatedRecords > 0) {
+            // 누적 통계의 점수 변화량 합이 바뀌었으므로 이 풀 플레이어들의 통계를 다시 만든다
+            playerLaneStatsRepository.deleteByPlayerIds(playerIds);
+            playerLaneStatsRepository.insertFromAppliedGames(playerIds);
+        }
+        if (updatedPlayers > 0) {
+            // 점수가 바뀐 플레이어가 속한 모든 풀의 스냅샷
+            poolSnapshotCache.invalidate(poolRepository.findPoolIdsByPlayerIds(playerIds));
+        }
+
+        return RatingReplayResponse.builder()
+                .poolId(poolId)
+                .totalGames(headers.count)
+                .resumedFromGame(resumedFrom)
+                .replayedGames(log.games)
+                .updatedPlayers(updatedPlayers)
+                .updatedRecords(updatedRecords)
+                .checkpointsWritten(checkpoints.size())
+                .elapsedMs((System.nanoTime() - started) / 1_000_000)
+                .build();
+    }
+
+    private GameHeaders loadGameHeaders(Long poolId) {
+        GameHeaders headers = new GameHeaders();
+        jdbcTemplate.query(GAME_HEADERS_SQL, (RowCallbackHandler) rs -> {
+            long gameId = rs.getLong(1);
+            long hash = RatingReplay.mixGame(headers.prefixHashes[headers.count], gameId, rs.getBoolean(3),
+                    rs.getInt(4), rs.getInt(5), rs.getInt(6), rs.getInt(7), rs.getLong(8), rs.getLong(9));
+            headers.add(gameId, rs.getTimestamp(2), hash);
+            headers.legacyRecords += rs.getInt(10);
+        }, poolId);
+        return headers;
+    }
+
+    // resumedFrom번째 게임 이후의 게임과 전적을 순서대로 읽는다
+    private RatingReplay.GameLog loadGames(Long poolId, GameHeaders headers, int resumedFrom) {
+        RatingReplay.GameLog log = new RatingReplay.GameLog();
+        RowCallbackHandler handler = rs -> {
+            long gameId = rs.getLong(1);
+            if (log.games == 0 || log.lastGameId() != gameId) {
+                log.addGame(gameId, rs.getBoolean(2), rs.getInt(3), rs.getInt(4), rs.getInt(5), rs.getInt(6));
+            }
+            long recordId = rs.getLong(7);
+            if (rs.wasNull()) {
+                return; // 전적이 없는 게임
+            }
+            log.addRecord(recordId, rs.getLong(8), rs.getInt(9), LaneEvaluator.laneIndex(rs.getString(10)),
+                    rs.getInt(11), rs.getInt(12), rs.getInt(13), rs.getInt(14),
+                    nullableInt(rs.getObject(15)), nullableInt(rs.getObject(16)), nullableInt(rs.getObject(17)));
+        };
+        if (resumedFrom == 0) {
+            jdbcTemplate.query(RECORDS_SQL + RECORDS_ORDER, handler, poolId);
+        } else {
+            jdbcTemplate.query(RECORDS_SQL + AFTER_CHECKPOINT + RECORDS_ORDER, handler, poolId,
+                    headers.createdAt.get(resumedFrom - 1), headers.gameIds[resumedFrom - 1]);
+        }
+        if (resumedFrom + log.games != headers.count) {
+            // 게임 목록을 읽은 뒤 같은 트랜잭션 안에서 바뀌지 않으므로 여기 오면 조회 조건이 어긋난 것
+            throw new IllegalStateException("리플레이할 게임 수가 맞지 않습니다.");
+        }
+        return log;
+    }
+
+    private static int nullableInt(Object value) {
+        return value == null ? RatingReplay.NULL : ((Number) value).intValue();
+    }
+
+    private int writePlayers(RatingReplay replay) {
+        int count = replay.playerCount();
+        if (count == 0) {
+            return 0;
+        }
+        Long[] ids = new Long[count];
+        Integer[] scores = new Integer[count];
+        Integer[] streaks = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = replay.playerId(i);
+            scores[i] = replay.score(i);
+            streaks[i] = replay.streak(i);
+        }
+        return jdbcTemplate.update(UPDATE_PLAYERS_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids));
+            ps.setArray(2, ps.getConnection().createArrayOf("integer", scores));
+            ps.setArray(3, ps.getConnection().createArrayOf("integer", streaks));
+        });
+    }
+
+    // 다시 계산한 값이 저장된 값과 다른 전적만 쓴다 (계산식이 그대로면 0건)
+    private int writeRecords(RatingReplay.GameLog log) {
+        List<Integer> changed = new ArrayList<>();
+        for (int r = 0; r < log.records; r++) {
+            if (log.changed(r)) {
+                changed.add(r);
+            }
+        }
+        if (changed.isEmpty()) {
+            return 0;
+        }
+        Long[] ids = new Long[changed.size()];
+        Integer[] deltas = new Integer[changed.size()];
+        Integer[] bonuses = new Integer[changed.size()];
+        Integer[] streaks = new Integer[changed.size()];
+        for (int i = 0; i < changed.size(); i++) {
+            int r = changed.get(i);
+            ids[i] = log.recordIds[r];
+            deltas[i] = log.deltas[r];
+            bonuses[i] = log.bonuses[r];
+            streaks[i] = log.streaksAtGame[r];
+        }
+        return jdbcTemplate.update(UPDATE_RECORDS_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids));
+            ps.setArray(2, ps.getConnection().createArrayOf("integer", deltas));
+            ps.setArray(3, ps.getConnection().createArrayOf("integer", bonuses));
+            ps.setArray(4, ps.getConnection().createArrayOf("integer", streaks));
+        });
+    }
+
+    // 이어서 시작한 지점 이후의 체크포인트와 다른 계산 버전의 체크포인트는 지우고 새로 쓴다
+    private void writeCheckpoints(Long poolId, int resumedFrom, List<RatingReplay.Checkpoint> checkpoints) {
+        jdbcTemplate.update(DELETE_CHECKPOINTS_SQL, poolId, resumedFrom, ScoreKernel.RULES_VERSION);
+        if (checkpoints.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(checkpoints.size());
+        for (RatingReplay.Checkpoint checkpoint : checkpoints) {
+            rows.add(new Object[]{poolId, checkpoint.gameCount(), checkpoint.lastGameId(), checkpoint.prefixHash(),
+                    ScoreKernel.RULES_VERSION, checkpoint.payload()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_CHECKPOINT_SQL, rows);
+    }
+
+    // 리플레이 순서의 게임 목록, prefixHashes[k]는 처음 k게임의 해시
+    private static final class GameHeaders {
+        int count;
+        long[] gameIds = new long[16];
+        List<Timestamp> createdAt = new ArrayList<>();
+        long[] prefixHashes = {RatingReplay.EMPTY_HASH, 0L};
+        int legacyRecords;
+
+        void add(long gameId, Timestamp created, long hash) {
+            if (count == gameIds.length) {
+                gameIds = Arrays.copyOf(gameIds, count * 2);
+            }
+            if (count + 1 == prefixHashes.length) {
+                prefixHashes = Arrays.copyOf(prefixHashes, prefixHashes.length * 2);
+            }
+            gameIds[count] = gameId;
+            createdAt.add(created);
+            count++;
+            prefixHashes[count] = hash;
+        }
+    }
+}
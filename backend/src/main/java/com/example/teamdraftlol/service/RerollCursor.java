@@ -0,0 +1,105 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+
+// 리롤 커서의 내용: 로스터(정렬된 플레이어 ID + 점수/라인 버전), 규칙 버전, 옵션, 현재 순위, 순위별 팀 마스크
+// 서버에 상태를 두지 않고 커서만으로 원하는 순위의 조합 하나를 다시 계산할 수 있다
+// 제약 조건은 해시(constraintsVersion)만 담고, 리롤 요청에 함께 온 제약과 같은지만 확인한다
+public record RerollCursor(long[] playerIds, long rosterVersion, int rulesVersion,
+                           LaneAssignmentMode mode, int limit, long constraintsVersion,
+                           int rank, int[] masks) {
+
+    public static RerollCursor of(List<Player> players, TeamDraftOptions options,
+                                  int rank, RankedCombinations combinations) {
+        List<Player> sorted = sortedById(players);
+        long[] ids = new long[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            ids[i] = sorted.get(i).getPlayerId();
+        }
+        int[] masks = new int[combinations.size()];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = combinations.maskAt(i);
+        }
+        return new RerollCursor(ids, rosterVersion(sorted), LaneEvaluator.RULES_VERSION,
+                options.mode(), options.limit(), options.constraints().fingerprint(), rank, masks);
+    }
+
+    public RerollCursor withRank(int newRank) {
+        return new RerollCursor(playerIds, rosterVersion, rulesVersion, mode, limit, constraintsVersion, newRank, masks);
+    }
+
+    public int size() {
+        return masks.length;
+    }
+
+    public int maskAt(int index) {
+        return masks[index];
+    }
+
+    public List<Long> playerIdList() {
+        List<Long> ids = new ArrayList<>(playerIds.length);
+        for (long id : playerIds) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    // 요청한 로스터와 옵션으로 발급된 커서인지 확인 (다른 로비의 커서를 받으면 false)
+    public boolean matches(List<Long> requestedIds, TeamDraftOptions requestedOptions) {
+        if (requestedIds == null
+                || mode != requestedOptions.mode()
+                || limit != requestedOptions.limit()
+                || constraintsVersion != requestedOptions.constraints().fingerprint()) {
+            return false;
+        }
+        return new HashSet<>(requestedIds).equals(new HashSet<>(playerIdList()));
+    }
+
+    // 발급 이후 플레이어 점수/라인이나 배정 규칙이 바뀌지 않았는지 확인
+    public boolean isCurrent(List<Player> players) {
+        return rulesVersion == LaneEvaluator.RULES_VERSION
+                && players.size() == playerIds.length
+                && rosterVersion(sortedById(players)) == rosterVersion;
+    }
+
+    private static List<Player> sortedById(List<Player> players) {
+        List<Player> sorted = new ArrayList<>(players);
+        sorted.sort(Comparator.comparing(Player::getPlayerId));
+        return sorted;
+    }
+
+    // 플레이어 ID와 팀 구성에 영향을 주는 필드(점수, 주/부 라인)를 합친 64비트 해시
+    private static long rosterVersion(List<Player> sorted) {
+        long hash = 0xcbf29ce484222325L;
+        for (Player player : sorted) {
+            hash = (hash ^ player.getPlayerId()) * 0x100000001b3L;
+            hash = (hash ^ TeamCombinationCache.RosterKey.version(player)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RerollCursor other)) return false;
+        return rosterVersion == other.rosterVersion
+                && rulesVersion == other.rulesVersion
+                && rank == other.rank
+                && mode == other.mode
+                && limit == other.limit
+                && constraintsVersion == other.constraintsVersion
+                && Arrays.equals(playerIds, other.playerIds)
+                && Arrays.equals(masks, other.masks);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(playerIds) + Long.hashCode(rosterVersion)) + rank;
+    }
+}
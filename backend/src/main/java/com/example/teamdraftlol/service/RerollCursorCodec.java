@@ -0,0 +1,113 @@
+package com.example.teamdraftlol.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+// 리롤 커서 직렬화 + HMAC-SHA256 서명, 같은 비밀키를 쓰는 모든 서버가 커서를 검증·해석할 수 있다
+// 형식: [형식 버전 1B][규칙 버전 1B][배정 방식 1B][limit 1B][순위 1B][플레이어 수 1B][마스크 수 1B]
+//       [로스터 버전 8B][제약 조건 해시 8B][플레이어 ID 8B × n][팀 마스크 2B × m][서명 16B], base64url
+@Component
+public class RerollCursorCodec {
+
+    private static final byte FORMAT_VERSION = 2;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 16;
+    private static final int HEADER_LENGTH = 7 + Long.BYTES * 2;
+
+    private final SecretKeySpec key;
+
+    public RerollCursorCodec(@Value("${team.cursor.secret:${jwt.secret}}") String secret) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String encode(RerollCursor cursor) {
+        long[] ids = cursor.playerIds();
+        int[] masks = cursor.masks();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + ids.length * Long.BYTES
+                + masks.length * Short.BYTES + SIGNATURE_LENGTH);
+        buffer.put(FORMAT_VERSION)
+                .put((byte) cursor.rulesVersion())
+                .put((byte) cursor.mode().ordinal())
+                .put((byte) cursor.limit())
+                .put((byte) cursor.rank())
+                .put((byte) ids.length)
+                .put((byte) masks.length)
+                .putLong(cursor.rosterVersion())
+                .putLong(cursor.constraintsVersion());
+        for (long id : ids) {
+            buffer.putLong(id);
+        }
+        for (int mask : masks) {
+            buffer.putShort((short) mask);
+        }
+        byte[] bytes = buffer.array();
+        int payloadLength = bytes.length - SIGNATURE_LENGTH;
+        System.arraycopy(sign(bytes, payloadLength), 0, bytes, payloadLength, SIGNATURE_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // 서명이 맞지 않거나 형식이 잘못된 커서는 빈 값 (비밀키 교체 후 이전 커서 포함)
+    public Optional<RerollCursor> decode(String token) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            int payloadLength = bytes.length - SIGNATURE_LENGTH;
+            if (payloadLength < HEADER_LENGTH) {
+                return Optional.empty();
+            }
+            byte[] expected = sign(bytes, payloadLength);
+            byte[] actual = Arrays.copyOfRange(bytes, payloadLength, bytes.length);
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return Optional.empty();
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, payloadLength);
+            if (buffer.get() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            int rulesVersion = buffer.get();
+            LaneAssignmentMode mode = LaneAssignmentMode.values()[buffer.get()];
+            int limit = Byte.toUnsignedInt(buffer.get());
+            int rank = Byte.toUnsignedInt(buffer.get());
+            long[] ids = new long[Byte.toUnsignedInt(buffer.get())];
+            int[] masks = new int[Byte.toUnsignedInt(buffer.get())];
+            long rosterVersion = buffer.getLong();
+            long constraintsVersion = buffer.getLong();
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = buffer.getLong();
+            }
+            for (int i = 0; i < masks.length; i++) {
+                masks[i] = Short.toUnsignedInt(buffer.getShort());
+            }
+            if (buffer.hasRemaining() || rank >= masks.length) {
+                return Optional.empty();
+            }
+            return Optional.of(new RerollCursor(ids, rosterVersion, rulesVersion,
+                    mode, limit, constraintsVersion, rank, masks));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | BufferUnderflowException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(byte[] bytes, int length) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(bytes, 0, length);
+            return Arrays.copyOf(mac.doFinal(), SIGNATURE_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.example.teamdraftlol.service;
+
+// 점수 계산식의 상수 묶음, 점수 반영(APPLY)과 미리보기(SIMULATE)는 같은 커널에 다른 상수를 넘긴다
+// winBase/lossBase: 승리/패배 기본 점수
+// lossKdaVsOpponent: 패배 시 KDA 항을 (상대 KDA / 내 KDA)로 계산할지 (false면 내 KDA)
+// csFactor: 맞라인 CS 비율 계수, kdaRatioFactor: 맞라인 KDA 비율 계수 (0이면 사용 안 함)
+// underdog*/favorite*: 맞라인보다 점수가 낮을/높을 때 점수 비율에 곱하는 항 (승리/패배별)
+record ScoreFormula(int winBase, int lossBase, boolean lossKdaVsOpponent,
+                    double csFactor, double kdaRatioFactor,
+                    RatioTerm underdogWin, RatioTerm underdogLoss,
+                    RatioTerm favoriteWin, RatioTerm favoriteLoss) {
+
+    // 실제 점수 반영
+    static final ScoreFormula APPLY = new ScoreFormula(0, -15, false, 3, 0,
+            new RatioTerm(5, 0), new RatioTerm(2, 0),
+            new RatioTerm(0, 2), new RatioTerm(0, 5));
+
+    // 전적 화면의 예상 점수
+    static final ScoreFormula SIMULATE = new ScoreFormula(7, -7, true, 5, 5,
+            new RatioTerm(3, 5), new RatioTerm(1, 3),
+            RatioTerm.NONE, RatioTerm.NONE);
+
+    // round(ratio × plus) - round(ratio × minus), 두 항을 따로 반올림하는 기존 계산을 그대로 따른다
+    record RatioTerm(double plus, double minus) {
+
+        static final RatioTerm NONE = new RatioTerm(0, 0);
+
+        int apply(double ratio) {
+            return (int) Math.round(ratio * plus) - (int) Math.round(ratio * minus);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.entity.GameRecord;
+import com.example.teamdraftlol.entity.Player;
+import com.example.teamdraftlol.entity.PlayerGameRecord;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.example.teamdraftlol.service.LaneEvaluator.TEAM_SIZE;
+
+// 한 게임의 플레이어별 점수 변화 계산 커널 (점수 반영과 미리보기 공용)
+// 엔티티 대신 게임 단위 primitive 배열(Game)만 읽고, 맞라인 상대는 [팀][포지션] 표로 한 번에 찾는다
+final class ScoreKernel {
+
+    // 점수 계산(계수, ScoreFormula 포함)을 바꾸면 올린다, 이전 버전으로 만든 리플레이 체크포인트는 버려진다
+    static final int RULES_VERSION = 1;
+
+    // TOP, JGL, MID, ADC, SUP 순서의 포지션 계수, 알 수 없는 포지션은 1.0
+    private static final double[] LANE_COEFS = {1.5, 1.2, 1.2, 1.0, 0.8};
+
+    private ScoreKernel() {
+    }
+
+    // slot번째 플레이어의 점수 변화 (연승/연패 보너스 포함), game은 읽기만 한다
+    static int scoreDelta(Game game, int slot, ScoreFormula formula) {
+        int team = game.teams[slot];
+        boolean isWinner = game.isWinner(slot);
+        int opponent = game.opponents[slot];
+        double kda = game.kda(slot);
+        double coef = game.lanes[slot] >= 0 ? LANE_COEFS[game.lanes[slot]] : 1.0;
+
+        int total = isWinner ? formula.winBase() : formula.lossBase();
+        // KDA
+        if (isWinner) {
+            total += (int) Math.round(kda * coef);
+        } else if (formula.lossKdaVsOpponent()) {
+            double kdaOpponent = opponent >= 0 ? game.kda(opponent) : 1.0;
+            total -= (int) Math.round((kdaOpponent / (kda == 0 ? 1 : kda)) * coef);
+        } else {
+            total -= (int) Math.round(kda * coef);
+        }
+        // 골드 차이
+        int myTeamGold = team == 1 ? game.team1Gold : game.team2Gold;
+        int oppTeamGold = team == 1 ? game.team2Gold : game.team1Gold;
+        int goldDiff = (int) Math.round(((double) myTeamGold / (oppTeamGold == 0 ? 1 : oppTeamGold)) * 3);
+        total += isWinner ? goldDiff : -goldDiff;
+        // 킬 차이
+        int myTeamKills = team == 1 ? game.team1Kills : game.team2Kills;
+        int oppTeamKills = team == 1 ? game.team2Kills : game.team1Kills;
+        int killDiff = (int) Math.round((myTeamKills - oppTeamKills) * 0.5);
+        total += isWinner ? killDiff : -killDiff;
+
+        if (opponent >= 0) {
+            // CS 차이
+            int cs = game.cs[slot];
+            int csOpponent = game.cs[opponent];
+            int csCoef = (int) Math.round(ratio(cs, csOpponent) * formula.csFactor());
+            total += cs > csOpponent ? csCoef : -csCoef;
+            // KDA 차이
+            if (formula.kdaRatioFactor() > 0) {
+                double kdaOpponent = game.kda(opponent);
+                int kdaCoef = (int) Math.round((Math.max(kda, kdaOpponent) / Math.max(Math.min(kda, kdaOpponent), 1)) * formula.kdaRatioFactor());
+                total += kda > kdaOpponent ? kdaCoef : -kdaCoef;
+            }
+            // 점수 차이
+            int myScore = game.scores[slot];
+            int oppScore = game.scores[opponent];
+            if (myScore < oppScore) {
+                total += (isWinner ? formula.underdogWin() : formula.underdogLoss()).apply(ratio(myScore, oppScore));
+            } else if (myScore > oppScore) {
+                total += (isWinner ? formula.favoriteWin() : formula.favoriteLoss()).apply(ratio(myScore, oppScore));
+            }
+        }
+
+        if (isWinner) total = Math.max(10, Math.min(75, total));
+        else total = Math.max(-75, Math.min(-10, total));
+        return total + streakBonus(game.streaks[slot], isWinner);
+    }
+
+    // slot번째 플레이어에게 결과를 반영: game.scores[slot]를 새 점수(0점 하한)로 바꾸고 실제 변화량을 반환
+    // game.streaks[slot]에는 반영 전 연승/연패가 들어 있어야 한다
+    static int applySlot(Game game, int slot) {
+        int currentScore = game.scores[slot];
+        int newScore = Math.max(0, currentScore + scoreDelta(game, slot, ScoreFormula.APPLY));
+        game.scores[slot] = newScore;
+        return newScore - currentScore;
+    }
+
+    // 이번 결과를 반영한 연승(+)/연패(-)
+    static int nextStreak(int streak, boolean isWinner) {
+        if (isWinner) {
+            return streak < 0 ? 1 : streak + 1;
+        }
+        return streak > 0 ? -1 : streak - 1;
+    }
+
+    // 큰 값 / 작은 값 (작은 값은 최소 1)
+    private static double ratio(int a, int b) {
+        return (double) Math.max(a, b) / Math.max(Math.min(a, b), 1);
+    }
+
+    // 이번 게임 결과를 반영한 연승/연패가 2 이상이면 그 길이만큼 보너스
+    static int streakBonus(int streak, boolean isWinner) {
+        int futureStreak = nextStreak(streak, isWinner);
+        if (isWinner) {
+            return futureStreak >= 2 ? futureStreak : 0;
+        } else {
+            return futureStreak <= -2 ? -futureStreak : 0;
+        }
+    }
+
+    // 한 게임의 입력값, slot은 playerRecords의 순서
+    // scores/streaks는 호출자가 바꿀 수 있다 (점수 반영은 앞서 반영한 플레이어의 새 점수를 이후 계산에 사용)
+    static final class Game {
+        final int size;
+        final boolean team1Won;
+        final int team1Kills;
+        final int team2Kills;
+        final int team1Gold;
+        final int team2Gold;
+        final int[] teams;
+        final int[] lanes;
+        final int[] kills;
+        final int[] deaths;
+        final int[] assists;
+        final int[] cs;
+        final int[] scores;
+        final int[] streaks;
+        // 맞라인 상대의 slot, 없으면 -1
+        final int[] opponents;
+
+        Game(boolean team1Won, int team1Kills, int team2Kills, int team1Gold, int team2Gold, int size) {
+            this.size = size;
+            this.team1Won = team1Won;
+            this.team1Kills = team1Kills;
+            this.team2Kills = team2Kills;
+            this.team1Gold = team1Gold;
+            this.team2Gold = team2Gold;
+            this.teams = new int[size];
+            this.lanes = new int[size];
+            this.kills = new int[size];
+            this.deaths = new int[size];
+            this.assists = new int[size];
+            this.cs = new int[size];
+            this.scores = new int[size];
+            this.streaks = new int[size];
+            this.opponents = new int[size];
+        }
+
+        // streaks는 게임 시점에 저장된 연승/연패, 없으면 플레이어의 현재 값
+        static Game of(GameRecord gameRecord, List<PlayerGameRecord> playerRecords) {
+            Game game = new Game(gameRecord.isTeam1Won(), gameRecord.getTeam1Kills(), gameRecord.getTeam2Kills(),
+                    gameRecord.getTeam1Gold(), gameRecord.getTeam2Gold(), playerRecords.size());
+            for (int slot = 0; slot < game.size; slot++) {
+                PlayerGameRecord record = playerRecords.get(slot);
+                Player player = record.getPlayer();
+                game.teams[slot] = record.getTeamNumber();
+                game.lanes[slot] = LaneEvaluator.laneIndex(record.getAssignedPosition());
+                game.kills[slot] = record.getKills();
+                game.deaths[slot] = record.getDeaths();
+                game.assists[slot] = record.getAssists();
+                game.cs[slot] = record.getCs();
+                game.scores[slot] = player.getScore();
+                Integer streak = record.getWinLossStreakAtGame() != null
+                        ? record.getWinLossStreakAtGame()
+                        : player.getWinLossStreak();
+                game.streaks[slot] = streak != null ? streak : 0;
+            }
+            game.linkOpponents();
+            return game;
+        }
+
+        // teams/lanes를 채운 뒤 호출, 맞라인 상대 slot을 계산
+        void linkOpponents() {
+            // [팀(1, 2) - 1][포지션] = 해당 포지션의 첫 번째 slot
+            int[] laneSlots = new int[2 * TEAM_SIZE];
+            Arrays.fill(laneSlots, -1);
+            for (int slot = 0; slot < size; slot++) {
+                int team = teams[slot];
+                int lane = lanes[slot];
+                if ((team == 1 || team == 2) && lane >= 0 && laneSlots[(team - 1) * TEAM_SIZE + lane] < 0) {
+                    laneSlots[(team - 1) * TEAM_SIZE + lane] = slot;
+                }
+            }
+            for (int slot = 0; slot < size; slot++) {
+                int team = teams[slot];
+                int lane = lanes[slot];
+                opponents[slot] = (team == 1 || team == 2) && lane >= 0
+                        ? laneSlots[(2 - team) * TEAM_SIZE + lane]
+                        : -1;
+            }
+        }
+
+        boolean isWinner(int slot) {
+            return (teams[slot] == 1 && team1Won) || (teams[slot] == 2 && !team1Won);
+        }
+
+        double kda(int slot) {
+            return deaths[slot] == 0
+                    ? kills[slot] + assists[slot]
+                    : (double) (kills[slot] + assists[slot]) / deaths[slot];
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.entity.Player;
+import com.example.teamdraftlol.util.BoundedLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 로스터별 조합 계산 결과 캐시
+// 키는 정렬된 플레이어 ID와 각 플레이어의 점수/라인 버전이므로, 점수나 라인이 바뀌면 자동으로 새로 계산된다
+@Component
+public class TeamCombinationCache {
+
+    private final BoundedLruCache<RosterKey, RankedCombinations> cache;
+
+    public TeamCombinationCache(
+            @Value("${team.combination-cache.max-size:512}") int maxSize,
+            @Value("${team.combination-cache.ttl-seconds:1800}") long ttlSeconds
+    ) {
+        this.cache = new BoundedLruCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public RankedCombinations get(List<Player> players, TeamDraftOptions options, Supplier<RankedCombinations> loader) {
+        return cache.get(RosterKey.of(players, options), key -> loader.get());
+    }
+
+    // 계산하지 않고 캐시에 있는 결과만 조회, 없으면 null
+    public RankedCombinations getIfPresent(List<Player> players, TeamDraftOptions options) {
+        return cache.get(RosterKey.of(players, options));
+    }
+
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+
+    static final class RosterKey {
+        private final long[] playerIds;
+        private final long[] versions;
+        private final TeamDraftOptions options;
+        private final int hash;
+
+        private RosterKey(long[] playerIds, long[] versions, TeamDraftOptions options) {
+            this.playerIds = playerIds;
+            this.versions = versions;
+            this.options = options;
+            this.hash = 31 * (31 * Arrays.hashCode(playerIds) + Arrays.hashCode(versions)) + options.hashCode();
+        }
+
+        static RosterKey of(List<Player> players, TeamDraftOptions options) {
+            List<Player> sorted = new ArrayList<>(players);
+            sorted.sort(Comparator.comparing(Player::getPlayerId));
+            long[] ids = new long[sorted.size()];
+            long[] versions = new long[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                Player player = sorted.get(i);
+                ids[i] = player.getPlayerId();
+                versions[i] = version(player);
+            }
+            return new RosterKey(ids, versions, options);
+        }
+
+        // 점수와 주/부 라인을 그대로 담은 값 (팀 구성 결과에 영향을 주는 필드만 포함)
+        static long version(Player player) {
+            int mainLane = LaneEvaluator.laneIndex(player.getMainLane()) + 1;
+            int subLane = LaneEvaluator.laneIndex(player.getSubLane()) + 1;
+            return ((long) player.getScore() << 8) | (mainLane << 4) | subLane;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RosterKey other)) return false;
+            return Arrays.equals(playerIds, other.playerIds)
+                    && Arrays.equals(versions, other.versions)
+                    && options.equals(other.options);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
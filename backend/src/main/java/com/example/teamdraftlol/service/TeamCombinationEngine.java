@@ -0,0 +1,215 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.dto.response.TeamGenerationResponse;
+import com.example.teamdraftlol.dto.response.TeamPlayerResponse;
+import com.example.teamdraftlol.dto.response.TeamResponse;
+import com.example.teamdraftlol.entity.Player;
+import com.example.teamdraftlol.service.LaneEvaluator.LaneAssignment;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.example.teamdraftlol.service.LaneEvaluator.PERMUTATION_COUNT;
+import static com.example.teamdraftlol.service.LaneEvaluator.TEAM_SIZE;
+import static com.example.teamdraftlol.service.LaneEvaluator.closestPair;
+import static com.example.teamdraftlol.service.LaneEvaluator.membersOf;
+
+// 10명의 플레이어를 ID 순 인덱스(0~9)로 인코딩하고, 팀을 10비트 마스크로 표현해 조합을 평가하는 엔진
+// 조합마다 객체를 만들지 않고 primitive 배열만 사용하며, 응답 객체는 실제로 반환되는 조합에 대해서만 생성한다
+// rankCombinations는 한 스레드에서 호출하고, 그 이후에는 읽기 전용이므로 여러 스레드에서 toResponse를 호출해도 된다
+public final class TeamCombinationEngine {
+
+    static final int ROSTER_SIZE = 10;
+    static final int FULL_MASK = (1 << ROSTER_SIZE) - 1;
+
+    // 0번 플레이어(가장 작은 ID)가 1팀에 포함된 126개의 정규 마스크, 1팀 인덱스 사전순
+    static final int[] CANONICAL_MASKS = buildCanonicalMasks();
+
+    private final LaneEvaluator lanes;
+    private final TeamConstraints.MaskFilter filter;
+    private final int maxScore;
+
+    // 5인 부분집합(팀 마스크)별 평가 결과, totalCounts가 0이면 아직 평가하지 않은 마스크
+    // 합계 점수는 정렬 키 1, 2가 같은 배정이 여러 개일 수 있어 후보 목록(오름차순)으로 totalPool에 저장
+    private final int[] teamMainCounts = new int[1 << ROSTER_SIZE];
+    private final int[] teamMainScoreSums = new int[1 << ROSTER_SIZE];
+    private final int[] totalOffsets = new int[1 << ROSTER_SIZE];
+    private final int[] totalCounts = new int[1 << ROSTER_SIZE];
+    private int[] totalPool = new int[256];
+    private int totalPoolSize;
+
+    // 순위 계산 중 재사용하는 작업 공간
+    private final LaneAssignment scratch = new LaneAssignment();
+    private final int[] scratchMembers = new int[TEAM_SIZE];
+    private final int[] scratchTotals = new int[PERMUTATION_COUNT];
+
+    public TeamCombinationEngine(List<Player> roster, LaneAssignmentMode mode) {
+        this(roster, mode, TeamConstraints.NONE);
+    }
+
+    // 제약은 생성 시점에 마스크 필터로 컴파일하며, 만족할 수 없으면 여기서 바로 실패한다
+    public TeamCombinationEngine(List<Player> roster, LaneAssignmentMode mode, TeamConstraints constraints) {
+        if (roster.size() != ROSTER_SIZE) {
+            throw new IllegalArgumentException("정확히 10명의 플레이어가 필요합니다.");
+        }
+        this.lanes = new LaneEvaluator(roster, mode, constraints.laneLocks());
+        this.filter = constraints.isEmpty() ? TeamConstraints.MaskFilter.NONE : constraints.compile(lanes);
+
+        int max = 0;
+        for (int i = 0; i < ROSTER_SIZE; i++) {
+            max = Math.max(max, lanes.score(i));
+        }
+        this.maxScore = max;
+    }
+
+    // 모든 정규 마스크를 평가하고 정렬 우선순위에 따라 상위 limit개의 마스크를 반환
+    // 정렬 우선순위: 1) 주 포지션 수 (높을수록 좋음), 2) 낮은 점수 보너스 (높을수록 좋음), 3) 점수 차이 (낮을수록 좋음)
+    // 전체 정렬 대신 크기 limit의 힙으로 상위 조합만 유지한다
+    // 제약을 만족하지 않는 마스크는 포지션 배정 전에 건너뛰므로, 제약이 많을수록 평가하는 팀 수가 줄어든다
+    public int[] rankCombinations(int limit) {
+        TopKSelector selector = new TopKSelector(Math.min(limit, CANONICAL_MASKS.length));
+        for (int ordinal = 0; ordinal < CANONICAL_MASKS.length; ordinal++) {
+            int mask = CANONICAL_MASKS[ordinal];
+            if (!filter.allows(mask)) {
+                continue;
+            }
+            int other = FULL_MASK ^ mask;
+            if (totalCounts[mask] == 0) {
+                evaluateTeam(mask);
+            }
+            if (totalCounts[other] == 0) {
+                evaluateTeam(other);
+            }
+            selector.offer(rankKey(mask, other, ordinal), mask);
+        }
+
+        long[] best = selector.drainBestFirst();
+        int[] masks = new int[best.length];
+        for (int i = 0; i < best.length; i++) {
+            masks[i] = (int) best[i];
+        }
+        return masks;
+    }
+
+    // 이 엔진의 로스터에서 한 명만 바뀐 로스터의 엔진을 만들고,
+    // 바뀐 플레이어가 없는 팀(5인 부분집합)의 평가 결과를 인덱스만 옮겨 재사용한다 (새 플레이어가 포함된 팀만 rankCombinations에서 평가)
+    // rankCombinations가 끝난 엔진에서만 호출해야 하며, 이 엔진은 읽기만 하므로 다른 스레드의 toResponse와 함께 써도 된다
+    public TeamCombinationEngine substitute(List<Player> roster, LaneAssignmentMode mode, TeamConstraints constraints) {
+        TeamCombinationEngine next = new TeamCombinationEngine(roster, mode, constraints);
+
+        // 이전 인덱스 → 새 인덱스, 나간 플레이어는 -1
+        int[] remap = new int[ROSTER_SIZE];
+        int leaving = -1;
+        for (int i = 0; i < ROSTER_SIZE; i++) {
+            long playerId = lanes.player(i).getPlayerId();
+            remap[i] = -1;
+            for (int j = 0; j < ROSTER_SIZE; j++) {
+                if (next.lanes.player(j).getPlayerId() == playerId) {
+                    remap[i] = j;
+                    break;
+                }
+            }
+            if (remap[i] < 0) {
+                if (leaving >= 0) {
+                    throw new IllegalArgumentException("한 명의 플레이어만 교체할 수 있습니다.");
+                }
+                leaving = i;
+            }
+        }
+        if (leaving < 0) {
+            return next;
+        }
+
+        for (int mask = 0; mask <= FULL_MASK; mask++) {
+            if (totalCounts[mask] == 0 || (mask & (1 << leaving)) != 0) {
+                continue;
+            }
+            int moved = 0;
+            for (int m = mask; m != 0; m &= m - 1) {
+                moved |= 1 << remap[Integer.numberOfTrailingZeros(m)];
+            }
+            next.copyTeam(moved, teamMainCounts[mask], teamMainScoreSums[mask],
+                    totalPool, totalOffsets[mask], totalCounts[mask]);
+        }
+        return next;
+    }
+
+    private void copyTeam(int teamMask, int mainCount, int mainScoreSum, int[] totals, int offset, int count) {
+        if (totalPoolSize + count > totalPool.length) {
+            totalPool = Arrays.copyOf(totalPool, Math.max(totalPool.length * 2, totalPoolSize + count));
+        }
+        System.arraycopy(totals, offset, totalPool, totalPoolSize, count);
+        totalOffsets[teamMask] = totalPoolSize;
+        totalCounts[teamMask] = count;
+        totalPoolSize += count;
+        teamMainCounts[teamMask] = mainCount;
+        teamMainScoreSums[teamMask] = mainScoreSum;
+    }
+
+    // 평가가 끝난 두 팀 마스크로 조합의 정렬 키를 계산
+    private long rankKey(int mask, int other, int ordinal) {
+        int mainCount = teamMainCounts[mask] + teamMainCounts[other];
+        int bonus = mainCount * maxScore - teamMainScoreSums[mask] - teamMainScoreSums[other];
+        int pair = closestPair(totalPool, totalOffsets[mask], totalCounts[mask],
+                totalPool, totalOffsets[other], totalCounts[other]);
+        int diff = Math.abs(totalPool[totalOffsets[mask] + (pair >>> 8)]
+                - totalPool[totalOffsets[other] + (pair & 0xFF)]);
+        return TopKSelector.rankKey(mainCount, bonus, diff, ordinal);
+    }
+
+    // 팀 마스크 하나를 평가해 주 포지션 지표와 합계 점수 후보를 기록
+    private void evaluateTeam(int teamMask) {
+        membersOf(teamMask, scratchMembers);
+        int count = lanes.collectTotals(scratchMembers, scratch, scratchTotals);
+        copyTeam(teamMask, scratch.mainCount, scratch.mainScoreSum, scratchTotals, 0, count);
+    }
+
+    // 반환할 조합에 대해서만 응답 객체 생성
+    public TeamGenerationResponse toResponse(int mask) {
+        int other = FULL_MASK ^ mask;
+        LaneAssignment work = new LaneAssignment();
+        int[] members1 = new int[TEAM_SIZE];
+        int[] members2 = new int[TEAM_SIZE];
+        membersOf(mask, members1);
+        membersOf(other, members2);
+        int[] totals1 = new int[PERMUTATION_COUNT];
+        int[] totals2 = new int[PERMUTATION_COUNT];
+        int count1 = lanes.collectTotals(members1, work, totals1);
+        int count2 = lanes.collectTotals(members2, work, totals2);
+        int pair = closestPair(totals1, 0, count1, totals2, 0, count2);
+
+        TeamResponse team1 = lanes.buildTeam(members1, 1, totals1[pair >>> 8], work);
+        TeamResponse team2 = lanes.buildTeam(members2, 2, totals2[pair & 0xFF], work);
+
+        int mainCount = 0;
+        int bonus = 0;
+        for (TeamResponse team : Arrays.asList(team1, team2)) {
+            for (TeamPlayerResponse player : team.getPlayers()) {
+                if ("MAIN".equals(player.getPositionType())) {
+                    mainCount++;
+                    bonus += maxScore - player.getOriginalScore();
+                }
+            }
+        }
+
+        return TeamGenerationResponse.builder()
+                .team1(team1)
+                .team2(team2)
+                .scoreDifference(Math.abs(team1.getTotalScore() - team2.getTotalScore()))
+                .mainPositionCount(mainCount)
+                .mainPositionLowScoreBonus(bonus)
+                .build();
+    }
+
+    private static int[] buildCanonicalMasks() {
+        int[] masks = new int[126];
+        int count = 0;
+        // 1팀 인덱스 조합을 사전순으로 나열 (0번은 항상 포함)
+        for (int a = 1; a < ROSTER_SIZE; a++)
+            for (int b = a + 1; b < ROSTER_SIZE; b++)
+                for (int c = b + 1; c < ROSTER_SIZE; c++)
+                    for (int d = c + 1; d < ROSTER_SIZE; d++)
+                        masks[count++] = 1 | (1 << a) | (1 << b) | (1 << c) | (1 << d);
+        return masks;
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.teamdraftlol.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static com.example.teamdraftlol.service.LaneEvaluator.POSITIONS;
+import static com.example.teamdraftlol.service.LaneEvaluator.TEAM_SIZE;
+import static com.example.teamdraftlol.service.TeamCombinationEngine.CANONICAL_MASKS;
+import static com.example.teamdraftlol.service.TeamCombinationEngine.ROSTER_SIZE;
+
+// 팀 생성 하드 제약: 같은 팀으로 묶을 플레이어(together), 서로 다른 팀에 둘 두 플레이어(apart), 포지션 고정(laneLocks)
+// 요청 값은 정규화(ID 오름차순)해서 보관하므로 옵션·캐시 키로 그대로 비교할 수 있다
+// 로스터가 정해지면 플레이어 인덱스 기준 비트마스크 필터(MaskFilter)로 컴파일해, 포지션 배정·점수 계산 전에 팀 마스크를 걸러낸다
+public record TeamConstraints(List<List<Long>> together, List<List<Long>> apart, Map<Long, Integer> laneLocks) {
+
+    public static final TeamConstraints NONE = new TeamConstraints(List.of(), List.of(), Map.of());
+
+    private static final Comparator<List<Long>> GROUP_ORDER = (a, b) -> {
+        for (int i = 0; i < Math.min(a.size(), b.size()); i++) {
+            int compared = Long.compare(a.get(i), b.get(i));
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return Integer.compare(a.size(), b.size());
+    };
+
+    // 요청 값을 검증·정규화, 로스터와 무관하게 잘못된 값은 여기서 실패
+    public static TeamConstraints of(List<List<Long>> together, List<List<Long>> apart, Map<Long, String> laneLocks) {
+        List<List<Long>> groups = new ArrayList<>();
+        if (together != null) {
+            for (List<Long> group : together) {
+                List<Long> ids = distinctSorted(group);
+                if (ids.size() > TEAM_SIZE) {
+                    throw new IllegalArgumentException("같은 팀으로 묶을 수 있는 플레이어는 최대 5명입니다.");
+                }
+                if (ids.size() >= 2) {
+                    groups.add(ids);
+                }
+            }
+        }
+
+        List<List<Long>> pairs = new ArrayList<>();
+        if (apart != null) {
+            for (List<Long> pair : apart) {
+                List<Long> ids = distinctSorted(pair);
+                if (ids.size() != 2 || pair.size() != 2) {
+                    throw new IllegalArgumentException("다른 팀 조건은 서로 다른 두 플레이어로 지정해야 합니다.");
+                }
+                pairs.add(ids);
+            }
+        }
+
+        Map<Long, Integer> locks = new TreeMap<>();
+        if (laneLocks != null) {
+            for (Map.Entry<Long, String> lock : laneLocks.entrySet()) {
+                int lane = LaneEvaluator.laneIndex(lock.getValue());
+                if (lock.getKey() == null || lane < 0) {
+                    throw new IllegalArgumentException("알 수 없는 포지션입니다: " + lock.getValue());
+                }
+                locks.put(lock.getKey(), lane);
+            }
+        }
+
+        if (groups.isEmpty() && pairs.isEmpty() && locks.isEmpty()) {
+            return NONE;
+        }
+        groups.sort(GROUP_ORDER);
+        pairs.sort(GROUP_ORDER);
+        return new TeamConstraints(List.copyOf(groups), List.copyOf(pairs), Collections.unmodifiableMap(locks));
+    }
+
+    private static List<Long> distinctSorted(List<Long> ids) {
+        if (ids == null || ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("제약 조건의 플레이어 ID가 비어 있습니다.");
+        }
+        return List.copyOf(new TreeSet<>(ids));
+    }
+
+    public boolean isEmpty() {
+        return together.isEmpty() && apart.isEmpty() && laneLocks.isEmpty();
+    }
+
+    // 리롤 커서에 담는 64비트 해시, 제약이 없으면 0
+    public long fingerprint() {
+        if (isEmpty()) {
+            return 0L;
+        }
+        long hash = 0xcbf29ce484222325L;
+        for (List<List<Long>> groups : List.of(together, apart)) {
+            for (List<Long> group : groups) {
+                for (long id : group) {
+                    hash = (hash ^ id) * 0x100000001b3L;
+                }
+                hash = (hash ^ -1L) * 0x100000001b3L;
+            }
+            hash = (hash ^ -2L) * 0x100000001b3L;
+        }
+        for (Map.Entry<Long, Integer> lock : laneLocks.entrySet()) {
+            hash = (hash ^ lock.getKey()) * 0x100000001b3L;
+            hash = (hash ^ lock.getValue()) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // 10명 로스터(ID 순 인덱스)에 대한 마스크 필터로 컴파일
+    // 만족할 수 없는 제약이면 이유와 함께 IllegalArgumentException
+    MaskFilter compile(LaneEvaluator lanes) {
+        Map<Long, Integer> indexById = new HashMap<>();
+        for (int i = 0; i < lanes.size(); i++) {
+            indexById.put(lanes.player(i).getPlayerId(), i);
+        }
+
+        // 같은 팀 그룹을 합쳐 연결 요소(component)별 마스크로 만든다
+        int[] component = new int[ROSTER_SIZE];
+        for (int i = 0; i < ROSTER_SIZE; i++) {
+            component[i] = 1 << i;
+        }
+        for (List<Long> group : together) {
+            int merged = 0;
+            for (long id : group) {
+                merged |= component[indexOf(indexById, id)];
+            }
+            if (Integer.bitCount(merged) > TEAM_SIZE) {
+                throw new IllegalArgumentException("같은 팀으로 묶인 플레이어가 5명을 넘습니다.");
+            }
+            for (int m = merged; m != 0; m &= m - 1) {
+                component[Integer.numberOfTrailingZeros(m)] = merged;
+            }
+        }
+
+        // 다른 팀 쌍: 명시된 쌍 + 같은 포지션에 고정된 두 플레이어
+        List<Integer> apartMasks = new ArrayList<>();
+        for (List<Long> pair : apart) {
+            int a = indexOf(indexById, pair.get(0));
+            int b = indexOf(indexById, pair.get(1));
+            if (component[a] == component[b]) {
+                throw new IllegalArgumentException("같은 팀 조건과 다른 팀 조건이 충돌합니다: "
+                        + pair.get(0) + ", " + pair.get(1));
+            }
+            apartMasks.add((1 << a) | (1 << b));
+        }
+        int[] lockedByLane = new int[TEAM_SIZE];
+        for (Map.Entry<Long, Integer> lock : laneLocks.entrySet()) {
+            lockedByLane[lock.getValue()] |= 1 << indexOf(indexById, lock.getKey());
+        }
+        for (int lane = 0; lane < TEAM_SIZE; lane++) {
+            int locked = lockedByLane[lane];
+            if (Integer.bitCount(locked) > 2) {
+                throw new IllegalArgumentException(POSITIONS[lane] + " 포지션에 고정된 플레이어가 2명을 넘습니다.");
+            }
+            if (Integer.bitCount(locked) == 2) {
+                int a = Integer.numberOfTrailingZeros(locked);
+                if (component[a] == component[31 - Integer.numberOfLeadingZeros(locked)]) {
+                    throw new IllegalArgumentException("같은 팀으로 묶인 플레이어가 같은 포지션(" + POSITIONS[lane] + ")에 고정되어 있습니다.");
+                }
+                apartMasks.add(locked);
+            }
+        }
+
+        int[] groupMasks = Arrays.stream(component).filter(mask -> Integer.bitCount(mask) >= 2).distinct().toArray();
+        MaskFilter filter = new MaskFilter(groupMasks, apartMasks.stream().mapToInt(Integer::intValue).toArray());
+        if (!isBipartite(component, filter.apart())) {
+            throw new IllegalArgumentException("다른 팀 조건끼리 모순됩니다 (세 명 이상이 서로 다른 팀이어야 하는 순환이 있습니다).");
+        }
+        for (int mask : CANONICAL_MASKS) {
+            if (filter.allows(mask)) {
+                return filter;
+            }
+        }
+        throw new IllegalArgumentException("제약 조건을 모두 만족하면서 5 대 5로 나눌 수 있는 팀 구성이 없습니다.");
+    }
+
+    private static int indexOf(Map<Long, Integer> indexById, long playerId) {
+        Integer index = indexById.get(playerId);
+        if (index == null) {
+            throw new IllegalArgumentException("제약 조건에 로스터에 없는 플레이어가 있습니다: " + playerId);
+        }
+        return index;
+    }
+
+    // 같은 팀 연결 요소를 정점, 다른 팀 쌍을 간선으로 보고 2색 칠하기가 가능한지 확인
+    private static boolean isBipartite(int[] component, int[] apartMasks) {
+        // 색은 연결 요소의 가장 작은 인덱스에 기록
+        int[] color = new int[ROSTER_SIZE];
+        for (int start = 0; start < ROSTER_SIZE; start++) {
+            if (Integer.numberOfTrailingZeros(component[start]) != start || color[start] != 0) {
+                continue;
+            }
+            color[start] = 1;
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                for (int pair : apartMasks) {
+                    int a = component[Integer.numberOfTrailingZeros(pair)];
+                    int b = component[31 - Integer.numberOfLeadingZeros(pair)];
+                    int colorA = color[Integer.numberOfTrailingZeros(a)];
+                    int colorB = color[Integer.numberOfTrailingZeros(b)];
+                    if (colorA != 0 && colorA == colorB) {
+                        return false;
+                    }
+                    if (colorA != 0 && colorB == 0) {
+                        color[Integer.numberOfTrailingZeros(b)] = -colorA;
+                        changed = true;
+                    } else if (colorB != 0 && colorA == 0) {
+                        color[Integer.numberOfTrailingZeros(a)] = -colorB;
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    // 인덱스 비트마스크 제약, 팀 마스크 하나를 정수 연산 몇 번으로 판정
+    // together: 팀에 전부 있거나 전부 없어야 하는 그룹, apart: 팀에 정확히 한 명만 있어야 하는 쌍
+    record MaskFilter(int[] together, int[] apart) {
+
+        static final MaskFilter NONE = new MaskFilter(new int[0], new int[0]);
+
+        boolean allows(int teamMask) {
+            for (int group : together) {
+                int in = teamMask & group;
+                if (in != 0 && in != group) {
+                    return false;
+                }
+            }
+            for (int pair : apart) {
+                if (Integer.bitCount(teamMask & pair) != 1) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.dto.request.TeamGenerationRequest;
+
+// 팀 생성 옵션, 같은 로스터라도 옵션(제약 포함)이 다르면 캐시를 따로 사용한다
+public record TeamDraftOptions(LaneAssignmentMode mode, int limit, TeamConstraints constraints) {
+
+    public static final int DEFAULT_LIMIT = 10;
+
+    public TeamDraftOptions(LaneAssignmentMode mode, int limit) {
+        this(mode, limit, TeamConstraints.NONE);
+    }
+
+    public static TeamDraftOptions from(TeamGenerationRequest request) {
+        LaneAssignmentMode mode = modeOrDefault(request.getAssignmentMode());
+        int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_LIMIT;
+        TeamConstraints constraints = TeamConstraints.of(
+                request.getKeepTogether(), request.getKeepApart(), request.getLaneLocks());
+        return new TeamDraftOptions(mode, limit, constraints);
+    }
+
+    // 기존 클라이언트의 배정/순위가 바뀌지 않도록 기본값은 기존 그리디 배정
+    public static LaneAssignmentMode modeOrDefault(LaneAssignmentMode mode) {
+        return mode != null ? mode : LaneAssignmentMode.GREEDY;
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.teamdraftlol.service;
 
-import com.example.teamdraftlol.dto.response.TeamPlayerResponse;
-import com.example.teamdraftlol.dto.response.TeamResponse;
+import com.example.teamdraftlol.dto.request.BatchDraftRequest;
+import com.example.teamdraftlol.dto.request.LobbySelectionRequest;
+import com.example.teamdraftlol.dto.request.TeamGenerationRequest;
+import com.example.teamdraftlol.dto.request.TeamSwapRequest;
+import com.example.teamdraftlol.dto.response.BatchDraftResponse;
+import com.example.teamdraftlol.dto.response.LobbyResponse;
+import com.example.teamdraftlol.dto.response.LobbySelectionResponse;
 import com.example.teamdraftlol.dto.response.TeamGenerationResponse;
 import com.example.teamdraftlol.entity.Player;
 import com.example.teamdraftlol.repository.PlayerRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -16,272 +22,179 @@ import java.util.stream.IntStream;
 @RequiredArgsConstructor
 public class TeamGenerationService {
     
-    private final PlayerRepository playerRepository;
-    private static final List<String> POSITIONS = Arrays.asList("TOP", "JGL", "MID", "ADC", "SUP");
+    private static final int DEFAULT_LOBBY_COUNT = 5;
+    private static final long DEFAULT_LOBBY_TIME_BUDGET_MILLIS = 2000;
+    private static final int BATCH_DRAFT_RESTARTS = 8;
+    private static final int DEFAULT_BATCH_DRAFT_ITERATIONS = 100_000;
+    private static final long DEFAULT_BATCH_DRAFT_TIME_BUDGET_MILLIS = 3000;
     
-    // 캐시용 - 생성된 조합들을 저장
-    private List<TeamGenerationResponse> cachedCombinations = new ArrayList<>();
-    private List<Long> lastPlayerIds = new ArrayList<>(); // 마지막으로 생성된 플레이어 ID 목록을 저장
+    private final PlayerRepository playerRepository;
+    private final TeamCombinationCache combinationCache;
+    private final RerollCursorCodec cursorCodec;
+    private final DraftSearchPool draftSearchPool;
     
-    public TeamGenerationResponse generateTeams(List<Long> playerIds, int combinationIndex) {
+    public TeamGenerationResponse generateTeams(List<Long> playerIds, TeamDraftOptions options, int combinationIndex) {
         // 플레이어 정보 조회
         List<Player> players = playerRepository.findAllById(playerIds);
         if (players.size() != 10) {
             throw new IllegalArgumentException("정확히 10명의 플레이어가 필요합니다.");
         }
         
-        // 새로운 플레이어 조합이면 캐시 초기화
-        List<Long> currentPlayerIds = players.stream()
-                .map(Player::getPlayerId)
-                .sorted()
-                .collect(Collectors.toList());
-        
-        if (cachedCombinations.isEmpty() || !currentPlayerIds.equals(lastPlayerIds)) {
-            cachedCombinations = calculateAllCombinations(players);
-            lastPlayerIds = currentPlayerIds;
-        }
+        // 로스터(플레이어 ID + 점수/라인)와 옵션별로 캐시된 조합 사용, 없으면 새로 계산
+        RankedCombinations combinations = combinationCache.get(players, options,
+                () -> calculateAllCombinations(players, options));
         
-        if (combinationIndex >= cachedCombinations.size()) {
+        if (combinationIndex >= combinations.size()) {
             combinationIndex = 0;
         }
         
-        TeamGenerationResponse result = cachedCombinations.get(combinationIndex);
-        result.setCurrentCombination(combinationIndex + 1);
-        result.setTotalCombinations(cachedCombinations.size());
-        result.setAvailableCombinations(
-            IntStream.rangeClosed(1, cachedCombinations.size())
-                    .boxed()
-                    .collect(Collectors.toList())
-        );
-        
-        return result;
+        TeamGenerationResponse result = combinations.toResponse(combinationIndex);
+        RerollCursor cursor = RerollCursor.of(players, options, combinationIndex, combinations);
+        return withCursor(result, cursor);
     }
     
-    private List<TeamGenerationResponse> calculateAllCombinations(List<Player> players) {
-        List<TeamGenerationResponse> combinations = new ArrayList<>();
-        Set<String> uniqueCombinations = new HashSet<>(); // 중복 조합 체크용
-        
-        // 플레이어를 ID로 정렬하여 일관성 확보
-        List<Player> sortedPlayers = players.stream()
-                .sorted(Comparator.comparing(Player::getPlayerId))
-                .collect(Collectors.toList());
-        
-        // 최고 점수 계산 (보너스 점수 계산용)
-        int maxScore = players.stream()
-                .mapToInt(Player::getScore)
-                .max()
-                .orElse(0);
-        
-        // 10명 중 5명을 선택하는 모든 조합 생성
-        List<List<Player>> team1Combinations = generateCombinations(sortedPlayers, 5);
-        
-        for (List<Player> team1Players : team1Combinations) {
-            List<Player> team2Players = new ArrayList<>(sortedPlayers);
-            team2Players.removeAll(team1Players);
-            
-            // 중복 제거를 위한 고유 키 생성
-            List<Long> team1Ids = team1Players.stream()
-                    .map(Player::getPlayerId)
-                    .sorted()
-                    .collect(Collectors.toList());
-            List<Long> team2Ids = team2Players.stream()
-                    .map(Player::getPlayerId)
-                    .sorted()
-                    .collect(Collectors.toList());
-            
-            // 더 작은 ID 집합을 첫 번째로 정렬하여 중복 제거
-            String combinationKey;
-            List<Player> finalTeam1, finalTeam2;
-            
-            if (team1Ids.get(0) < team2Ids.get(0)) {
-                combinationKey = team1Ids + ":" + team2Ids;
-                finalTeam1 = team1Players;
-                finalTeam2 = team2Players;
-            } else {
-                combinationKey = team2Ids + ":" + team1Ids;
-                finalTeam1 = team2Players;
-                finalTeam2 = team1Players;
-            }
-            
-            // 이미 처리된 조합인지 확인
-            if (uniqueCombinations.contains(combinationKey)) {
-                continue;
+    // 커서에 담긴 로스터/순위 정보로 요청한 순위의 조합 하나만 다시 계산 (서버 상태 없음)
+    // 커서가 없거나 서명이 맞지 않거나, 다른 로스터/옵션의 커서이거나, 발급 이후 플레이어 정보가 바뀌었으면 전체를 다시 계산
+    public TeamGenerationResponse rerollTeams(TeamGenerationRequest request, Integer combinationIndex) {
+        TeamDraftOptions options = TeamDraftOptions.from(request);
+        RerollCursor cursor = request.getCursor() != null
+                ? cursorCodec.decode(request.getCursor()).orElse(null)
+                : null;
+        if (cursor != null && cursor.matches(request.getPlayerIds(), options)) {
+            List<Player> players = playerRepository.findAllById(cursor.playerIdList());
+            if (cursor.isCurrent(players)) {
+                int rank = combinationIndex != null ? combinationIndex : cursor.rank() + 1;
+                if (rank < 0 || rank >= cursor.size()) {
+                    rank = 0;
+                }
+                TeamCombinationEngine engine = new TeamCombinationEngine(players, options.mode(), options.constraints());
+                return withCursor(engine.toResponse(cursor.maskAt(rank)), cursor.withRank(rank));
             }
-            uniqueCombinations.add(combinationKey);
-            
-            // 각 팀에 포지션 배정
-            TeamResponse team1 = assignPositions(finalTeam1, 1);
-            TeamResponse team2 = assignPositions(finalTeam2, 2);
-            
-            int scoreDifference = Math.abs(team1.getTotalScore() - team2.getTotalScore());
-            
-            // 주 포지션 관련 메트릭 계산
-            int mainPositionCount = calculateMainPositionCount(team1, team2);
-            int mainPositionLowScoreBonus = calculateMainPositionLowScoreBonus(team1, team2, maxScore);
-            
-            TeamGenerationResponse response = TeamGenerationResponse.builder()
-                    .team1(team1)
-                    .team2(team2)
-                    .scoreDifference(scoreDifference)
-                    .mainPositionCount(mainPositionCount)
-                    .mainPositionLowScoreBonus(mainPositionLowScoreBonus)
-                    .build();
-            
-            combinations.add(response);
         }
-        
-        // 정렬 우선순위: 1) 주 포지션 수 (높을수록 좋음), 2) 낮은 점수 보너스 (높을수록 좋음), 3) 점수 차이 (낮을수록 좋음)
-        return combinations.stream()
-                .sorted(Comparator
-                        .comparingInt((TeamGenerationResponse r) -> -r.getMainPositionCount()) // 주 포지션 수가 많을수록 좋음
-                        .thenComparingInt((TeamGenerationResponse r) -> -r.getMainPositionLowScoreBonus()) // 낮은 점수 보너스가 높을수록 좋음
-                        .thenComparingInt(TeamGenerationResponse::getScoreDifference)) // 점수 차이가 낮을수록 좋음
-                .limit(10)
-                .collect(Collectors.toList());
+        return generateTeams(request.getPlayerIds(), options, combinationIndex != null ? combinationIndex : 0);
     }
     
-    private int calculateMainPositionCount(TeamResponse team1, TeamResponse team2) {
-        int count = 0;
-        
-        // 1팀 주 포지션 카운트
-        count += (int) team1.getPlayers().stream()
-                .filter(p -> "MAIN".equals(p.getPositionType()))
-                .count();
+    // 이전 로스터에서 한 명이 빠지고 한 명이 들어온 로스터의 팀 생성
+    // 이전 로스터의 계산 결과가 캐시에 있으면 빠진 플레이어가 없는 5인 팀의 평가 결과를 재사용하고, 새 플레이어가 포함된 팀만 다시 평가
+    // 캐시에 없거나 이전 로스터의 점수/라인이 바뀌었으면 전체를 계산
+    public TeamGenerationResponse swapPlayer(TeamSwapRequest req) {
+        TeamGenerationRequest previousRequest = req.getPrevious();
+        Set<Long> previousIds = new HashSet<>(previousRequest.getPlayerIds());
+        if (previousIds.size() != 10) {
+            throw new IllegalArgumentException("정확히 10명의 플레이어가 필요합니다.");
+        }
+        if (!previousIds.contains(req.getOutPlayerId())) {
+            throw new IllegalArgumentException("빠지는 플레이어가 이전 로스터에 없습니다.");
+        }
+        if (previousIds.contains(req.getInPlayerId())) {
+            throw new IllegalArgumentException("들어오는 플레이어가 이미 로스터에 있습니다.");
+        }
+        TeamDraftOptions options = TeamDraftOptions.from(previousRequest);
+        
+        // 이전 로스터와 새 플레이어를 한 번에 조회
+        Set<Long> ids = new HashSet<>(previousIds);
+        ids.add(req.getInPlayerId());
+        List<Player> fetched = playerRepository.findAllById(ids);
+        if (fetched.size() != ids.size()) {
+            throw new IllegalArgumentException("존재하지 않는 플레이어가 포함되어 있습니다.");
+        }
+        List<Player> previousPlayers = fetched.stream()
+                .filter(player -> !player.getPlayerId().equals(req.getInPlayerId()))
+                .collect(Collectors.toList());
+        List<Player> players = fetched.stream()
+                .filter(player -> !player.getPlayerId().equals(req.getOutPlayerId()))
+                .collect(Collectors.toList());
         
-        // 2팀 주 포지션 카운트
-        count += (int) team2.getPlayers().stream()
-                .filter(p -> "MAIN".equals(p.getPositionType()))
-                .count();
+        RankedCombinations previous = combinationCache.getIfPresent(previousPlayers, options);
+        RankedCombinations combinations = combinationCache.get(players, options, () -> previous != null
+                ? rankSubstituted(previous, players, options)
+                : calculateAllCombinations(players, options));
         
-        return count;
+        TeamGenerationResponse result = combinations.toResponse(0);
+        return withCursor(result, RerollCursor.of(players, options, 0, combinations));
     }
     
-    private int calculateMainPositionLowScoreBonus(TeamResponse team1, TeamResponse team2, int maxScore) {
-        int bonus = 0;
-        
-        // 1팀 주 포지션 플레이어들의 보너스 계산
-        bonus += team1.getPlayers().stream()
-                .filter(p -> "MAIN".equals(p.getPositionType()))
-                .mapToInt(p -> maxScore - p.getOriginalScore())
-                .sum();
-        
-        // 2팀 주 포지션 플레이어들의 보너스 계산
-        bonus += team2.getPlayers().stream()
-                .filter(p -> "MAIN".equals(p.getPositionType()))
-                .mapToInt(p -> maxScore - p.getOriginalScore())
-                .sum();
-        
-        return bonus;
+    private TeamGenerationResponse withCursor(TeamGenerationResponse result, RerollCursor cursor) {
+        result.setCurrentCombination(cursor.rank() + 1);
+        result.setTotalCombinations(cursor.size());
+        result.setAvailableCombinations(
+            IntStream.rangeClosed(1, cursor.size())
+                    .boxed()
+                    .collect(Collectors.toList())
+        );
+        result.setCursor(cursorCodec.encode(cursor));
+        return result;
     }
     
-    private TeamResponse assignPositions(List<Player> teamPlayers, int teamNumber) {
-        Map<String, TeamPlayerResponse> assignedPositions = new HashMap<>();
-        List<TeamPlayerResponse> teamPlayerResponses = new ArrayList<>();
-        Set<Long> assignedPlayerIds = new HashSet<>();
-        
-        // 1단계: 각 포지션별로 해당 포지션을 주포지션으로 하는 플레이어들 중 점수가 가장 낮은 사람을 배정
-        for (String position : POSITIONS) {
-            Player bestPlayer = teamPlayers.stream()
-                    .filter(p -> !assignedPlayerIds.contains(p.getPlayerId()))
-                    .filter(p -> position.equals(p.getMainLane()))
-                    .min(Comparator.comparingInt(Player::getScore))
-                    .orElse(null);
-            
-            if (bestPlayer != null) {
-                TeamPlayerResponse teamPlayer = createTeamPlayer(bestPlayer, position, "MAIN", 1.0);
-                assignedPositions.put(position, teamPlayer);
-                teamPlayerResponses.add(teamPlayer);
-                assignedPlayerIds.add(bestPlayer.getPlayerId());
-            }
-        }
-        
-        // 2단계: 남은 포지션에 대해 해당 포지션을 부포지션으로 하는 플레이어들 중 점수가 가장 낮은 사람을 배정
-        for (String position : POSITIONS) {
-            if (!assignedPositions.containsKey(position)) {
-                Player bestPlayer = teamPlayers.stream()
-                        .filter(p -> !assignedPlayerIds.contains(p.getPlayerId()))
-                        .filter(p -> position.equals(p.getSubLane()))
-                        .min(Comparator.comparingInt(Player::getScore))
-                        .orElse(null);
-                
-                if (bestPlayer != null) {
-                    double scoreRatio = "SUP".equals(bestPlayer.getMainLane()) ? 0.75 : 0.85; // 서폿 메인이면 75%, 아니면 85%
-                    TeamPlayerResponse teamPlayer = createTeamPlayer(bestPlayer, position, "SUB", scoreRatio);
-                    assignedPositions.put(position, teamPlayer);
-                    teamPlayerResponses.add(teamPlayer);
-                    assignedPlayerIds.add(bestPlayer.getPlayerId());
-                }
-            }
+    // 상위 조합의 마스크만 계산하고, 응답 객체는 요청된 조합에 대해서만 생성 (벤치마크에서도 호출)
+    static RankedCombinations calculateAllCombinations(List<Player> players, TeamDraftOptions options) {
+        TeamCombinationEngine engine = new TeamCombinationEngine(players, options.mode(), options.constraints());
+        return new RankedCombinations(engine, engine.rankCombinations(options.limit()));
+    }
+    
+    static RankedCombinations rankSubstituted(RankedCombinations previous, List<Player> players, TeamDraftOptions options) {
+        TeamCombinationEngine engine = previous.engine().substitute(players, options.mode(), options.constraints());
+        return new RankedCombinations(engine, engine.rankCombinations(options.limit()));
+    }
+    
+    // 체크인한 후보 중 가장 공정한 10명 로비를 찾음, 시간 제한을 넘기면 지금까지 찾은 최선의 로비를 반환
+    public LobbySelectionResponse selectLobbies(LobbySelectionRequest req) {
+        long startedAt = System.nanoTime();
+        Set<Long> uniqueIds = new HashSet<>(req.getPlayerIds());
+        List<Player> candidates = playerRepository.findAllById(uniqueIds);
+        if (candidates.size() != uniqueIds.size()) {
+            throw new IllegalArgumentException("존재하지 않는 플레이어가 포함되어 있습니다.");
         }
         
-        // 3단계: 남은 플레이어들을 남은 포지션에 점수가 낮은 순으로 배정
-        List<Player> remainingPlayers = teamPlayers.stream()
-                .filter(p -> !assignedPlayerIds.contains(p.getPlayerId()))
-                .sorted(Comparator.comparingInt(Player::getScore))
-                .collect(Collectors.toList());
+        int lobbyCount = req.getLobbyCount() != null ? req.getLobbyCount() : DEFAULT_LOBBY_COUNT;
+        long budgetMillis = req.getTimeBudgetMillis() != null ? req.getTimeBudgetMillis() : DEFAULT_LOBBY_TIME_BUDGET_MILLIS;
+        LobbySelector selector = new LobbySelector(candidates, TeamDraftOptions.modeOrDefault(req.getAssignmentMode()),
+                lobbyCount, Duration.ofMillis(budgetMillis));
+        LobbySelector.Result result = selector.search(draftSearchPool.pool());
         
-        for (Player player : remainingPlayers) {
-            for (String position : POSITIONS) {
-                if (!assignedPositions.containsKey(position)) {
-                    double scoreRatio = "SUP".equals(player.getMainLane()) ? 0.60 : 0.70; // 서폿 메인이면 60%, 아니면 70%
-                    TeamPlayerResponse teamPlayer = createTeamPlayer(player, position, "FILL", scoreRatio);
-                    assignedPositions.put(position, teamPlayer);
-                    teamPlayerResponses.add(teamPlayer);
-                    assignedPlayerIds.add(player.getPlayerId());
-                    break;
-                }
-            }
+        List<LobbyResponse> lobbies = new ArrayList<>();
+        for (int i = 0; i < result.lobbies().length; i++) {
+            lobbies.add(selector.toResponse(i + 1, result.lobbies()[i], result.splits()[i]));
         }
         
-        int totalScore = teamPlayerResponses.stream()
-                .mapToInt(TeamPlayerResponse::getAdjustedScore)
-                .sum();
-        
-        return TeamResponse.builder()
-                .teamNumber(teamNumber)
-                .players(teamPlayerResponses)
-                .totalScore(totalScore)
-                .topPlayer(assignedPositions.get("TOP"))
-                .junglePlayer(assignedPositions.get("JGL"))
-                .midPlayer(assignedPositions.get("MID"))
-                .adcPlayer(assignedPositions.get("ADC"))
-                .supportPlayer(assignedPositions.get("SUP"))
-                .build();
-    }
-    
-    private TeamPlayerResponse createTeamPlayer(Player player, String position, String positionType, double scoreRatio) {
-        int adjustedScore = (int) Math.round(player.getScore() * scoreRatio);
-        
-        return TeamPlayerResponse.builder()
-                .playerId(player.getPlayerId())
-                .name(player.getName())
-                .lolId(player.getLolId())
-                .originalScore(player.getScore())
-                .adjustedScore(adjustedScore)
-                .assignedPosition(position)
-                .mainLane(player.getMainLane())
-                .subLane(player.getSubLane())
-                .positionType(positionType)
+        return LobbySelectionResponse.builder()
+                .lobbies(lobbies)
+                .candidateCount(selector.candidateCount())
+                .evaluatedTeams(result.evaluatedTeams())
+                .evaluatedSplits(result.evaluatedSplits())
+                .complete(result.complete())
+                .elapsedMillis(Duration.ofNanos(System.nanoTime() - startedAt).toMillis())
                 .build();
     }
     
-    private List<List<Player>> generateCombinations(List<Player> players, int r) {
-        List<List<Player>> combinations = new ArrayList<>();
-        generateCombinationsHelper(players, r, 0, new ArrayList<>(), combinations);
-        return combinations;
-    }
-    
-    private void generateCombinationsHelper(List<Player> players, int r, int start, 
-                                          List<Player> current, List<List<Player>> combinations) {
-        if (current.size() == r) {
-            combinations.add(new ArrayList<>(current));
-            return;
+    // 10의 배수 명의 플레이어를 여러 경기로 나눔, 경기별 점수 차이의 최댓값을 최소화
+    public BatchDraftResponse draftMatches(BatchDraftRequest req) {
+        long startedAt = System.nanoTime();
+        Set<Long> uniqueIds = new TreeSet<>(req.getPlayerIds());
+        if (uniqueIds.size() != req.getPlayerIds().size()) {
+            throw new IllegalArgumentException("중복된 플레이어가 포함되어 있습니다.");
         }
-        
-        for (int i = start; i < players.size(); i++) {
-            current.add(players.get(i));
-            generateCombinationsHelper(players, r, i + 1, current, combinations);
-            current.remove(current.size() - 1);
+        List<Player> players = playerRepository.findAllById(uniqueIds);
+        if (players.size() != uniqueIds.size()) {
+            throw new IllegalArgumentException("존재하지 않는 플레이어가 포함되어 있습니다.");
         }
+        
+        long seed = req.getSeed() != null ? req.getSeed() : uniqueIds.hashCode();
+        int iterations = req.getIterations() != null ? req.getIterations() : DEFAULT_BATCH_DRAFT_ITERATIONS;
+        long budgetMillis = req.getTimeBudgetMillis() != null ? req.getTimeBudgetMillis() : DEFAULT_BATCH_DRAFT_TIME_BUDGET_MILLIS;
+        BatchDraftPartitioner partitioner = new BatchDraftPartitioner(players,
+                TeamDraftOptions.modeOrDefault(req.getAssignmentMode()), seed,
+                BATCH_DRAFT_RESTARTS, iterations, Duration.ofMillis(budgetMillis));
+        BatchDraftPartitioner.Result result = partitioner.partition(draftSearchPool.pool());
+        
+        return BatchDraftResponse.builder()
+                .matches(partitioner.toResponses(result.slots()))
+                .worstScoreDifference(result.worstGap())
+                .totalScoreDifference(result.gapSum())
+                .seed(seed)
+                .iterations(result.iterations())
+                .complete(result.complete())
+                .elapsedMillis(Duration.ofNanos(System.nanoTime() - startedAt).toMillis())
+                .build();
     }
-} 
\ No newline at end of file
+} 
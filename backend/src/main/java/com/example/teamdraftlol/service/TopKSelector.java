@@ -0,0 +1,106 @@
+package com.example.teamdraftlol.service;
+
+// 키가 큰 상위 K개만 유지하는 고정 크기 최소 힙
+// 정렬 기준 전체를 long 하나(rankKey)로 합쳐 비교가 primitive 비교 한 번으로 끝난다
+public final class TopKSelector {
+
+    // rankKey 비트 구성 (부호 비트는 항상 0)
+    // [62..59] 주 포지션 수 | [58..35] 낮은 점수 보너스 | [34..11] 점수 차이 반전 | [10..0] 생성 순서 반전
+    private static final int MAIN_COUNT_SHIFT = 59;
+    private static final int BONUS_SHIFT = 35;
+    private static final int DIFF_SHIFT = 11;
+    private static final int FIELD_MAX = (1 << 24) - 1;
+    static final int ORDINAL_MAX = (1 << 11) - 1;
+
+    private final long[] keys;
+    private final long[] values;
+    private int size;
+
+    public TopKSelector(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+    }
+
+    // 주 포지션 수(높을수록 좋음) > 낮은 점수 보너스(높을수록 좋음) > 점수 차이(낮을수록 좋음) > 생성 순서(빠를수록 좋음)
+    public static long rankKey(int mainCount, int bonus, int scoreDifference, int ordinal) {
+        return ((long) Math.min(mainCount, 15) << MAIN_COUNT_SHIFT)
+                | ((long) clamp(bonus) << BONUS_SHIFT)
+                | ((long) (FIELD_MAX - clamp(scoreDifference)) << DIFF_SHIFT)
+                | (ORDINAL_MAX - Math.min(ordinal, ORDINAL_MAX));
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(value, FIELD_MAX));
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 가득 찼을 때 가장 나쁜(힙 루트) 키, 비어 있지 않은 경우에만 의미가 있다
+    public long worstKey() {
+        return keys[0];
+    }
+
+    public boolean isFull() {
+        return size == keys.length;
+    }
+
+    public void offer(long key, long value) {
+        if (size < keys.length) {
+            int i = size++;
+            // 위로 올리기
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                keys[i] = keys[parent];
+                values[i] = values[parent];
+                i = parent;
+            }
+            keys[i] = key;
+            values[i] = value;
+        } else if (size > 0 && key > keys[0]) {
+            siftDown(key, value);
+        }
+    }
+
+    private void siftDown(long key, long value) {
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child]) {
+                child = right;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            keys[i] = keys[child];
+            values[i] = values[child];
+            i = child;
+        }
+        keys[i] = key;
+        values[i] = value;
+    }
+
+    // 좋은 순서(키 내림차순)로 값을 꺼내고 선택기를 비운다
+    public long[] drainBestFirst() {
+        long[] result = new long[size];
+        while (size > 0) {
+            long value = values[0];
+            int last = --size;
+            result[last] = value;
+            if (last > 0) {
+                siftDown(keys[last], values[last]);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.teamdraftlol.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// 점수 반영 취소 네이티브 SQL을 실제 PostgreSQL에서 실행 (리포지토리의 @Query 문자열을 그대로 사용)
+// 스키마는 쿼리가 읽고 쓰는 컬럼만 만든다
+@Testcontainers(disabledWithoutDocker = true)
+class PlayerGameRecordRepositorySqlTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static NamedParameterJdbcTemplate jdbc;
+
+    @BeforeAll
+    static void createSchema() {
+        JdbcTemplate template = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        template.execute("CREATE TABLE players (player_id BIGINT PRIMARY KEY, score INT NOT NULL, win_loss_streak INT)");
+        template.execute("CREATE TABLE game_records (game_id BIGINT PRIMARY KEY, team1_won BOOLEAN NOT NULL, " +
+                "is_applied BOOLEAN NOT NULL, created_at TIMESTAMP NOT NULL)");
+        template.execute("CREATE TABLE player_game_records (record_id BIGSERIAL PRIMARY KEY, " +
+                "game_id BIGINT NOT NULL REFERENCES game_records, player_id BIGINT NOT NULL REFERENCES players, " +
+                "team_number INT NOT NULL, win_loss_streak_at_game INT, applied_score_delta INT, applied_streak_bonus INT)");
+        jdbc = new NamedParameterJdbcTemplate(template);
+    }
+
+    @BeforeEach
+    void clear() {
+        jdbc.getJdbcTemplate().execute("TRUNCATE player_game_records, game_records, players");
+    }
+
+    @Test
+    void revertRestoresScoreAndStreakOfLastAppliedGame() {
+        player(1, 120, 3);
+        player(2, 80, -2);
+        game(10, true, true, "2026-01-01 10:00");
+        record(10, 1, 1, 2, 20);
+        record(10, 2, 2, -1, -15);
+
+        assertEquals(2, revert(10));
+
+        assertPlayer(1, 100, 2);
+        assertPlayer(2, 95, -1);
+        assertRecordCleared(10, 1);
+        assertRecordCleared(10, 2);
+    }
+
+    @Test
+    void revertKeepsStreakWhenLaterGameIsApplied() {
+        player(1, 150, 2);
+        player(2, 60, 1);
+        game(10, true, true, "2026-01-01 10:00");
+        game(11, true, true, "2026-01-01 11:00");
+        record(10, 1, 1, 0, 20);
+        record(10, 2, 1, 0, 25);
+        record(11, 1, 1, 1, 30);
+
+        assertEquals(2, revert(10));
+
+        // 1번은 이후 게임이 있으므로 연승/연패를 바꾸지 않고, 이후 게임만 없는 2번은 게임 직전 값으로 되돌린다
+        assertPlayer(1, 130, 2);
+        assertPlayer(2, 35, 0);
+        assertEquals(30, (int) jdbc.queryForObject(
+                "SELECT applied_score_delta FROM player_game_records WHERE game_id = 11", Map.of(), Integer.class));
+
+        List<Object[]> chains = chains(10);
+        assertEquals(2, chains.size());
+        assertArrayEquals(new Object[]{1L, 10L, true, 0}, chains.get(0));
+        assertArrayEquals(new Object[]{1L, 11L, true, 1}, chains.get(1));
+    }
+
+    @Test
+    void laterOrderUsesGameIdWhenCreatedAtIsEqual() {
+        player(1, 100, -2);
+        game(10, false, true, "2026-01-01 10:00");
+        game(9, false, true, "2026-01-01 10:00");
+        game(11, false, false, "2026-01-01 12:00");
+        record(9, 1, 1, 0, -20);
+        record(10, 1, 1, -1, -20);
+        record(11, 1, 1, null, null);
+
+        // 같은 시각이면 game_id가 큰 10번이 나중, 반영되지 않은 11번은 이후 게임으로 보지 않는다
+        List<Object[]> chains = chains(9);
+        assertEquals(2, chains.size());
+        assertArrayEquals(new Object[]{1L, 9L, false, 0}, chains.get(0));
+        assertArrayEquals(new Object[]{1L, 10L, false, -1}, chains.get(1));
+        assertEquals(0, chains(10).size());
+
+        assertEquals(1, revert(10));
+        assertPlayer(1, 120, -1);
+    }
+
+    @Test
+    void revertFloorsScoreAtZeroAndSkipsRecordsWithoutDelta() {
+        player(1, 5, 1);
+        player(2, 40, 4);
+        game(10, true, true, "2026-01-01 10:00");
+        record(10, 1, 1, 0, 20);
+        record(10, 2, 1, 3, null);
+
+        assertEquals(1, revert(10));
+
+        assertPlayer(1, 0, 0);
+        assertPlayer(2, 40, 4);
+    }
+
+    private static int revert(long gameId) {
+        return jdbc.update(sql("revertAppliedScores"), Map.of("gameId", gameId));
+    }
+
+    private static List<Object[]> chains(long gameId) {
+        return jdbc.query(sql("findAppliedChainsWithLaterGames"), Map.of("gameId", gameId),
+                (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getLong(2), rs.getBoolean(3), rs.getObject(4)});
+    }
+
+    private static String sql(String method) {
+        try {
+            return PlayerGameRecordRepository.class.getMethod(method, Long.class).getAnnotation(Query.class).value();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void player(long playerId, int score, int streak) {
+        jdbc.update("INSERT INTO players VALUES (:id, :score, :streak)",
+                Map.of("id", playerId, "score", score, "streak", streak));
+    }
+
+    private static void game(long gameId, boolean team1Won, boolean applied, String createdAt) {
+        jdbc.update("INSERT INTO game_records VALUES (:id, :won, :applied, CAST(:createdAt AS TIMESTAMP))",
+                Map.of("id", gameId, "won", team1Won, "applied", applied, "createdAt", createdAt));
+    }
+
+    // team은 1 또는 2, streak/delta가 null이면 반영되지 않은 전적
+    private static void record(long gameId, long playerId, int team, Integer streak, Integer delta) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("game", gameId)
+                .addValue("player", playerId)
+                .addValue("team", team)
+                .addValue("streak", streak, Types.INTEGER)
+                .addValue("delta", delta, Types.INTEGER)
+                .addValue("bonus", delta != null ? 0 : null, Types.INTEGER);
+        jdbc.update("INSERT INTO player_game_records (game_id, player_id, team_number, win_loss_streak_at_game, " +
+                "applied_score_delta, applied_streak_bonus) VALUES (:game, :player, :team, :streak, :delta, :bonus)", params);
+    }
+
+    private static void assertPlayer(long playerId, int score, int streak) {
+        Map<String, Object> row = jdbc.queryForMap("SELECT score, win_loss_streak FROM players WHERE player_id = :id",
+                Map.of("id", playerId));
+        assertEquals(score, row.get("score"), "score of " + playerId);
+        assertEquals(streak, row.get("win_loss_streak"), "streak of " + playerId);
+    }
+
+    private static void assertRecordCleared(long gameId, long playerId) {
+        Map<String, Object> row = jdbc.queryForMap("SELECT applied_score_delta, applied_streak_bonus FROM player_game_records " +
+                "WHERE game_id = :game AND player_id = :player", Map.of("game", gameId, "player", playerId));
+        assertNull(row.get("applied_score_delta"));
+        assertNull(row.get("applied_streak_bonus"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.dto.response.TeamGenerationResponse;
+import com.example.teamdraftlol.dto.response.TeamPlayerResponse;
+import com.example.teamdraftlol.entity.Player;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 분할 결과가 유효한지 (모든 플레이어가 정확히 한 번, 10명씩 k경기) 와 잘못된 입력 거부를 확인
+class BatchDraftPartitionerTest {
+
+    private static final String[] LANES = {"TOP", "JGL", "MID", "ADC", "SUP"};
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void everyPlayerAppearsExactlyOnce() {
+        Random random = new Random(29);
+        for (int matches : new int[]{1, 2, 3, 5, 10}) {
+            for (LaneAssignmentMode mode : LaneAssignmentMode.values()) {
+                List<Player> players = randomPlayers(random, matches * BatchDraftPartitioner.MATCH_SIZE);
+                BatchDraftPartitioner partitioner = partitioner(players, mode, random.nextLong());
+                BatchDraftPartitioner.Result result = partitioner.partition(pool);
+                String message = matches + " matches, " + mode;
+
+                // slots는 플레이어 인덱스의 순열
+                int[] sortedSlots = result.slots().clone();
+                Arrays.sort(sortedSlots);
+                assertArrayEquals(IntStream.range(0, players.size()).toArray(), sortedSlots, message);
+                assertTrue(result.worstGap() >= 0 && result.gapSum() >= result.worstGap(), message);
+
+                // 응답도 k경기, 경기마다 5명씩 두 팀이고 전체로 모든 플레이어가 한 번씩
+                List<TeamGenerationResponse> responses = partitioner.toResponses(result.slots());
+                assertEquals(matches, responses.size(), message);
+                Set<Long> seen = new HashSet<>();
+                for (TeamGenerationResponse response : responses) {
+                    assertEquals(LaneEvaluator.TEAM_SIZE, response.getTeam1().getPlayers().size(), message);
+                    assertEquals(LaneEvaluator.TEAM_SIZE, response.getTeam2().getPlayers().size(), message);
+                    for (TeamPlayerResponse player : response.getTeam1().getPlayers()) {
+                        assertTrue(seen.add(player.getPlayerId()), message);
+                    }
+                    for (TeamPlayerResponse player : response.getTeam2().getPlayers()) {
+                        assertTrue(seen.add(player.getPlayerId()), message);
+                    }
+                }
+                assertEquals(players.size(), seen.size(), message);
+            }
+        }
+    }
+
+    @Test
+    void sameSeedGivesSameSlots() {
+        List<Player> players = randomPlayers(new Random(31), 30);
+        int[] first = partitioner(players, LaneAssignmentMode.GREEDY, 7).partition(pool).slots();
+        int[] second = partitioner(players, LaneAssignmentMode.GREEDY, 7).partition(pool).slots();
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    void rejectsPlayerCountNotMultipleOfTen() {
+        Random random = new Random(37);
+        for (int size : new int[]{0, 9, 11, 15, 25}) {
+            List<Player> players = randomPlayers(random, size);
+            assertThrows(IllegalArgumentException.class,
+                    () -> partitioner(players, LaneAssignmentMode.GREEDY, 1), "size " + size);
+        }
+    }
+
+    // 반복 횟수가 정해진 만큼 끝나도록 시간 제한은 넉넉하게
+    private static BatchDraftPartitioner partitioner(List<Player> players, LaneAssignmentMode mode, long seed) {
+        return new BatchDraftPartitioner(players, mode, seed, 4, 2_000, Duration.ofMinutes(1));
+    }
+
+    private static List<Player> randomPlayers(Random random, int size) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int main = random.nextInt(5);
+            int sub = (main + 1 + random.nextInt(4)) % 5;
+            players.add(Player.builder()
+                    .playerId((long) (i + 1))
+                    .name("player" + i)
+                    .mainLane(LANES[main])
+                    .subLane(LANES[sub])
+                    .score(1 + random.nextInt(1000))
+                    .build());
+        }
+        return players;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.teamdraftlol.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 점수 반영 취소 후 연승/연패 재계산 (행은 findAppliedChainsWithLaterGames 결과 형식)
+class GameRecordServiceTest {
+
+    @Test
+    void streaksSkipCancelledGameInMiddle() {
+        // 승(0 → 1) 승(취소) 패 → 취소 후: 승 패 = -1
+        List<Object[]> rows = List.of(
+                row(1, 10, true, 0),
+                row(1, 11, true, 1),
+                row(1, 12, false, 2));
+        assertEquals(Map.of(1L, -1), GameRecordService.streaksWithoutGame(11, rows));
+    }
+
+    @Test
+    void streaksStartFromCancelledFirstGame() {
+        // 취소할 게임이 가장 앞이면 그 게임 직전 값(-3)에서 남은 게임을 이어 간다: 패 → -4, 승 → 1
+        assertEquals(Map.of(1L, -4), GameRecordService.streaksWithoutGame(10, List.of(
+                row(1, 10, true, -3),
+                row(1, 11, false, 1))));
+        assertEquals(Map.of(1L, 1), GameRecordService.streaksWithoutGame(10, List.of(
+                row(1, 10, false, -3),
+                row(1, 11, true, -4))));
+    }
+
+    @Test
+    void streaksPerPlayerWithMissingStoredValue() {
+        List<Object[]> rows = List.of(
+                row(1, 10, true, null),
+                row(1, 11, true, 1),
+                row(1, 12, true, 2),
+                row(2, 9, false, 5),
+                row(2, 11, false, -1),
+                row(2, 13, false, -2));
+        // 1번: 없음(0) → 승 → 승 = 2, 2번: 5 → 패 → 패 = -2
+        assertEquals(Map.of(1L, 2, 2L, -2), GameRecordService.streaksWithoutGame(11, rows));
+    }
+
+    private static Object[] row(long playerId, long gameId, boolean won, Integer streakAtGame) {
+        return new Object[]{playerId, gameId, won, streakAtGame};
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.entity.Player;
+import com.example.teamdraftlol.service.LaneEvaluator.LaneAssignment;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 최적 배정(OPTIMAL)이 120개 순열을 직접 평가한 결과와 같은지 확인
+// 기준: 고정 포지션을 지키는 순열 중 주 포지션 수 최대 > 주 포지션 플레이어 점수 합 최소, 같은 순위의 순열은 모두 동점 후보
+class LaneEvaluatorTest {
+
+    private static final String[] LANES = LaneEvaluator.POSITIONS;
+
+    @Test
+    void optimalMatchesBruteForce() {
+        Random random = new Random(41);
+        List<int[]> permutations = permutations();
+        for (int round = 0; round < 3_000; round++) {
+            List<Player> roster = randomRoster(random);
+            int[] members = randomTeam(random);
+            Map<Long, Integer> locks = new HashMap<>();
+            if (random.nextInt(3) == 0) {
+                // 팀 안에서는 서로 다른 포지션으로 고정 (같은 포지션 고정은 마스크 필터가 미리 거른다)
+                int[] lanes = permutations.get(random.nextInt(permutations.size()));
+                for (int slot = 0; slot < LaneEvaluator.TEAM_SIZE; slot++) {
+                    if (random.nextInt(4) == 0) {
+                        locks.put(roster.get(members[slot]).getPlayerId(), lanes[slot]);
+                    }
+                }
+            }
+            LaneEvaluator lanes = new LaneEvaluator(roster, LaneAssignmentMode.OPTIMAL, locks);
+            String message = "round " + round + ", locks " + locks;
+
+            // 직접 평가: 가장 좋은 (주 포지션 수, 주 포지션 점수 합)과 그 순위의 합계 점수 후보
+            int bestMain = -1;
+            int bestMainScore = 0;
+            TreeSet<Integer> expectedTotals = new TreeSet<>();
+            for (int[] permutation : permutations) {
+                int main = 0;
+                int mainScore = 0;
+                int total = 0;
+                boolean allowed = true;
+                for (int slot = 0; slot < LaneEvaluator.TEAM_SIZE; slot++) {
+                    Player player = roster.get(members[slot]);
+                    int lane = permutation[slot];
+                    Integer locked = locks.get(player.getPlayerId());
+                    allowed &= locked == null || locked == lane;
+                    if (LANES[lane].equals(player.getMainLane())) {
+                        main++;
+                        mainScore += player.getScore();
+                    }
+                    total += adjustedScore(player, lane);
+                }
+                if (!allowed) {
+                    continue;
+                }
+                if (main > bestMain || (main == bestMain && mainScore < bestMainScore)) {
+                    bestMain = main;
+                    bestMainScore = mainScore;
+                    expectedTotals.clear();
+                }
+                if (main == bestMain && mainScore == bestMainScore) {
+                    expectedTotals.add(total);
+                }
+            }
+
+            LaneAssignment work = new LaneAssignment();
+            int[] totals = new int[LaneEvaluator.PERMUTATION_COUNT];
+            int count = lanes.collectTotals(members, work, totals);
+            assertArrayEquals(expectedTotals.stream().mapToInt(Integer::intValue).toArray(), Arrays.copyOf(totals, count), message);
+            assertEquals(bestMain, work.mainCount, message);
+            assertEquals(bestMainScore, work.mainScoreSum, message);
+
+            // 동점 후보마다 그 합계를 내는 최선 배정을 실제로 만들 수 있어야 한다
+            for (int target : expectedTotals) {
+                LaneAssignment assignment = new LaneAssignment();
+                lanes.assignPositions(members, target, assignment);
+                int main = 0;
+                int total = 0;
+                for (int lane = 0; lane < LaneEvaluator.TEAM_SIZE; lane++) {
+                    Player player = roster.get(assignment.players[lane]);
+                    Integer locked = locks.get(player.getPlayerId());
+                    assertTrue(locked == null || locked == lane, message);
+                    main += LANES[lane].equals(player.getMainLane()) ? 1 : 0;
+                    total += adjustedScore(player, lane);
+                }
+                assertEquals(bestMain, main, message);
+                assertEquals(target, total, message);
+            }
+        }
+    }
+
+    // 주 포지션 100%, 부 포지션 85% (서폿 메인 75%), 그 외 70% (서폿 메인 60%)
+    private static int adjustedScore(Player player, int lane) {
+        boolean supportMain = "SUP".equals(player.getMainLane());
+        if (LANES[lane].equals(player.getMainLane())) {
+            return player.getScore();
+        }
+        if (LANES[lane].equals(player.getSubLane())) {
+            return (int) Math.round(player.getScore() * (supportMain ? 0.75 : 0.85));
+        }
+        return (int) Math.round(player.getScore() * (supportMain ? 0.60 : 0.70));
+    }
+
+    private static List<int[]> permutations() {
+        List<int[]> result = new ArrayList<>();
+        permute(new int[LaneEvaluator.TEAM_SIZE], 0, 0, result);
+        return result;
+    }
+
+    private static void permute(int[] current, int slot, int used, List<int[]> result) {
+        if (slot == current.length) {
+            result.add(current.clone());
+            return;
+        }
+        for (int lane = 0; lane < current.length; lane++) {
+            if ((used & (1 << lane)) == 0) {
+                current[slot] = lane;
+                permute(current, slot + 1, used | (1 << lane), result);
+            }
+        }
+    }
+
+    // 로스터 10명 중 5명 (오름차순 인덱스)
+    private static int[] randomTeam(Random random) {
+        int mask = 0;
+        while (Integer.bitCount(mask) < LaneEvaluator.TEAM_SIZE) {
+            mask |= 1 << random.nextInt(TeamCombinationEngine.ROSTER_SIZE);
+        }
+        int[] members = new int[LaneEvaluator.TEAM_SIZE];
+        LaneEvaluator.membersOf(mask, members);
+        return members;
+    }
+
+    // 같은 주 포지션과 같은 점수가 자주 나와 동점 배정이 많은 로스터 (ID 순서 = 인덱스)
+    private static List<Player> randomRoster(Random random) {
+        List<Player> roster = new ArrayList<>();
+        for (int i = 0; i < TeamCombinationEngine.ROSTER_SIZE; i++) {
+            int main = random.nextInt(3) == 0 ? 0 : random.nextInt(5);
+            int sub = (main + 1 + random.nextInt(4)) % 5;
+            roster.add(Player.builder()
+                    .playerId((long) (i + 1))
+                    .name("player" + i)
+                    .mainLane(LANES[main])
+                    .subLane(LANES[sub])
+                    .score(random.nextInt(3) == 0 ? 500 : 1 + random.nextInt(1000))
+                    .build());
+        }
+        return roster;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.entity.Player;
+import com.example.teamdraftlol.service.LaneEvaluator.LaneAssignment;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 팀 쌍 탐색과 가지치기가 C(N,10)개 로비 × 126개 분할 전체를 직접 비교한 결과와 같은지 확인 (N이 작을 때)
+class LobbySelectorTest {
+
+    private static final String[] LANES = {"TOP", "JGL", "MID", "ADC", "SUP"};
+    private static final int LOBBY_COUNT = 5;
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void searchMatchesBruteForce() {
+        Random random = new Random(23);
+        for (int round = 0; round < 60; round++) {
+            List<Player> candidates = randomCandidates(random, 10 + round % 4);
+            for (LaneAssignmentMode mode : LaneAssignmentMode.values()) {
+                LobbySelector.Result result = new LobbySelector(candidates, mode, LOBBY_COUNT, Duration.ofMinutes(1)).search(pool);
+                long[][] expected = bruteForce(new LaneEvaluator(candidates, mode), LOBBY_COUNT);
+
+                String message = "round " + round + ", " + mode + ", " + candidates.size() + " candidates";
+                assertTrue(result.complete(), message);
+                assertArrayEquals(expected[0], result.lobbies(), message);
+                assertArrayEquals(expected[1], result.splits(), message);
+            }
+        }
+    }
+
+    // 로비마다 모든 분할을 평가해 가장 좋은 분할을 고르고, 로비를 같은 기준으로 정렬해 상위 limit개의 {로비, 분할}을 반환
+    // 기준: 주 포지션 수 내림차순 > 점수 차이 오름차순 > 로비 마스크 오름차순 > 분할 마스크 오름차순
+    // 분할 마스크는 가장 작은 인덱스의 플레이어가 속한 팀, 포지션 배정이 여럿이면 두 팀 합계의 가장 작은 차이를 쓴다
+    private static long[][] bruteForce(LaneEvaluator lanes, int limit) {
+        int n = lanes.size();
+        List<long[]> best = new ArrayList<>(); // {로비, 분할, 주 포지션 수, 점수 차이}
+        for (long lobby = 0; lobby < 1L << n; lobby++) {
+            if (Long.bitCount(lobby) != 2 * LaneEvaluator.TEAM_SIZE) {
+                continue;
+            }
+            long lowest = Long.lowestOneBit(lobby);
+            long[] lobbyBest = null;
+            for (long split = lobby; split != 0; split = (split - 1) & lobby) {
+                if (Long.bitCount(split) != LaneEvaluator.TEAM_SIZE || (split & lowest) == 0) {
+                    continue;
+                }
+                int[] totalsA = new int[LaneEvaluator.PERMUTATION_COUNT];
+                int[] totalsB = new int[LaneEvaluator.PERMUTATION_COUNT];
+                LaneAssignment workA = new LaneAssignment();
+                LaneAssignment workB = new LaneAssignment();
+                int countA = lanes.collectTotals(members(split), workA, totalsA);
+                int countB = lanes.collectTotals(members(lobby & ~split), workB, totalsB);
+                int diff = Integer.MAX_VALUE;
+                for (int a = 0; a < countA; a++) {
+                    for (int b = 0; b < countB; b++) {
+                        diff = Math.min(diff, Math.abs(totalsA[a] - totalsB[b]));
+                    }
+                }
+                long[] candidate = {lobby, split, workA.mainCount + workB.mainCount, diff};
+                if (lobbyBest == null || ORDER.compare(candidate, lobbyBest) < 0) {
+                    lobbyBest = candidate;
+                }
+            }
+            best.add(lobbyBest);
+        }
+        best.sort(ORDER);
+        List<long[]> top = best.subList(0, Math.min(limit, best.size()));
+        return new long[][]{
+                top.stream().mapToLong(entry -> entry[0]).toArray(),
+                top.stream().mapToLong(entry -> entry[1]).toArray()
+        };
+    }
+
+    private static final Comparator<long[]> ORDER = Comparator
+            .comparingLong((long[] entry) -> -entry[2])
+            .thenComparingLong(entry -> entry[3])
+            .thenComparingLong(entry -> entry[0])
+            .thenComparingLong(entry -> entry[1]);
+
+    private static int[] members(long mask) {
+        int[] members = new int[LaneEvaluator.TEAM_SIZE];
+        LaneEvaluator.membersOf(mask, members);
+        return members;
+    }
+
+    // 같은 점수와 주 포지션 쏠림이 자주 나오도록 좁은 범위에서 뽑는다 (동점 처리까지 비교)
+    private static List<Player> randomCandidates(Random random, int size) {
+        List<Player> candidates = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int main = random.nextInt(5);
+            int sub = (main + 1 + random.nextInt(4)) % 5;
+            candidates.add(Player.builder()
+                    .playerId((long) (i + 1))
+                    .name("player" + i)
+                    .mainLane(LANES[random.nextInt(3) == 0 ? 0 : main])
+                    .subLane(LANES[sub])
+                    .score(random.nextInt(3) == 0 ? 500 : 1 + random.nextInt(300))
+                    .build());
+        }
+        return candidates;
+    }
+}
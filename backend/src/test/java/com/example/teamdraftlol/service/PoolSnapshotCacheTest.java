@@ -0,0 +1,65 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.entity.Pool;
+import com.example.teamdraftlol.entity.Profile;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+// 트랜잭션 밖에서 호출하므로 invalidate는 바로 무효화 표시를 남긴다
+class PoolSnapshotCacheTest {
+
+    @Test
+    void cachesUntilInvalidated() {
+        PoolSnapshotCache cache = new PoolSnapshotCache(4);
+        PoolSnapshot first = snapshot(1L);
+        PoolSnapshot second = snapshot(1L);
+
+        assertSame(first, cache.get(1L, id -> first));
+        assertSame(first, cache.get(1L, id -> second));
+        cache.invalidate(1L);
+        assertSame(second, cache.get(1L, id -> second));
+    }
+
+    @Test
+    void loadStartedBeforeInvalidationIsNotStored() {
+        PoolSnapshotCache cache = new PoolSnapshotCache(4);
+        PoolSnapshot stale = snapshot(1L);
+        PoolSnapshot fresh = snapshot(1L);
+
+        // 읽는 도중에 커밋(무효화)이 끝난 경우: 이번 응답에는 읽은 값을 쓰지만 캐시에는 남기지 않는다
+        assertSame(stale, cache.get(1L, id -> {
+            cache.invalidate(1L);
+            return stale;
+        }));
+        assertSame(fresh, cache.get(1L, id -> fresh));
+    }
+
+    @Test
+    void evictedInvalidationStillBlocksLoadStartedBeforeIt() {
+        PoolSnapshotCache cache = new PoolSnapshotCache(1);
+        PoolSnapshot stale = snapshot(1L);
+        PoolSnapshot fresh = snapshot(1L);
+
+        // 1번 풀을 읽는 동안 1번, 2번 풀이 무효화되고, 크기 제한으로 1번 풀의 무효화 표시가 지워진다
+        assertSame(stale, cache.get(1L, id -> {
+            cache.invalidate(1L);
+            cache.invalidate(2L);
+            return stale;
+        }));
+        assertSame(fresh, cache.get(1L, id -> fresh));
+    }
+
+    private static PoolSnapshot snapshot(long poolId) {
+        return PoolSnapshot.of(Pool.builder()
+                .poolId(poolId)
+                .name("pool" + poolId)
+                .owner(Profile.builder().id(UUID.randomUUID()).build())
+                .players(Set.of())
+                .members(Set.of())
+                .build());
+    }
+}
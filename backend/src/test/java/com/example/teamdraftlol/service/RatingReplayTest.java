@@ -0,0 +1,242 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.entity.GameRecord;
+import com.example.teamdraftlol.entity.Player;
+import com.example.teamdraftlol.entity.PlayerGameRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 풀 다시 계산: 전체 재반영이 엔티티 순차 반영과 같고, 체크포인트에서 이어 간 결과가 처음부터 재반영한 결과와 같은지 확인
+class RatingReplayTest {
+
+    private static final String[] LANES = {"TOP", "JGL", "MID", "ADC", "SUP"};
+    private static final int GAMES = 3_500;
+    private static final int PLAYERS = 30;
+
+    private final Fixture fixture = new Fixture(new Random(3));
+
+    @Test
+    void fullReplayMatchesSequentialApply() {
+        Map<Long, Player> playerMap = new HashMap<>();
+        for (Player player : fixture.players) {
+            playerMap.put(player.getPlayerId(), player);
+        }
+        for (int g = 0; g < GAMES; g++) {
+            GameRecordService.applyScores(fixture.games.get(g), fixture.records.get(g), playerMap);
+        }
+
+        RatingReplay replay = fixture.newReplay();
+        List<RatingReplay.Checkpoint> checkpoints = replay.run(fixture.log, 0, fixture.prefixHashes);
+
+        assertEquals(GAMES / RatingReplay.CHECKPOINT_INTERVAL, checkpoints.size());
+        for (int i = 0; i < PLAYERS; i++) {
+            Player player = fixture.players.get(i);
+            assertEquals((int) player.getScore(), replay.score(i), "player " + i);
+            assertEquals((int) player.getWinLossStreak(), replay.streak(i), "player " + i);
+        }
+        int r = 0;
+        for (List<PlayerGameRecord> gameRecords : fixture.records) {
+            for (PlayerGameRecord record : gameRecords) {
+                assertEquals((int) record.getAppliedScoreDelta(), fixture.log.deltas[r], "record " + r);
+                assertEquals((int) record.getAppliedStreakBonus(), fixture.log.bonuses[r], "record " + r);
+                assertEquals((int) record.getWinLossStreakAtGame(), fixture.log.streaksAtGame[r], "record " + r);
+                r++;
+            }
+        }
+    }
+
+    @Test
+    void resumeFromCheckpointMatchesFullReplay() {
+        RatingReplay full = fixture.newReplay();
+        List<RatingReplay.Checkpoint> checkpoints = full.run(fixture.log, 0, fixture.prefixHashes);
+        RatingReplay.Checkpoint checkpoint = checkpoints.get(1);
+        assertEquals(2 * RatingReplay.CHECKPOINT_INTERVAL, checkpoint.gameCount());
+        assertEquals(fixture.log.gameIds[checkpoint.gameCount() - 1], checkpoint.lastGameId());
+        assertEquals(fixture.prefixHashes[checkpoint.gameCount()], checkpoint.prefixHash());
+
+        // 체크포인트 이후 게임만, 전체 재반영 결과를 저장된 값으로 담아 다시 반영
+        RatingReplay.GameLog tail = storedCopy(fixture.log, checkpoint.gameCount());
+        RatingReplay resumed = fixture.newReplay();
+        assertTrue(resumed.restore(checkpoint.payload()));
+        List<RatingReplay.Checkpoint> resumedCheckpoints = resumed.run(tail, checkpoint.gameCount(), fixture.prefixHashes);
+
+        for (int i = 0; i < PLAYERS; i++) {
+            assertEquals(full.score(i), resumed.score(i), "player " + i);
+            assertEquals(full.streak(i), resumed.streak(i), "player " + i);
+        }
+        for (int r = 0; r < tail.records; r++) {
+            assertFalse(tail.changed(r), "record " + r);
+        }
+        assertEquals(1, resumedCheckpoints.size());
+        assertEquals(checkpoints.get(2).gameCount(), resumedCheckpoints.get(0).gameCount());
+        assertArrayEquals(checkpoints.get(2).payload(), resumedCheckpoints.get(0).payload());
+    }
+
+    @Test
+    void secondReplayWithSameFormulaChangesNothing() {
+        RatingReplay first = fixture.newReplay();
+        List<RatingReplay.Checkpoint> firstCheckpoints = first.run(fixture.log, 0, fixture.prefixHashes);
+
+        // 서비스(PLAYER_BASES_SQL)와 같은 방식의 기준 상태: 현재 점수 - 반영된 변화량 합, 첫 전적의 게임 직전 연승/연패
+        RatingReplay.GameLog log = fixture.log;
+        Map<Long, Integer> deltaSums = new HashMap<>();
+        Map<Long, Integer> firstStreaks = new HashMap<>();
+        for (int r = 0; r < log.records; r++) {
+            deltaSums.merge(log.playerIds[r], log.deltas[r], Integer::sum);
+            firstStreaks.putIfAbsent(log.playerIds[r], log.streaksAtGame[r]);
+        }
+        RatingReplay second = new RatingReplay();
+        for (int i = 0; i < first.playerCount(); i++) {
+            long playerId = first.playerId(i);
+            second.addPlayer(playerId, first.score(i) - deltaSums.get(playerId), firstStreaks.get(playerId));
+        }
+        RatingReplay.GameLog stored = storedCopy(log, 0);
+        List<RatingReplay.Checkpoint> secondCheckpoints = second.run(stored, 0, fixture.prefixHashes);
+
+        for (int r = 0; r < stored.records; r++) {
+            assertFalse(stored.changed(r), "record " + r);
+        }
+        for (int i = 0; i < PLAYERS; i++) {
+            assertEquals(first.score(i), second.score(i), "player " + i);
+            assertEquals(first.streak(i), second.streak(i), "player " + i);
+        }
+        assertEquals(firstCheckpoints.size(), secondCheckpoints.size());
+        for (int c = 0; c < firstCheckpoints.size(); c++) {
+            assertArrayEquals(firstCheckpoints.get(c).payload(), secondCheckpoints.get(c).payload(), "checkpoint " + c);
+        }
+    }
+
+    @Test
+    void restoreRejectsDifferentBase() {
+        byte[] payload = fixture.newReplay().run(fixture.log, 0, fixture.prefixHashes).get(0).payload();
+
+        // 기준 점수나 연승/연패가 바뀐 플레이어가 있으면 체크포인트를 쓰지 않는다
+        RatingReplay changedScore = new RatingReplay();
+        RatingReplay changedStreak = new RatingReplay();
+        RatingReplay missingPlayer = new RatingReplay();
+        for (int i = 0; i < PLAYERS; i++) {
+            Player player = fixture.players.get(i);
+            changedScore.addPlayer(player.getPlayerId(), fixture.baseScores[i] + (i == 5 ? 1 : 0), fixture.baseStreaks[i]);
+            changedStreak.addPlayer(player.getPlayerId(), fixture.baseScores[i], fixture.baseStreaks[i] + (i == 7 ? 1 : 0));
+            if (i != 9) {
+                missingPlayer.addPlayer(player.getPlayerId(), fixture.baseScores[i], fixture.baseStreaks[i]);
+            }
+        }
+        assertFalse(changedScore.restore(payload));
+        assertFalse(changedStreak.restore(payload));
+        assertFalse(missingPlayer.restore(payload));
+        assertFalse(fixture.newReplay().restore(Arrays.copyOf(payload, payload.length - 1)));
+        assertTrue(fixture.newReplay().restore(payload));
+    }
+
+    @Test
+    void gameHashChangesWithGameResult() {
+        long hash = RatingReplay.mixGame(RatingReplay.EMPTY_HASH, 1, true, 10, 5, 50_000, 45_000, 10, 10);
+        assertNotEquals(hash, RatingReplay.mixGame(RatingReplay.EMPTY_HASH, 1, false, 10, 5, 50_000, 45_000, 10, 10));
+        assertNotEquals(hash, RatingReplay.mixGame(RatingReplay.EMPTY_HASH, 1, true, 10, 5, 50_000, 45_000, 10, 11));
+        assertNotEquals(hash, RatingReplay.mixGame(RatingReplay.EMPTY_HASH, 2, true, 10, 5, 50_000, 45_000, 10, 10));
+    }
+
+    // fromGame번째 게임부터, 앞선 재반영 결과(deltas/bonuses/streaksAtGame)를 저장된 값으로 담은 로그
+    private static RatingReplay.GameLog storedCopy(RatingReplay.GameLog log, int fromGame) {
+        RatingReplay.GameLog copy = new RatingReplay.GameLog();
+        for (int g = fromGame; g < log.games; g++) {
+            copy.addGame(log.gameIds[g], log.team1Won[g], log.team1Kills[g], log.team2Kills[g], log.team1Gold[g], log.team2Gold[g]);
+            for (int r = log.firstRecord[g]; r < log.firstRecord[g + 1]; r++) {
+                copy.addRecord(log.recordIds[r], log.playerIds[r], log.teams[r], log.lanes[r],
+                        log.kills[r], log.deaths[r], log.assists[r], log.cs[r],
+                        log.deltas[r], log.bonuses[r], log.streaksAtGame[r]);
+            }
+        }
+        return copy;
+    }
+
+    // 30명 풀의 고정 시드 게임, 엔티티(순차 반영용)와 GameLog(재반영용)를 같은 내용으로 만든다
+    // 가끔 전적이 없는 게임과 포지션이 겹치는 전적이 섞인다
+    private static final class Fixture {
+        final List<Player> players = new ArrayList<>();
+        final int[] baseScores = new int[PLAYERS];
+        final int[] baseStreaks = new int[PLAYERS];
+        final List<GameRecord> games = new ArrayList<>();
+        final List<List<PlayerGameRecord>> records = new ArrayList<>();
+        final RatingReplay.GameLog log = new RatingReplay.GameLog();
+        final long[] prefixHashes = new long[GAMES + 1];
+
+        Fixture(Random random) {
+            for (int i = 0; i < PLAYERS; i++) {
+                baseScores[i] = random.nextInt(1500);
+                baseStreaks[i] = random.nextInt(7) - 3;
+                players.add(Player.builder()
+                        .playerId(100L + i)
+                        .mainLane("TOP")
+                        .subLane("MID")
+                        .score(baseScores[i])
+                        .winLossStreak(baseStreaks[i])
+                        .build());
+            }
+            prefixHashes[0] = RatingReplay.EMPTY_HASH;
+            long recordId = 1;
+            for (int g = 0; g < GAMES; g++) {
+                GameRecord game = GameRecord.builder()
+                        .gameId((long) g + 1)
+                        .team1Won(random.nextBoolean())
+                        .team1Kills(random.nextInt(50))
+                        .team2Kills(random.nextInt(50))
+                        .team1Gold(40_000 + random.nextInt(40_000))
+                        .team2Gold(40_000 + random.nextInt(40_000))
+                        .build();
+                log.addGame(game.getGameId(), game.isTeam1Won(), game.getTeam1Kills(), game.getTeam2Kills(),
+                        game.getTeam1Gold(), game.getTeam2Gold());
+                List<Player> shuffled = new ArrayList<>(players);
+                Collections.shuffle(shuffled, random);
+                List<PlayerGameRecord> gameRecords = new ArrayList<>();
+                int size = g % 97 == 0 ? 0 : 10;
+                for (int i = 0; i < size; i++) {
+                    String lane = random.nextInt(15) == 0 ? LANES[random.nextInt(5)] : LANES[i % 5];
+                    PlayerGameRecord record = PlayerGameRecord.builder()
+                            .recordId(recordId++)
+                            .gameRecord(game)
+                            .player(shuffled.get(i))
+                            .teamNumber(i < 5 ? 1 : 2)
+                            .assignedPosition(lane)
+                            .kills(random.nextInt(15))
+                            .deaths(random.nextInt(12))
+                            .assists(random.nextInt(20))
+                            .cs(random.nextInt(300))
+                            .build();
+                    gameRecords.add(record);
+                    log.addRecord(record.getRecordId(), record.getPlayer().getPlayerId(), record.getTeamNumber(),
+                            LaneEvaluator.laneIndex(lane), record.getKills(), record.getDeaths(), record.getAssists(),
+                            record.getCs(), RatingReplay.NULL, RatingReplay.NULL, RatingReplay.NULL);
+                }
+                prefixHashes[g + 1] = RatingReplay.mixGame(prefixHashes[g], game.getGameId(), game.isTeam1Won(),
+                        game.getTeam1Kills(), game.getTeam2Kills(), game.getTeam1Gold(), game.getTeam2Gold(),
+                        size, recordId - 1);
+                games.add(game);
+                records.add(gameRecords);
+            }
+        }
+
+        // 기준 상태(첫 게임 이전)의 플레이어로 시작하는 재반영 엔진
+        RatingReplay newReplay() {
+            RatingReplay replay = new RatingReplay();
+            for (int i = 0; i < PLAYERS; i++) {
+                replay.addPlayer(players.get(i).getPlayerId(), baseScores[i], baseStreaks[i]);
+            }
+            return replay;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RerollCursorCodecTest {
+
+    private static final String[] LANES = {"TOP", "JGL", "MID", "ADC", "SUP"};
+
+    private final RerollCursorCodec codec = new RerollCursorCodec("cursor-secret");
+
+    @Test
+    void roundTrips() {
+        List<Player> roster = roster();
+        for (int limit : new int[]{1, 10, 126}) {
+            TeamDraftOptions options = new TeamDraftOptions(LaneAssignmentMode.OPTIMAL, limit,
+                    TeamConstraints.of(List.of(List.of(1L, 2L)), null, null));
+            RerollCursor cursor = cursor(roster, options);
+
+            RerollCursor decoded = codec.decode(codec.encode(cursor)).orElseThrow();
+
+            assertEquals(cursor, decoded);
+            assertTrue(decoded.matches(ids(roster), options));
+            assertTrue(decoded.isCurrent(roster));
+        }
+    }
+
+    @Test
+    void rejectsTamperedOrForeignCursors() {
+        String token = codec.encode(cursor(roster(), new TeamDraftOptions(LaneAssignmentMode.GREEDY, 10)));
+
+        assertTrue(new RerollCursorCodec("other-secret").decode(token).isEmpty());
+        // 어느 바이트의 비트 하나를 바꿔도 서명 검증에서 걸러져야 한다
+        byte[] bytes = Base64.getUrlDecoder().decode(token);
+        for (int i = 0; i < bytes.length; i++) {
+            byte[] tampered = bytes.clone();
+            tampered[i] ^= 1;
+            assertTrue(codec.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(tampered)).isEmpty(), "byte " + i);
+        }
+        assertTrue(codec.decode(token.substring(0, token.length() - 4)).isEmpty());
+        assertTrue(codec.decode("").isEmpty());
+        assertTrue(codec.decode("!!!").isEmpty());
+    }
+
+    @Test
+    void detectsChangedRosterAndOptions() {
+        List<Player> roster = roster();
+        TeamDraftOptions options = new TeamDraftOptions(LaneAssignmentMode.OPTIMAL, 10);
+        RerollCursor cursor = codec.decode(codec.encode(cursor(roster, options))).orElseThrow();
+
+        // 발급 후 점수나 라인이 바뀐 로스터
+        List<Player> rescored = new ArrayList<>(roster);
+        rescored.set(3, copy(roster.get(3), roster.get(3).getScore() + 1, roster.get(3).getMainLane()));
+        assertFalse(cursor.isCurrent(rescored));
+        List<Player> relaned = new ArrayList<>(roster);
+        relaned.set(5, copy(roster.get(5), roster.get(5).getScore(), roster.get(5).getSubLane()));
+        assertFalse(cursor.isCurrent(relaned));
+        assertFalse(cursor.isCurrent(roster.subList(0, 9)));
+
+        // 다른 배정 규칙 버전으로 발급된 커서
+        RerollCursor oldRules = new RerollCursor(cursor.playerIds(), cursor.rosterVersion(), LaneEvaluator.RULES_VERSION - 1,
+                cursor.mode(), cursor.limit(), cursor.constraintsVersion(), cursor.rank(), cursor.masks());
+        assertFalse(codec.decode(codec.encode(oldRules)).orElseThrow().isCurrent(roster));
+
+        // 다른 로비(로스터)나 옵션의 커서
+        List<Long> ids = ids(roster);
+        Collections.reverse(ids);
+        assertTrue(cursor.matches(ids, options));
+        assertFalse(cursor.matches(ids, new TeamDraftOptions(LaneAssignmentMode.GREEDY, 10)));
+        assertFalse(cursor.matches(ids, new TeamDraftOptions(LaneAssignmentMode.OPTIMAL, 20)));
+        assertFalse(cursor.matches(ids, new TeamDraftOptions(LaneAssignmentMode.OPTIMAL, 10,
+                TeamConstraints.of(null, null, Map.of(1L, "TOP")))));
+        List<Long> otherLobby = new ArrayList<>(ids);
+        otherLobby.set(0, 99L);
+        assertFalse(cursor.matches(otherLobby, options));
+    }
+
+    private static RerollCursor cursor(List<Player> roster, TeamDraftOptions options) {
+        TeamCombinationEngine engine = new TeamCombinationEngine(roster, options.mode(), options.constraints());
+        RankedCombinations combinations = new RankedCombinations(engine, engine.rankCombinations(options.limit()));
+        return RerollCursor.of(roster, options, combinations.size() - 1, combinations);
+    }
+
+    private static List<Long> ids(List<Player> roster) {
+        List<Long> ids = new ArrayList<>();
+        for (Player player : roster) {
+            ids.add(player.getPlayerId());
+        }
+        return ids;
+    }
+
+    private static Player copy(Player player, int score, String mainLane) {
+        return Player.builder()
+                .playerId(player.getPlayerId())
+                .name(player.getName())
+                .mainLane(mainLane)
+                .subLane(player.getSubLane())
+                .score(score)
+                .build();
+    }
+
+    private static List<Player> roster() {
+        Random random = new Random(7);
+        List<Player> roster = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            int main = random.nextInt(5);
+            int sub = (main + 1 + random.nextInt(4)) % 5;
+            roster.add(Player.builder()
+                    .playerId((long) i)
+                    .name("player" + i)
+                    .mainLane(LANES[main])
+                    .subLane(LANES[sub])
+                    .score(100 + random.nextInt(900))
+                    .build());
+        }
+        return roster;
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.entity.GameRecord;
+import com.example.teamdraftlol.entity.Player;
+import com.example.teamdraftlol.entity.PlayerGameRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 점수 커널(APPLY/SIMULATE)이 커널 도입 전의 엔티티 기반 계산식과 같은 값을 내는지 고정 시드 게임으로 확인
+class ScoreKernelTest {
+
+    private static final String[] LANES = {"TOP", "JGL", "MID", "ADC", "SUP"};
+    private static final int GAMES = 20_000;
+
+    @Test
+    void simulateMatchesBaselineFormula() {
+        Random seeds = new Random(5);
+        for (int i = 0; i < GAMES; i++) {
+            long seed = seeds.nextLong();
+            List<PlayerGameRecord> records = new ArrayList<>();
+            GameRecord game = randomGame(new Random(seed), records);
+            ScoreKernel.Game kernelGame = ScoreKernel.Game.of(game, records);
+            for (int slot = 0; slot < records.size(); slot++) {
+                assertEquals(Baseline.simulatedScore(records.get(slot), records, game),
+                        ScoreKernel.scoreDelta(kernelGame, slot, ScoreFormula.SIMULATE),
+                        "seed " + seed + ", slot " + slot);
+            }
+        }
+    }
+
+    @Test
+    void applyMatchesBaselineFormula() {
+        Random seeds = new Random(7);
+        for (int i = 0; i < GAMES; i++) {
+            long seed = seeds.nextLong();
+            List<PlayerGameRecord> expectedRecords = new ArrayList<>();
+            GameRecord expectedGame = randomGame(new Random(seed), expectedRecords);
+            List<PlayerGameRecord> actualRecords = new ArrayList<>();
+            GameRecord actualGame = randomGame(new Random(seed), actualRecords);
+
+            Baseline.applyScores(expectedGame, expectedRecords);
+            Map<Long, Player> playerMap = new HashMap<>();
+            Map<Long, Integer> scoresBefore = new HashMap<>();
+            for (PlayerGameRecord record : actualRecords) {
+                playerMap.put(record.getPlayer().getPlayerId(), record.getPlayer());
+                scoresBefore.put(record.getPlayer().getPlayerId(), record.getPlayer().getScore());
+            }
+            GameRecordService.applyScores(actualGame, actualRecords, playerMap);
+
+            for (int slot = 0; slot < expectedRecords.size(); slot++) {
+                PlayerGameRecord expected = expectedRecords.get(slot);
+                PlayerGameRecord actual = actualRecords.get(slot);
+                String message = "seed " + seed + ", slot " + slot;
+                assertEquals(expected.getPlayer().getScore(), actual.getPlayer().getScore(), message);
+                assertEquals(expected.getPlayer().getWinLossStreak(), actual.getPlayer().getWinLossStreak(), message);
+                assertEquals(expected.getWinLossStreakAtGame(), actual.getWinLossStreakAtGame(), message);
+                // 취소에 쓰는 저장값: 0점 하한 적용 후 실제 변화량, 반영 전 연승/연패 기준 보너스
+                assertEquals(actual.getPlayer().getScore() - scoresBefore.get(actual.getPlayer().getPlayerId()),
+                        (int) actual.getAppliedScoreDelta(), message);
+                assertEquals(Baseline.streakBonus(actual.getWinLossStreakAtGame(), actual.getPlayer().getWinLossStreak() > 0),
+                        (int) actual.getAppliedStreakBonus(), message);
+            }
+        }
+    }
+
+    @Test
+    void edgeCasesMatchBaselineFormula() {
+        // 데스 0, 골드 0, 점수 0, 맞라인 상대 없음(같은 팀에 같은 포지션 두 명), 연승/연패 값 없음
+        GameRecord game = GameRecord.builder()
+                .team1Won(false).team1Kills(0).team2Kills(31).team1Gold(0).team2Gold(0)
+                .build();
+        List<PlayerGameRecord> records = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Player player = player(i + 1, i % 3 == 0 ? 0 : 100 * i, i == 4 ? null : i - 5);
+            String lane = i == 1 ? "TOP" : LANES[i % 5];
+            records.add(PlayerGameRecord.builder()
+                    .player(player).gameRecord(game)
+                    .teamNumber(i < 5 ? 1 : 2).assignedPosition(lane)
+                    .kills(i).deaths(i % 2 == 0 ? 0 : i).assists(2 * i).cs(i == 7 ? 0 : 30 * i)
+                    .winLossStreakAtGame(i % 4 == 0 ? null : 3 - i)
+                    .build());
+        }
+        ScoreKernel.Game kernelGame = ScoreKernel.Game.of(game, records);
+        for (int slot = 0; slot < records.size(); slot++) {
+            assertEquals(Baseline.simulatedScore(records.get(slot), records, game),
+                    ScoreKernel.scoreDelta(kernelGame, slot, ScoreFormula.SIMULATE), "slot " + slot);
+        }
+    }
+
+    // 가끔 인원이 모자라거나, 포지션이 겹쳐 맞라인 상대가 없거나, 골드/데스/CS/점수가 0인 게임
+    private static GameRecord randomGame(Random random, List<PlayerGameRecord> records) {
+        GameRecord game = GameRecord.builder()
+                .team1Won(random.nextBoolean())
+                .team1Kills(random.nextInt(50))
+                .team2Kills(random.nextInt(50))
+                .team1Gold(random.nextInt(3) == 0 ? 0 : 40_000 + random.nextInt(40_000))
+                .team2Gold(random.nextInt(3) == 0 ? 0 : 40_000 + random.nextInt(40_000))
+                .build();
+        int size = random.nextInt(8) == 0 ? 6 + random.nextInt(5) : 10;
+        for (int i = 0; i < size; i++) {
+            Player player = player(i + 1, random.nextInt(6) == 0 ? 0 : random.nextInt(2000),
+                    random.nextInt(5) == 0 ? null : random.nextInt(11) - 5);
+            String lane = random.nextInt(15) == 0 ? LANES[random.nextInt(5)] : LANES[i % 5];
+            records.add(PlayerGameRecord.builder()
+                    .gameRecord(game)
+                    .player(player)
+                    .teamNumber(i < 5 ? 1 : 2)
+                    .assignedPosition(lane)
+                    .kills(random.nextInt(15))
+                    .deaths(random.nextInt(4) == 0 ? 0 : random.nextInt(12))
+                    .assists(random.nextInt(20))
+                    .cs(random.nextInt(5) == 0 ? 0 : random.nextInt(350))
+                    .winLossStreakAtGame(random.nextInt(3) == 0 ? null : random.nextInt(9) - 4)
+                    .build());
+        }
+        Collections.shuffle(records, random);
+        return game;
+    }
+
+    private static Player player(long id, int score, Integer streak) {
+        return Player.builder()
+                .playerId(id)
+                .mainLane("TOP")
+                .subLane("MID")
+                .score(score)
+                .winLossStreak(streak)
+                .build();
+    }
+
+    // 커널 도입 전 GameRecordService의 계산식 (엔티티를 직접 읽는 원래 코드)
+    private static final class Baseline {
+
+        static void applyScores(GameRecord gameRecord, List<PlayerGameRecord> playerRecords) {
+            Map<Long, Player> playerMap = new HashMap<>();
+            for (PlayerGameRecord record : playerRecords) {
+                playerMap.put(record.getPlayer().getPlayerId(), record.getPlayer());
+            }
+            for (PlayerGameRecord record : playerRecords) {
+                Player player = playerMap.get(record.getPlayer().getPlayerId());
+                boolean isWinner = isWinner(record, gameRecord);
+                int total = isWinner ? 0 : -15;
+                double kda = kda(record);
+                PlayerGameRecord opponent = opponent(record, playerRecords);
+                double coef = laneCoef(record.getAssignedPosition());
+                if (isWinner) {
+                    total += (int) Math.round(kda * coef);
+                } else {
+                    total -= (int) Math.round(kda * coef);
+                }
+                total += teamTerms(record, gameRecord, isWinner);
+                if (opponent != null) {
+                    int cs = record.getCs();
+                    int csOpponent = opponent.getCs();
+                    int csCoef = (int) Math.round(((double) Math.max(cs, csOpponent) / Math.max(Math.min(cs, csOpponent), 1)) * 3);
+                    total += cs > csOpponent ? csCoef : -csCoef;
+
+                    int myScore = player.getScore();
+                    int oppScore = opponent.getPlayer().getScore();
+                    if (myScore < oppScore) {
+                        total += (int) Math.round(((double) oppScore / (myScore == 0 ? 1 : myScore)) * (isWinner ? 5 : 2));
+                    } else if (myScore > oppScore) {
+                        total -= (int) Math.round(((double) myScore / (oppScore == 0 ? 1 : oppScore)) * (isWinner ? 2 : 5));
+                    }
+                }
+                total = clamp(total, isWinner);
+
+                Integer currentStreak = player.getWinLossStreak();
+                if (currentStreak == null) currentStreak = 0;
+                record.setWinLossStreakAtGame(currentStreak);
+                total += streakBonus(currentStreak, isWinner);
+                player.setScore(Math.max(0, player.getScore() + total));
+                if (isWinner) {
+                    player.setWinLossStreak(currentStreak < 0 ? 1 : currentStreak + 1);
+                } else {
+                    player.setWinLossStreak(currentStreak > 0 ? -1 : currentStreak - 1);
+                }
+            }
+        }
+
+        static int simulatedScore(PlayerGameRecord record, List<PlayerGameRecord> playerRecords, GameRecord gameRecord) {
+            boolean isWinner = isWinner(record, gameRecord);
+            int total = isWinner ? 7 : -7;
+            double kda = kda(record);
+            PlayerGameRecord opponent = opponent(record, playerRecords);
+            double kdaOpponent = opponent != null ? kda(opponent) : 1.0;
+            double coef = laneCoef(record.getAssignedPosition());
+            if (isWinner) {
+                total += Math.round(kda * coef);
+            } else {
+                total -= Math.round((kdaOpponent / (kda == 0 ? 1 : kda)) * coef);
+            }
+            total += teamTerms(record, gameRecord, isWinner);
+            if (opponent != null) {
+                int cs = record.getCs();
+                int csOpponent = opponent.getCs();
+                int csCoef = (int) Math.round(((double) Math.max(cs, csOpponent) / Math.max(Math.min(cs, csOpponent), 1)) * 5);
+                total += cs > csOpponent ? csCoef : -csCoef;
+
+                int kdaCoef = (int) Math.round((Math.max(kda, kdaOpponent) / Math.max(Math.min(kda, kdaOpponent), 1)) * 5);
+                total += kda > kdaOpponent ? kdaCoef : -kdaCoef;
+
+                int myScore = record.getPlayer().getScore();
+                int oppScore = opponent.getPlayer().getScore();
+                double scoreCoef = (double) Math.max(myScore, oppScore) / Math.max(Math.min(myScore, oppScore), 1);
+                if (myScore < oppScore) {
+                    if (!isWinner) {
+                        total += Math.round(scoreCoef);
+                        total -= Math.round(scoreCoef * 3);
+                    } else {
+                        total += Math.round(scoreCoef * 3);
+                        total -= Math.round(scoreCoef * 5);
+                    }
+                }
+            }
+            total = clamp(total, isWinner);
+
+            Integer streak = record.getWinLossStreakAtGame();
+            if (streak == null) {
+                streak = record.getPlayer().getWinLossStreak() != null ? record.getPlayer().getWinLossStreak() : 0;
+            }
+            return total + streakBonus(streak, isWinner);
+        }
+
+        // 골드 차이 + 킬 차이
+        private static int teamTerms(PlayerGameRecord record, GameRecord gameRecord, boolean isWinner) {
+            int myTeamGold = record.getTeamNumber() == 1 ? gameRecord.getTeam1Gold() : gameRecord.getTeam2Gold();
+            int oppTeamGold = record.getTeamNumber() == 1 ? gameRecord.getTeam2Gold() : gameRecord.getTeam1Gold();
+            int goldDiff = (int) Math.round(((double) myTeamGold / (oppTeamGold == 0 ? 1 : oppTeamGold)) * 3);
+            int myTeamKills = record.getTeamNumber() == 1 ? gameRecord.getTeam1Kills() : gameRecord.getTeam2Kills();
+            int oppTeamKills = record.getTeamNumber() == 1 ? gameRecord.getTeam2Kills() : gameRecord.getTeam1Kills();
+            int killDiff = (int) Math.round((myTeamKills - oppTeamKills) * 0.5);
+            return isWinner ? goldDiff + killDiff : -goldDiff - killDiff;
+        }
+
+        private static boolean isWinner(PlayerGameRecord record, GameRecord gameRecord) {
+            return (record.getTeamNumber() == 1 && gameRecord.isTeam1Won())
+                    || (record.getTeamNumber() == 2 && !gameRecord.isTeam1Won());
+        }
+
+        private static double kda(PlayerGameRecord record) {
+            return record.getDeaths() == 0
+                    ? record.getKills() + record.getAssists()
+                    : (double) (record.getKills() + record.getAssists()) / record.getDeaths();
+        }
+
+        private static PlayerGameRecord opponent(PlayerGameRecord record, List<PlayerGameRecord> playerRecords) {
+            return playerRecords.stream()
+                    .filter(p -> p.getAssignedPosition().equals(record.getAssignedPosition())
+                            && p.getTeamNumber() != record.getTeamNumber())
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        private static int clamp(int total, boolean isWinner) {
+            return isWinner ? Math.max(10, Math.min(75, total)) : Math.max(-75, Math.min(-10, total));
+        }
+
+        private static int streakBonus(int streak, boolean isWinner) {
+            int futureStreak = isWinner ? (streak < 0 ? 1 : streak + 1) : (streak > 0 ? -1 : streak - 1);
+            if (isWinner) {
+                return futureStreak >= 2 ? futureStreak : 0;
+            }
+            return futureStreak <= -2 ? -futureStreak : 0;
+        }
+
+        private static double laneCoef(String position) {
+            return switch (position) {
+                case "TOP" -> 1.5;
+                case "JGL", "MID" -> 1.2;
+                case "SUP" -> 0.8;
+                default -> 1.0;
+            };
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.dto.response.TeamGenerationResponse;
+import com.example.teamdraftlol.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+// 상위 K개 힙 선택이 126개 조합 전체를 응답 지표로 정렬한 결과의 앞부분과 같은지 확인
+class TeamCombinationEngineTest {
+
+    private static final String[] LANES = {"TOP", "JGL", "MID", "ADC", "SUP"};
+    private static final int[] LIMITS = {1, 10, 126};
+
+    @Test
+    void rankCombinationsMatchesFullSort() {
+        Random random = new Random(17);
+        for (int round = 0; round < 300; round++) {
+            List<Player> roster = randomRoster(random);
+            for (LaneAssignmentMode mode : LaneAssignmentMode.values()) {
+                int[] expected = fullSort(new TeamCombinationEngine(roster, mode));
+                for (int limit : LIMITS) {
+                    int[] actual = new TeamCombinationEngine(roster, mode).rankCombinations(limit);
+                    assertArrayEquals(Arrays.copyOf(expected, limit), actual,
+                            "round " + round + ", " + mode + ", limit " + limit);
+                }
+            }
+        }
+    }
+
+    // 한 명을 교체한 엔진(재사용한 팀 평가 포함)의 순위가 새로 만든 엔진과 같은지, 새 로스터의 순서는 섞어서 인덱스가 바뀌게 한다
+    @Test
+    void substituteMatchesFreshEngine() {
+        Random random = new Random(19);
+        for (int round = 0; round < 500; round++) {
+            List<Player> roster = randomRoster(random);
+            List<Player> next = new ArrayList<>(roster);
+            int leaving = random.nextInt(TeamCombinationEngine.ROSTER_SIZE);
+            next.set(leaving, randomPlayer(random, TeamCombinationEngine.ROSTER_SIZE));
+            Collections.shuffle(next, random);
+
+            // 남는 플레이어 한 명의 포지션 고정 (가끔)
+            TeamConstraints constraints = TeamConstraints.NONE;
+            int locked = random.nextInt(TeamCombinationEngine.ROSTER_SIZE);
+            if (locked != leaving && random.nextBoolean()) {
+                constraints = TeamConstraints.of(null, null, Map.of(roster.get(locked).getPlayerId(), LANES[random.nextInt(5)]));
+            }
+            for (LaneAssignmentMode mode : LaneAssignmentMode.values()) {
+                TeamCombinationEngine previous = new TeamCombinationEngine(roster, mode, constraints);
+                previous.rankCombinations(126);
+                int[] expected = new TeamCombinationEngine(next, mode, constraints).rankCombinations(126);
+                int[] actual = previous.substitute(next, mode, constraints).rankCombinations(126);
+                assertArrayEquals(expected, actual, "round " + round + ", " + mode + ", " + constraints);
+            }
+        }
+    }
+
+    // 정렬 우선순위: 주 포지션 수 내림차순 > 낮은 점수 보너스 내림차순 > 점수 차이 오름차순 > 생성 순서
+    private static int[] fullSort(TeamCombinationEngine engine) {
+        int count = TeamCombinationEngine.CANONICAL_MASKS.length;
+        TeamGenerationResponse[] responses = new TeamGenerationResponse[count];
+        Integer[] ordinals = new Integer[count];
+        for (int ordinal = 0; ordinal < count; ordinal++) {
+            responses[ordinal] = engine.toResponse(TeamCombinationEngine.CANONICAL_MASKS[ordinal]);
+            ordinals[ordinal] = ordinal;
+        }
+        Arrays.sort(ordinals, Comparator
+                .comparingInt((Integer o) -> -responses[o].getMainPositionCount())
+                .thenComparingInt(o -> -responses[o].getMainPositionLowScoreBonus())
+                .thenComparingInt(o -> responses[o].getScoreDifference())
+                .thenComparingInt(o -> o));
+        return Arrays.stream(ordinals).mapToInt(o -> TeamCombinationEngine.CANONICAL_MASKS[o]).toArray();
+    }
+
+    // 같은 점수(동점 조합)와 주 포지션 쏠림이 자주 나오는 로스터
+    private static List<Player> randomRoster(Random random) {
+        List<Player> roster = new ArrayList<>();
+        for (int i = 0; i < TeamCombinationEngine.ROSTER_SIZE; i++) {
+            roster.add(randomPlayer(random, i));
+        }
+        return roster;
+    }
+
+    private static Player randomPlayer(Random random, int i) {
+        int main = random.nextInt(5);
+        int sub = (main + 1 + random.nextInt(4)) % 5;
+        return Player.builder()
+                .playerId((long) (i + 1))
+                .name("player" + i)
+                .mainLane(LANES[random.nextInt(3) == 0 ? 0 : main])
+                .subLane(LANES[sub])
+                .score(random.nextInt(3) == 0 ? 500 : 1 + random.nextInt(1000))
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.teamdraftlol.service;
+
+import com.example.teamdraftlol.dto.response.TeamGenerationResponse;
+import com.example.teamdraftlol.dto.response.TeamPlayerResponse;
+import com.example.teamdraftlol.dto.response.TeamResponse;
+import com.example.teamdraftlol.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TeamConstraintsTest {
+
+    private static final String[] LANES = {"TOP", "JGL", "MID", "ADC", "SUP"};
+
+    @Test
+    void rejectsInvalidRequestValues() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TeamConstraints.of(List.of(List.of(1L, 2L, 3L, 4L, 5L, 6L)), null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> TeamConstraints.of(null, List.of(List.of(1L, 1L)), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> TeamConstraints.of(null, List.of(List.of(1L, 2L, 3L)), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> TeamConstraints.of(null, null, Map.of(1L, "BOT")));
+    }
+
+    @Test
+    void rejectsUnsatisfiableConstraints() {
+        List<Player> roster = roster(new Random(1));
+        // 합쳐서 6명이 되는 같은 팀 그룹
+        assertRejected(roster, List.of(List.of(1L, 2L, 3L), List.of(3L, 4L, 5L, 6L)), List.of(), Map.of());
+        // 같은 팀이면서 다른 팀
+        assertRejected(roster, List.of(List.of(1L, 2L, 3L)), List.of(List.of(1L, 3L)), Map.of());
+        // 세 명이 서로 다른 팀이어야 하는 순환
+        assertRejected(roster, List.of(), List.of(List.of(1L, 2L), List.of(2L, 3L), List.of(1L, 3L)), Map.of());
+        // 한 포지션에 세 명 고정
+        assertRejected(roster, List.of(), List.of(), Map.of(1L, "MID", 2L, "MID", 3L, "MID"));
+        // 같은 팀으로 묶인 두 명을 같은 포지션에 고정
+        assertRejected(roster, List.of(List.of(1L, 2L)), List.of(), Map.of(1L, "TOP", 2L, "TOP"));
+        // 3 + 3 + 3 + 1명으로는 5 대 5를 만들 수 없음
+        assertRejected(roster, List.of(List.of(1L, 2L, 3L), List.of(4L, 5L, 6L), List.of(7L, 8L, 9L)), List.of(), Map.of());
+        // 로스터에 없는 플레이어
+        assertRejected(roster, List.of(List.of(1L, 99L)), List.of(), Map.of());
+    }
+
+    @Test
+    void normalizesRequestOrder() {
+        TeamConstraints a = TeamConstraints.of(List.of(List.of(3L, 1L, 2L), List.of(5L, 4L)), List.of(List.of(9L, 7L)), Map.of(2L, "SUP"));
+        TeamConstraints b = TeamConstraints.of(List.of(List.of(4L, 5L), List.of(1L, 2L, 3L, 3L)), List.of(List.of(7L, 9L)), Map.of(2L, "SUP"));
+        assertEquals(a, b);
+        assertEquals(a.fingerprint(), b.fingerprint());
+        assertTrue(TeamConstraints.of(List.of(List.of(1L)), null, null).isEmpty());
+    }
+
+    // 제약이 허용하는 마스크 집합을 정의대로 계산한 결과와 비교, 포지션 고정이 없으면 순위도 제약 없는 순위에서 걸러낸 것과 같아야 한다
+    @Test
+    void filterMatchesBruteForce() {
+        Random random = new Random(3);
+        for (int round = 0; round < 2_000; round++) {
+            List<Player> roster = roster(random);
+            List<Long> ids = new ArrayList<>();
+            for (int i = 1; i <= 10; i++) {
+                ids.add((long) i);
+            }
+            List<List<Long>> together = new ArrayList<>();
+            for (int k = random.nextInt(3); k > 0; k--) {
+                Collections.shuffle(ids, random);
+                together.add(new ArrayList<>(ids.subList(0, 2 + random.nextInt(2))));
+            }
+            List<List<Long>> apart = new ArrayList<>();
+            for (int k = random.nextInt(3); k > 0; k--) {
+                Collections.shuffle(ids, random);
+                apart.add(new ArrayList<>(ids.subList(0, 2)));
+            }
+            Map<Long, String> locks = new HashMap<>();
+            if (random.nextInt(3) == 0) {
+                for (int k = 1 + random.nextInt(3); k > 0; k--) {
+                    Collections.shuffle(ids, random);
+                    locks.put(ids.get(0), LANES[random.nextInt(5)]);
+                }
+            }
+            LaneAssignmentMode mode = random.nextBoolean() ? LaneAssignmentMode.OPTIMAL : LaneAssignmentMode.GREEDY;
+
+            Set<Integer> allowed = new HashSet<>();
+            for (int mask : TeamCombinationEngine.CANONICAL_MASKS) {
+                if (satisfies(mask, together, apart, locks)) {
+                    allowed.add(mask);
+                }
+            }
+            String message = "round " + round + ": " + together + " " + apart + " " + locks;
+            TeamConstraints constraints = TeamConstraints.of(together, apart, locks);
+            if (allowed.isEmpty()) {
+                assertThrows(IllegalArgumentException.class, () -> new TeamCombinationEngine(roster, mode, constraints), message);
+                continue;
+            }
+
+            int[] ranked = new TeamCombinationEngine(roster, mode, constraints).rankCombinations(126);
+            assertEquals(allowed.size(), ranked.length, message);
+            for (int mask : ranked) {
+                assertTrue(allowed.contains(mask), message);
+            }
+            if (locks.isEmpty()) {
+                int[] expected = new TeamCombinationEngine(roster, mode).rankCombinations(126);
+                assertArrayEquals(Arrays.stream(expected).filter(allowed::contains).toArray(), ranked, message);
+            } else {
+                TeamCombinationEngine engine = new TeamCombinationEngine(roster, mode, constraints);
+                engine.rankCombinations(126);
+                for (int mask : ranked) {
+                    TeamGenerationResponse response = engine.toResponse(mask);
+                    for (TeamResponse team : List.of(response.getTeam1(), response.getTeam2())) {
+                        for (TeamPlayerResponse player : team.getPlayers()) {
+                            String lock = locks.get(player.getPlayerId());
+                            assertFalse(lock != null && !lock.equals(player.getAssignedPosition()), message);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void assertRejected(List<Player> roster, List<List<Long>> together, List<List<Long>> apart, Map<Long, String> locks) {
+        TeamConstraints constraints = TeamConstraints.of(together, apart, locks);
+        for (LaneAssignmentMode mode : LaneAssignmentMode.values()) {
+            assertThrows(IllegalArgumentException.class, () -> new TeamCombinationEngine(roster, mode, constraints),
+                    together + " " + apart + " " + locks);
+        }
+    }
+
+    // 플레이어 ID 1~10은 로스터 인덱스 0~9
+    private static boolean satisfies(int mask, List<List<Long>> together, List<List<Long>> apart, Map<Long, String> locks) {
+        for (List<Long> group : together) {
+            int in = 0;
+            for (long id : group) {
+                in += inTeam(mask, id);
+            }
+            if (in != 0 && in != group.size()) {
+                return false;
+            }
+        }
+        for (List<Long> pair : apart) {
+            if (inTeam(mask, pair.get(0)) == inTeam(mask, pair.get(1))) {
+                return false;
+            }
+        }
+        for (int side = 0; side < 2; side++) {
+            Set<String> used = new HashSet<>();
+            for (Map.Entry<Long, String> lock : locks.entrySet()) {
+                if (inTeam(mask, lock.getKey()) == side && !used.add(lock.getValue())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int inTeam(int mask, long playerId) {
+        return (mask >> (playerId - 1)) & 1;
+    }
+
+    private static List<Player> roster(Random random) {
+        List<Player> roster = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            int main = random.nextInt(5);
+            int sub = (main + 1 + random.nextInt(4)) % 5;
+            roster.add(Player.builder()
+                    .playerId((long) i)
+                    .name("player" + i)
+                    .mainLane(LANES[main])
+                    .subLane(LANES[sub])
+                    .score(100 + random.nextInt(900))
+                    .build());
+        }
+        Collections.shuffle(roster, random);
+        return roster;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.teamdraftlol.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopKSelectorTest {
+
+    @Test
+    void drainsSameKeysAsFullSort() {
+        Random random = new Random(11);
+        for (int round = 0; round < 2_000; round++) {
+            int n = random.nextInt(200);
+            int capacity = 1 + random.nextInt(130);
+            // 같은 키가 자주 나오도록 범위를 좁힘, 같은 키끼리의 순서는 정하지 않으므로 꺼낸 값의 키 순서로 비교
+            long[] keys = new long[n];
+            TopKSelector selector = new TopKSelector(capacity);
+            for (int i = 0; i < n; i++) {
+                keys[i] = random.nextInt(round % 2 == 0 ? 50 : 1_000_000);
+                selector.offer(keys[i], i);
+            }
+            long[] drained = selector.drainBestFirst();
+
+            long[] sorted = keys.clone();
+            Arrays.sort(sorted);
+            long[] expected = new long[Math.min(n, capacity)];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = sorted[n - 1 - i];
+            }
+            long[] actual = Arrays.stream(drained).map(i -> keys[(int) i]).toArray();
+            assertArrayEquals(expected, actual, "round " + round);
+            assertEquals(Arrays.stream(drained).distinct().count(), drained.length, "round " + round);
+            assertEquals(0, selector.size());
+        }
+    }
+
+    @Test
+    void rankKeyOrdersByPriority() {
+        // 주 포지션 수 > 낮은 점수 보너스 > 점수 차이(작을수록) > 생성 순서(빠를수록)
+        assertTrue(TopKSelector.rankKey(10, 0, 5000, 125) > TopKSelector.rankKey(9, 50_000, 0, 0));
+        assertTrue(TopKSelector.rankKey(8, 101, 5000, 125) > TopKSelector.rankKey(8, 100, 0, 0));
+        assertTrue(TopKSelector.rankKey(8, 100, 3, 125) > TopKSelector.rankKey(8, 100, 4, 0));
+        assertTrue(TopKSelector.rankKey(8, 100, 3, 1) > TopKSelector.rankKey(8, 100, 3, 2));
+    }
+}
@@ -29,7 +29,7 @@ const Players = () => {
   const fetchPools = async () => {
     try {
       const token = localStorage.getItem("token");
-      const response = await axios.get(`${API_BASE_URL}/api/pools`, {
+      const response = await axios.get(`${API_BASE_URL}/api/pools/summary?top=0`, {
         headers: { Authorization: `Bearer ${token}` },
       });
       setPools(response.data);
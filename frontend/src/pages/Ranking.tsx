@@ -26,7 +26,7 @@ const Ranking = () => {
   const fetchPools = async () => {
     try {
       const token = localStorage.getItem("token");
-      const response = await axios.get(`${API_BASE_URL}/api/pools`, {
+      const response = await axios.get(`${API_BASE_URL}/api/pools/summary?top=0`, {
         headers: { Authorization: `Bearer ${token}` },
       });
       setPools(response.data);
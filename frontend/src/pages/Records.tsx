@@ -17,9 +17,18 @@ interface GameRecordSummary {
   createdAt: string;
 }
 
+interface GameRecordPage {
+  records: GameRecordSummary[];
+  nextCursor: string | null;
+}
+
+const PAGE_SIZE = 20;
+
 const Records = () => {
   const [gameRecords, setGameRecords] = useState<GameRecordSummary[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const navigate = useNavigate();
   const location = useLocation();
   const { isLoggedIn } = useAuth();
@@ -39,14 +48,24 @@ const Records = () => {
     }
   }, [location.state, navigate, location.pathname]);
 
-  const fetchGameRecords = async () => {
-    try {
-      const token = localStorage.getItem("token");
-      const response = await axios.get(`${API_BASE_URL}/api/game-records`, {
+  // 전적은 최신순으로 한 페이지씩 가져온다 (cursor가 없으면 첫 페이지)
+  const fetchPage = async (cursor: string | null) => {
+    const token = localStorage.getItem("token");
+    const response = await axios.get<GameRecordPage>(
+      `${API_BASE_URL}/api/game-records/page`,
+      {
         headers: { Authorization: `Bearer ${token}` },
-      });
+        params: { size: PAGE_SIZE, ...(cursor ? { cursor } : {}) },
+      }
+    );
+    return response.data;
+  };
 
-      setGameRecords(response.data);
+  const fetchGameRecords = async () => {
+    try {
+      const page = await fetchPage(null);
+      setGameRecords(page.records);
+      setNextCursor(page.nextCursor);
     } catch (error) {
       console.error("전적 목록 조회 실패:", error);
     } finally {
@@ -54,6 +73,20 @@ const Records = () => {
     }
   };
 
+  const fetchMoreGameRecords = async () => {
+    if (!nextCursor || loadingMore) return;
+    setLoadingMore(true);
+    try {
+      const page = await fetchPage(nextCursor);
+      setGameRecords((prev) => [...prev, ...page.records]);
+      setNextCursor(page.nextCursor);
+    } catch (error) {
+      console.error("전적 목록 조회 실패:", error);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const formatDate = (dateString: string) => {
     const date = new Date(dateString);
     return date.toLocaleDateString("ko-KR", {
@@ -176,6 +209,13 @@ const Records = () => {
                 </div>
               </div>
             ))}
+            {nextCursor && (
+              <div className="text-center pt-2">
+                <Button onClick={fetchMoreGameRecords} disabled={loadingMore}>
+                  {loadingMore ? "불러오는 중..." : "더 보기"}
+                </Button>
+              </div>
+            )}
           </div>
         )}
       </div>
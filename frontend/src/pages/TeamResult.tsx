@@ -37,6 +37,7 @@ interface TeamResultData {
   currentCombination: number;
   totalCombinations: number;
   availableCombinations: number[];
+  cursor?: string; // 서명된 리롤 커서
   poolId: number; // 추가된 필드
 }
 
@@ -225,7 +226,7 @@ const TeamResult = () => {
 
       const response = await axios.post(
         `${API_BASE_URL}/api/teams/reroll`,
-        { playerIds },
+        { playerIds, cursor: teamResult.cursor },
         {
           headers: { Authorization: `Bearer ${token}` },
           params: { combinationIndex: nextCombination },